@@ -0,0 +1,23 @@
+package co.com.pragma.config;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * With the {@code migrate} profile the application only applies the Flyway
+ * migrations (run during context refresh) and shuts down.
+ */
+@Configuration
+@Profile("migrate")
+public class MigrationConfig {
+
+    @Bean
+    public ApplicationRunner exitAfterMigration(ConfigurableApplicationContext context) {
+        return args -> System.exit(SpringApplication.exit(context));
+    }
+
+}
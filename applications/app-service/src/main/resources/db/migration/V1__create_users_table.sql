@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS users (
+    id                 BIGSERIAL PRIMARY KEY,
+    nombres            VARCHAR(100)     NOT NULL,
+    apellidos          VARCHAR(100)     NOT NULL,
+    fecha_nacimiento   DATE,
+    direccion          VARCHAR(255),
+    telefono           VARCHAR(20),
+    correo_electronico VARCHAR(150)     NOT NULL,
+    salario_base       DOUBLE PRECISION NOT NULL,
+    numero_documento   NUMERIC(20, 0)   NOT NULL,
+    role               VARCHAR(30)      NOT NULL DEFAULT 'USER',
+    password           VARCHAR(255)
+);
@@ -0,0 +1,11 @@
+-- Target of INSERT ... ON CONFLICT (correo_electronico) and of the login / exists lookups
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_correo_electronico
+    ON users (correo_electronico);
+
+-- Rejects the same address registered with a different case
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_correo_electronico_lower
+    ON users (lower(correo_electronico));
+
+-- Lookup by document number (GET /api/v1/usuarios/{documentNumber})
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_numero_documento
+    ON users (numero_documento);
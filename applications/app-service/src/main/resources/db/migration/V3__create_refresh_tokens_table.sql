@@ -0,0 +1,14 @@
+-- Opaque refresh tokens, stored only as their SHA-256 digest. Every login starts a family;
+-- each rotation marks the presented row as rotated and inserts its successor in the same family
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_hash BYTEA       PRIMARY KEY,
+    family_id  UUID        NOT NULL,
+    user_id    BIGINT      NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    expires_at TIMESTAMPTZ NOT NULL,
+    rotated_at TIMESTAMPTZ,
+    revoked_at TIMESTAMPTZ
+);
+
+-- Revoking a whole family when a rotated token is presented again
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_family_id
+    ON refresh_tokens (family_id);
@@ -0,0 +1,10 @@
+-- Revoked access tokens by jti. Rows are only useful until the token itself expires
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMPTZ,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Incremental catch-up on every node polls by revocation time
+CREATE INDEX IF NOT EXISTS ix_revoked_tokens_revoked_at
+    ON revoked_tokens (revoked_at);
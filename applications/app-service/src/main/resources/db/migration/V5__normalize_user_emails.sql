@@ -0,0 +1,12 @@
+-- Emails are stored in lower case so the plain unique index on correo_electronico is both
+-- the ON CONFLICT arbiter and the index used by every lookup. The lower() expression index
+-- could be neither, and a case-variant duplicate surfaced as an unhandled unique_violation.
+-- ux_users_correo_electronico_lower already guarantees no two rows differ only by case.
+UPDATE users
+SET correo_electronico = lower(correo_electronico)
+WHERE correo_electronico <> lower(correo_electronico);
+
+ALTER TABLE users
+    ADD CONSTRAINT ck_users_correo_electronico_lower CHECK (correo_electronico = lower(correo_electronico));
+
+DROP INDEX IF EXISTS ux_users_correo_electronico_lower;
@@ -0,0 +1,3 @@
+-- Logout revokes every refresh token family of the user
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_user_id
+    ON refresh_tokens (user_id);
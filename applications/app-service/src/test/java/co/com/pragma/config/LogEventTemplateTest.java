@@ -0,0 +1,37 @@
+package co.com.pragma.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.layout.template.json.JsonTemplateLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogEventTemplateTest {
+
+    private final JsonTemplateLayout layout = JsonTemplateLayout.newBuilder()
+            .setConfiguration(new DefaultConfiguration())
+            .setEventTemplateUri("classpath:log-event.json")
+            .build();
+
+    @Test
+    void shouldWriteStructuredEventWithSecretsRedacted() throws Exception {
+        Log4jLogEvent event = Log4jLogEvent.newBuilder()
+                .setLoggerName("co.com.pragma.r2dbc")
+                .setLevel(Level.INFO)
+                .setMessage(new SimpleMessage("UserParameters(id=1, password=$2a$10$abc, role=USER) "
+                        + "{\"token\": \"opaque\"} Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxIn0.c2ln"))
+                .build();
+
+        JsonNode json = new ObjectMapper().readTree(layout.toSerializable(event));
+
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("co.com.pragma.r2dbc", json.get("logger").asText());
+        assertEquals("UserParameters(id=1, password=***, role=USER) {\"token\": \"***\"} Bearer ***",
+                json.get("message").asText());
+    }
+}
@@ -41,6 +41,26 @@ public class UseCasesConfigTest {
             return Mockito.mock(co.com.pragma.model.user.user.gateways.UserGateway.class);
         }
 
+        @Bean
+        public co.com.pragma.model.user.user.gateways.UserImportGateway userImportGateway() {
+            return Mockito.mock(co.com.pragma.model.user.user.gateways.UserImportGateway.class);
+        }
+
+        @Bean
+        public co.com.pragma.model.user.user.gateways.RefreshTokenGateway refreshTokenGateway() {
+            return Mockito.mock(co.com.pragma.model.user.user.gateways.RefreshTokenGateway.class);
+        }
+
+        @Bean
+        public co.com.pragma.model.user.user.gateways.TokenRevocationGateway tokenRevocationGateway() {
+            return Mockito.mock(co.com.pragma.model.user.user.gateways.TokenRevocationGateway.class);
+        }
+
+        @Bean
+        public co.com.pragma.model.user.user.gateways.PasswordHasher passwordHasher() {
+            return Mockito.mock(co.com.pragma.model.user.user.gateways.PasswordHasher.class);
+        }
+
         @Bean
         public co.com.pragma.model.user.user.gateways.JwtProvider jwtProvider() {
             return Mockito.mock(co.com.pragma.model.user.user.gateways.JwtProvider.class);
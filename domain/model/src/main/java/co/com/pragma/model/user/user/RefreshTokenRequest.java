@@ -0,0 +1,8 @@
+package co.com.pragma.model.user.user;
+
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+  private String refreshToken;
+}
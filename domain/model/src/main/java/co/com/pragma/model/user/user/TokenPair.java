@@ -0,0 +1,6 @@
+package co.com.pragma.model.user.user;
+
+public record TokenPair(
+        String token,
+        String refreshToken) {
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.model.user.user;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TokenPrincipal(
+        String subject,
+        String tokenId,
+        List<String> roles,
+        Instant expiresAt) {
+
+  public TokenPrincipal {
+    roles = roles != null ? List.copyOf(roles) : List.of();
+  }
+}
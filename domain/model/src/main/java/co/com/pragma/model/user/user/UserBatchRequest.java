@@ -0,0 +1,12 @@
+package co.com.pragma.model.user.user;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class UserBatchRequest {
+  private List<BigDecimal> documentNumbers;
+  private List<String> correosElectronicos;
+}
@@ -0,0 +1,26 @@
+package co.com.pragma.model.user.user;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserCreationResult {
+
+  private static final UserCreationResult ALREADY_EXISTS = new UserCreationResult(null);
+
+  private final UserParameters user;
+
+  public static UserCreationResult created(UserParameters user) {
+    return new UserCreationResult(user);
+  }
+
+  public static UserCreationResult alreadyExists() {
+    return ALREADY_EXISTS;
+  }
+
+  public boolean isCreated() {
+    return user != null;
+  }
+}
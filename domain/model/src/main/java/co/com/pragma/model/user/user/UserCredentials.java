@@ -0,0 +1,16 @@
+package co.com.pragma.model.user.user;
+
+import java.math.BigDecimal;
+
+public record UserCredentials(
+        Long id,
+        String correoElectronico,
+        String password,
+        String role,
+        BigDecimal salarioBase) {
+
+  @Override
+  public String toString() {
+    return "UserCredentials[id=" + id + ", role=" + role + "]";
+  }
+}
@@ -0,0 +1,7 @@
+package co.com.pragma.model.user.user;
+
+public record UserImportError(
+        long lineNumber,
+        String code,
+        String message) {
+}
@@ -0,0 +1,11 @@
+package co.com.pragma.model.user.user;
+
+import java.util.List;
+
+public record UserImportReport(
+        long totalRows,
+        long importedRows,
+        long rejectedRows,
+        List<UserImportError> errors,
+        boolean errorsTruncated) {
+}
@@ -0,0 +1,19 @@
+package co.com.pragma.model.user.user;
+
+public record UserImportRow(
+        long lineNumber,
+        UserParameters user,
+        String parseError) {
+
+  public static UserImportRow valid(long lineNumber, UserParameters user) {
+    return new UserImportRow(lineNumber, user, null);
+  }
+
+  public static UserImportRow malformed(long lineNumber, String parseError) {
+    return new UserImportRow(lineNumber, null, parseError);
+  }
+
+  public boolean isMalformed() {
+    return parseError != null;
+  }
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.model.user.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserPage {
+  private List<UserParameters> items;
+  private Long nextCursor;
+}
@@ -21,5 +21,6 @@ public class UserParameters {
   private BigDecimal salarioBase;
   private BigDecimal numeroDocumento;
   private String role;
+  @ToString.Exclude
   private String password;
 }
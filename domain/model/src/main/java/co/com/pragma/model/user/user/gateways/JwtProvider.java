@@ -1,13 +1,17 @@
 package co.com.pragma.model.user.user.gateways;
 
-import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.UserCredentials;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface JwtProvider {
-  String generateToken(UserParameters userParameters, Map<String, Object> claims);
+  String generateToken(UserCredentials credentials, Map<String, Object> claims);
   boolean validateToken(String token);
+  Optional<TokenPrincipal> parseToken(String token);
   String getUserIdFromToken(String token);
   List<String> getRoleFromToken(String token);
+  List<Map<String, Object>> getPublicJwks();
 }
@@ -0,0 +1,14 @@
+package co.com.pragma.model.user.user.gateways;
+
+import reactor.core.publisher.Mono;
+
+public interface PasswordHasher {
+  Mono<String> hash(String rawPassword);
+  Mono<Boolean> matches(String rawPassword, String storedPassword);
+
+  /**
+   * True when the stored value was produced with other parameters (or is not a
+   * hash at all) and should be replaced after the next successful login.
+   */
+  boolean needsRehash(String storedPassword);
+}
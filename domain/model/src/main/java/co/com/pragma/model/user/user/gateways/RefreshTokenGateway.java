@@ -0,0 +1,23 @@
+package co.com.pragma.model.user.user.gateways;
+
+import co.com.pragma.model.user.user.RefreshedSession;
+import reactor.core.publisher.Mono;
+
+public interface RefreshTokenGateway {
+  /**
+   * Starts a new token family for the user and returns the opaque refresh token.
+   */
+  Mono<String> issue(Long userId);
+
+  /**
+   * Consumes the refresh token and returns the user's current credentials with its
+   * replacement. Completes empty when the token is unknown, expired or revoked; presenting
+   * an already rotated token revokes its whole family.
+   */
+  Mono<RefreshedSession> rotate(String refreshToken);
+
+  /**
+   * Revokes every token family of the user, so none of their refresh tokens can be rotated again.
+   */
+  Mono<Void> revokeAll(Long userId);
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.model.user.user.gateways;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface TokenRevocationGateway {
+  Mono<Void> revoke(String tokenId, Instant expiresAt);
+
+  /**
+   * In-memory check, safe to call on the request path. The expiry locates the
+   * bucket the token id was stored in.
+   */
+  boolean isRevoked(String tokenId, Instant expiresAt);
+}
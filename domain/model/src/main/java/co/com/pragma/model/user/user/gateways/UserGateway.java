@@ -1,11 +1,25 @@
 package co.com.pragma.model.user.user.gateways;
 
+import co.com.pragma.model.user.user.UserCreationResult;
+import co.com.pragma.model.user.user.UserCredentials;
 import co.com.pragma.model.user.user.UserParameters;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
 public interface UserGateway {
   Mono<UserParameters> createUser(UserParameters userParameters);
+  Mono<UserCreationResult> createUserIfAbsent(UserParameters userParameters);
   Mono<Boolean> existsByCorreoElectronico(String email);
-  Mono<UserParameters> findByDocumentNumber(String documentNumber);
+  Mono<UserParameters> findByDocumentNumber(BigDecimal documentNumber);
+  Mono<UserParameters> findProjectionByDocumentNumber(BigDecimal documentNumber, Set<String> fields);
   Mono<UserParameters> findByCorreoElectronico(String email);
+  Mono<UserCredentials> findCredentialsByCorreoElectronico(String email);
+  Mono<Void> updatePassword(Long userId, String encodedPassword);
+  Flux<UserParameters> findPageAfterId(long afterId, int limit);
+  Flux<UserParameters> streamAfterId(long afterId);
+  Flux<UserParameters> findAllByDocumentNumbersOrEmails(List<BigDecimal> documentNumbers, List<String> emails);
 }
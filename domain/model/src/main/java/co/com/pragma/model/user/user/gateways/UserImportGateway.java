@@ -0,0 +1,14 @@
+package co.com.pragma.model.user.user.gateways;
+
+import co.com.pragma.model.user.user.UserParameters;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface UserImportGateway {
+  /**
+   * Bulk-loads the chunk skipping rows that collide with an existing user and
+   * emits the email of every row actually inserted.
+   */
+  Flux<String> copyUsers(List<UserParameters> users);
+}
@@ -1,8 +1,13 @@
 package co.com.pragma.usecase.auth;
 
+import co.com.pragma.model.user.user.TokenPair;
+import co.com.pragma.model.user.user.UserCredentials;
 import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.PasswordHasher;
+import co.com.pragma.model.user.user.gateways.RefreshTokenGateway;
 import co.com.pragma.model.user.user.gateways.UserGateway;
 import co.com.pragma.usecase.utils.Constants;
+import co.com.pragma.usecase.utils.Emails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import reactor.core.publisher.Mono;
@@ -16,20 +21,55 @@ public class LoginServiceUseCase {
 
   private final UserGateway userGateway;
   private final JwtProvider jwtProvider;
+  private final RefreshTokenGateway refreshTokenGateway;
+  private final PasswordHasher passwordHasher;
 
-  public Mono<String> login(String correoElectronico, String password) {
-    return userGateway.findByCorreoElectronico(correoElectronico)
+  public Mono<TokenPair> login(String correoElectronico, String password) {
+    return userGateway.findCredentialsByCorreoElectronico(Emails.normalize(correoElectronico))
             .switchIfEmpty(Mono.error(new RuntimeException(Constants.USUARIO_NO_ENCONTRADO)))
-            .flatMap(user -> {
-              if (!user.getPassword().equals(password)) {
-                return Mono.error(new RuntimeException(Constants.CONTRASENA_INCORRECTA));
-              }
+            .flatMap(credentials -> passwordHasher.matches(password, credentials.password())
+                    .flatMap(matches -> {
+                      if (!Boolean.TRUE.equals(matches)) {
+                        return Mono.error(new RuntimeException(Constants.CONTRASENA_INCORRECTA));
+                      }
+                      if (credentials.id() == null) {
+                        return Mono.error(new IllegalStateException(Constants.USUARIO_SIN_IDENTIFICADOR));
+                      }
 
-              Map<String, Object> claims = new HashMap<>();
-              claims.put(Constants.CLAIM_ROLES, user.getRole());
+                      String token = generateAccessToken(credentials);
+                      return rehashIfNeeded(credentials, password)
+                              .then(refreshTokenGateway.issue(credentials.id()))
+                              .doOnNext(refreshToken -> log.fine(() -> Constants.LOG_REFRESH_FAMILY_STARTED + credentials.id()))
+                              .map(refreshToken -> new TokenPair(token, refreshToken));
+                    }));
+  }
 
-              String userId = user.getId().toString();
-              return Mono.just(jwtProvider.generateToken(user, claims));
+  // A failed upgrade must not fail the login; it is retried on the next one
+  private Mono<Void> rehashIfNeeded(UserCredentials credentials, String password) {
+    if (!passwordHasher.needsRehash(credentials.password())) {
+      return Mono.empty();
+    }
+    return passwordHasher.hash(password)
+            .flatMap(hash -> userGateway.updatePassword(credentials.id(), hash))
+            .doOnSuccess(ignored -> log.info(Constants.LOG_PASSWORD_REHASHED + credentials.id()))
+            .onErrorResume(error -> {
+              log.warning(Constants.LOG_PASSWORD_REHASH_FAILED + error.getMessage());
+              return Mono.empty();
             });
   }
+
+  public Mono<TokenPair> refresh(String refreshToken) {
+    if (refreshToken == null || refreshToken.isBlank()) {
+      return Mono.error(new RuntimeException(Constants.REFRESH_TOKEN_INVALIDO));
+    }
+    return refreshTokenGateway.rotate(refreshToken)
+            .switchIfEmpty(Mono.error(new RuntimeException(Constants.REFRESH_TOKEN_INVALIDO)))
+            .map(session -> new TokenPair(generateAccessToken(session.credentials()), session.refreshToken()));
+  }
+
+  private String generateAccessToken(UserCredentials credentials) {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(Constants.CLAIM_ROLES, credentials.role());
+    return jwtProvider.generateToken(credentials, claims);
+  }
 }
@@ -0,0 +1,27 @@
+package co.com.pragma.usecase.auth;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.gateways.RefreshTokenGateway;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
+import co.com.pragma.usecase.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import reactor.core.publisher.Mono;
+
+@Log
+@RequiredArgsConstructor
+public class TokenRevocationUseCase {
+
+  private final TokenRevocationGateway tokenRevocationGateway;
+  private final RefreshTokenGateway refreshTokenGateway;
+
+  public Mono<Void> revoke(TokenPrincipal principal) {
+    if (principal == null || principal.tokenId() == null) {
+      return Mono.error(new RuntimeException(Constants.TOKEN_SIN_IDENTIFICADOR));
+    }
+    log.info(Constants.LOG_REVOKING_TOKEN + principal.subject());
+    // Sin revocar los refresh tokens, el cliente podría obtener un access token nuevo tras cerrar sesión
+    return tokenRevocationGateway.revoke(principal.tokenId(), principal.expiresAt())
+            .then(Mono.defer(() -> refreshTokenGateway.revokeAll(Long.valueOf(principal.subject()))));
+  }
+}
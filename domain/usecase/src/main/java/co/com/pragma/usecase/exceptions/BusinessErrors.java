@@ -0,0 +1,29 @@
+package co.com.pragma.usecase.exceptions;
+
+import co.com.pragma.usecase.utils.Constants;
+
+/**
+ * Shared instances of the business errors raised on every request path. They are
+ * stackless and their {@link ErrorResponse} is immutable, so reusing them is safe.
+ */
+public final class BusinessErrors {
+
+  public static final BusinessException USER_NOT_FOUND = BusinessException.stackless(
+          ExceptionType.NOT_FOUND,
+          new ErrorResponse(Constants.USER_NOT_FOUND_CODE, Constants.USER_NOT_FOUND_MESSAGE, 404));
+
+  public static final BusinessException USER_EXISTS = BusinessException.stackless(
+          ExceptionType.ALREADY_EXISTS,
+          new ErrorResponse(Constants.USER_EXISTS_CODE, Constants.ERROR_USUARIO_EXISTENTE, Constants.CONFLICT_STATUS));
+
+  public static final BusinessException MISSING_FIELDS = BusinessException.stackless(
+          ExceptionType.BAD_REQUEST,
+          new ErrorResponse(Constants.MISSING_FIELDS_CODE, Constants.ERROR_ELEMENTOS_NECESARIOS, Constants.BAD_REQUEST_STATUS));
+
+  public static final BusinessException INVALID_SALARY = BusinessException.stackless(
+          ExceptionType.BAD_REQUEST,
+          new ErrorResponse(Constants.INVALID_SALARY_CODE, Constants.ERROR_SALARIO_INVALIDO, Constants.BAD_REQUEST_STATUS));
+
+  private BusinessErrors() {
+  }
+}
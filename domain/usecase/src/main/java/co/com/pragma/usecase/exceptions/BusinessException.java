@@ -12,4 +12,18 @@ public class BusinessException extends RuntimeException {
     this.type = type;
     this.errorResponse = errorResponse;
   }
-}
\ No newline at end of file
+
+  private BusinessException(ExceptionType type, ErrorResponse errorResponse, boolean writableStackTrace) {
+    super(errorResponse.getMessage(), null, false, writableStackTrace);
+    this.type = type;
+    this.errorResponse = errorResponse;
+  }
+
+  /**
+   * For expected outcomes (not found, already exists, invalid input): no stack trace is
+   * captured and suppression is disabled, so one instance can be shared by every request.
+   */
+  public static BusinessException stackless(ExceptionType type, ErrorResponse errorResponse) {
+    return new BusinessException(type, errorResponse, false);
+  }
+}
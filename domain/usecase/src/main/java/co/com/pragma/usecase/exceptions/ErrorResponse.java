@@ -1,12 +1,10 @@
 package co.com.pragma.usecase.exceptions;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Value;
 
-@Data
-@AllArgsConstructor
+@Value
 public class ErrorResponse {
-  private String code;
-  private String message;
-  private int status;
-}
\ No newline at end of file
+  String code;
+  String message;
+  int status;
+}
@@ -0,0 +1,96 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.user.UserImportError;
+import co.com.pragma.model.user.user.UserImportReport;
+import co.com.pragma.model.user.user.UserImportRow;
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.gateways.UserImportGateway;
+import co.com.pragma.usecase.exceptions.BusinessException;
+import co.com.pragma.usecase.utils.Constants;
+import co.com.pragma.usecase.utils.Emails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Log
+@RequiredArgsConstructor
+public class UserImportUseCase {
+  private final UserImportGateway userImportGateway;
+
+  public Mono<UserImportReport> importUsers(Flux<UserImportRow> rows) {
+    log.info(Constants.LOG_IMPORTING_USERS);
+    return Mono.defer(() -> {
+      ImportProgress progress = new ImportProgress();
+      return rows.filter(progress::accept)
+              .buffer(Constants.IMPORT_CHUNK_SIZE)
+              .concatMap(chunk -> copyChunk(chunk, progress), 1)
+              .then(Mono.fromSupplier(progress::toReport))
+              .doOnNext(report -> log.info(Constants.LOG_IMPORT_FINISHED + report.importedRows()));
+    });
+  }
+
+  private Mono<Void> copyChunk(List<UserImportRow> chunk, ImportProgress progress) {
+    List<UserParameters> users = chunk.stream().map(UserImportRow::user).toList();
+    return userImportGateway.copyUsers(users)
+            .collect(Collectors.toCollection(HashSet::new))
+            .doOnNext(inserted -> progress.recordCopied(chunk, inserted))
+            .onErrorResume(error -> {
+              log.severe(Constants.LOG_IMPORT_CHUNK_FAILED + error.getMessage());
+              chunk.forEach(row -> progress.reject(row.lineNumber(), Constants.IMPORT_FAILED_CODE,
+                      Constants.ERROR_IMPORTACION_BLOQUE));
+              return Mono.empty();
+            })
+            .then();
+  }
+
+  private static final class ImportProgress {
+    private final List<UserImportError> errors = new ArrayList<>();
+    private long total;
+    private long imported;
+    private long rejected;
+
+    synchronized boolean accept(UserImportRow row) {
+      total++;
+      if (row.isMalformed()) {
+        reject(row.lineNumber(), Constants.INVALID_ROW_CODE, row.parseError());
+        return false;
+      }
+      row.user().setCorreoElectronico(Emails.normalize(row.user().getCorreoElectronico()));
+      try {
+        UserUseCase.validateUserParameters(row.user());
+        return true;
+      } catch (BusinessException e) {
+        reject(row.lineNumber(), e.getErrorResponse().getCode(), e.getErrorResponse().getMessage());
+        return false;
+      }
+    }
+
+    synchronized void recordCopied(List<UserImportRow> chunk, Set<String> insertedEmails) {
+      for (UserImportRow row : chunk) {
+        if (insertedEmails.remove(row.user().getCorreoElectronico())) {
+          imported++;
+        } else {
+          reject(row.lineNumber(), Constants.USER_EXISTS_CODE, Constants.ERROR_USUARIO_DUPLICADO);
+        }
+      }
+    }
+
+    synchronized void reject(long lineNumber, String code, String message) {
+      rejected++;
+      if (errors.size() < Constants.MAX_REPORTED_IMPORT_ERRORS) {
+        errors.add(new UserImportError(lineNumber, code, message));
+      }
+    }
+
+    synchronized UserImportReport toReport() {
+      return new UserImportReport(total, imported, rejected, List.copyOf(errors), rejected > errors.size());
+    }
+  }
+}
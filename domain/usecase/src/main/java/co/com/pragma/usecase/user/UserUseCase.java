@@ -1,26 +1,35 @@
 package co.com.pragma.usecase.user;
 
+import co.com.pragma.model.user.user.UserPage;
 import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.gateways.PasswordHasher;
 import co.com.pragma.model.user.user.gateways.UserGateway;
+import co.com.pragma.usecase.exceptions.BusinessErrors;
 import co.com.pragma.usecase.exceptions.BusinessException;
-import co.com.pragma.usecase.exceptions.ErrorResponse;
-import co.com.pragma.usecase.exceptions.ExceptionType;
 import co.com.pragma.usecase.utils.Constants;
+import co.com.pragma.usecase.utils.Emails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 @Log
 @RequiredArgsConstructor
 public class UserUseCase {
   private final UserGateway userGateway;
+  private final PasswordHasher passwordHasher;
 
   public Mono<UserParameters> createUser(UserParameters userParameters) {
-    log.info(Constants.LOG_CREATING_USER);
+    log.fine(Constants.LOG_CREATING_USER);
 
     return validateAndPrepareUser(userParameters)
-            .flatMap(this::checkEmailAvailability)
-            .flatMap(this::persistUser)
+            .flatMap(this::hashPassword)
+            .flatMap(this::persistUserIfAbsent)
             .onErrorMap(this::mapCreationError)
             .doOnError(error -> log.severe(Constants.LOG_ERROR_CREATING_USER + error.getMessage()));
   }
@@ -29,30 +38,32 @@ public class UserUseCase {
   private Mono<UserParameters> validateAndPrepareUser(UserParameters userParameters) {
     try {
       validateUserParameters(userParameters);
-      log.info(Constants.LOG_USER_PARAMETERS_VALIDATED);
-      return Mono.just(userParameters);
+      log.fine(Constants.LOG_USER_PARAMETERS_VALIDATED);
+      return Mono.just(userParameters.toBuilder()
+              .correoElectronico(Emails.normalize(userParameters.getCorreoElectronico()))
+              .build());
     } catch (BusinessException e) {
       return Mono.error(e);
     }
   }
 
-  private Mono<UserParameters> checkEmailAvailability(UserParameters userParameters) {
-    return userGateway.existsByCorreoElectronico(userParameters.getCorreoElectronico())
-            .flatMap(exists -> {
-              if (exists) {
-                log.severe(Constants.LOG_EMAIL_EXISTS + userParameters.getCorreoElectronico());
-                return Mono.error(new BusinessException(
-                        ExceptionType.ALREADY_EXISTS,
-                        new ErrorResponse(Constants.USER_EXISTS_CODE, Constants.ERROR_USUARIO_EXISTENTE, 409)
-                ));
-              }
-              log.info(Constants.LOG_EMAIL_AVAILABLE);
-              return Mono.just(userParameters);
-            });
+  private Mono<UserParameters> hashPassword(UserParameters userParameters) {
+    if (userParameters.getPassword() == null || userParameters.getPassword().isEmpty()) {
+      return Mono.just(userParameters);
+    }
+    return passwordHasher.hash(userParameters.getPassword())
+            .map(hash -> userParameters.toBuilder().password(hash).build());
   }
 
-  private Mono<UserParameters> persistUser(UserParameters userParameters) {
-    return userGateway.createUser(userParameters);
+  private Mono<UserParameters> persistUserIfAbsent(UserParameters userParameters) {
+    return userGateway.createUserIfAbsent(userParameters)
+            .flatMap(result -> {
+              if (!result.isCreated()) {
+                log.fine(() -> Constants.LOG_EMAIL_EXISTS + userParameters.getCorreoElectronico());
+                return Mono.error(BusinessErrors.USER_EXISTS);
+              }
+              return Mono.just(result.getUser());
+            });
   }
 
   private Throwable mapCreationError(Throwable throwable) {
@@ -60,20 +71,17 @@ public class UserUseCase {
 
     if (throwable.getMessage() != null &&
             throwable.getMessage().contains(Constants.LOG_EMAIL_EXISTS)) {
-      return new BusinessException(
-              ExceptionType.ALREADY_EXISTS,
-              new ErrorResponse(Constants.USER_EXISTS_CODE, Constants.ERROR_USUARIO_EXISTENTE, 409)
-      );
+      return BusinessErrors.USER_EXISTS;
     }
     return throwable;
   }
 
-  private void validateUserParameters(UserParameters userParameters) {
+  static void validateUserParameters(UserParameters userParameters) {
     validateRequiredFields(userParameters);
     validateSalaryRange(userParameters);
   }
 
-  private void validateRequiredFields(UserParameters userParameters) {
+  private static void validateRequiredFields(UserParameters userParameters) {
     boolean anyNullOrEmpty = java.util.stream.Stream.of(
             userParameters.getNombres(),
             userParameters.getApellidos(),
@@ -83,32 +91,76 @@ public class UserUseCase {
     ).anyMatch(value -> value == null || value.isEmpty());
 
     if (anyNullOrEmpty || userParameters.getFechaNacimiento() == null || userParameters.getSalarioBase() == null) {
-      throw new BusinessException(
-              ExceptionType.BAD_REQUEST,
-              new ErrorResponse(Constants.MISSING_FIELDS_CODE, Constants.ERROR_ELEMENTOS_NECESARIOS, 400)
-      );
+      throw BusinessErrors.MISSING_FIELDS;
     }
   }
 
-  private void validateSalaryRange(UserParameters userParameters) {
+  private static void validateSalaryRange(UserParameters userParameters) {
     if (userParameters.getSalarioBase().compareTo(Constants.SALARIO_MINIMO) < 0 ||
             userParameters.getSalarioBase().compareTo(Constants.SALARIO_MAXIMO) > 0) {
-      throw new BusinessException(
-              ExceptionType.BAD_REQUEST,
-              new ErrorResponse(Constants.INVALID_SALARY_CODE, Constants.ERROR_SALARIO_INVALIDO, 400)
-      );
+      throw BusinessErrors.INVALID_SALARY;
+    }
+  }
+
+  public Mono<UserParameters> findByDocumentNumber(BigDecimal documentNumber) {
+    log.fine(() -> Constants.LOG_FINDING_USER_BY_DOCUMENT + documentNumber);
+    return requireFound(userGateway.findByDocumentNumber(documentNumber), documentNumber);
+  }
+
+  /**
+   * Loads only the given properties of {@link UserParameters}; an empty set loads the
+   * whole user through the regular (cached) lookup.
+   */
+  public Mono<UserParameters> findByDocumentNumber(BigDecimal documentNumber, Set<String> fields) {
+    if (fields == null || fields.isEmpty()) {
+      return findByDocumentNumber(documentNumber);
     }
+    log.fine(() -> Constants.LOG_FINDING_USER_BY_DOCUMENT + documentNumber);
+    return requireFound(userGateway.findProjectionByDocumentNumber(documentNumber, fields), documentNumber);
   }
 
-  public Mono<UserParameters> findByDocumentNumber(String documentNumber) {
-    log.info(Constants.LOG_FINDING_USER_BY_DOCUMENT + documentNumber);
-    return userGateway.findByDocumentNumber(documentNumber)
-            .switchIfEmpty(Mono.error(new BusinessException(
-                    ExceptionType.NOT_FOUND,
-                    new ErrorResponse(Constants.USER_NOT_FOUND_CODE, Constants.USER_NOT_FOUND_MESSAGE, 404)
-            )))
-            .doOnSuccess(user -> log.info(Constants.LOG_USER_FOUND_BY_DOCUMENT + documentNumber))
-            .doOnError(error -> log.severe(Constants.LOG_ERROR_FINDING_USER_BY_DOCUMENT + error.getMessage()));
+  private Mono<UserParameters> requireFound(Mono<UserParameters> lookup, BigDecimal documentNumber) {
+    return lookup
+            .switchIfEmpty(Mono.error(BusinessErrors.USER_NOT_FOUND))
+            .doOnSuccess(user -> log.fine(() -> Constants.LOG_USER_FOUND_BY_DOCUMENT + documentNumber))
+            .doOnError(error -> error != BusinessErrors.USER_NOT_FOUND,
+                    error -> log.severe(Constants.LOG_ERROR_FINDING_USER_BY_DOCUMENT + error.getMessage()));
+  }
+
+  public Mono<UserPage> listUsers(long afterId, int pageSize) {
+    log.fine(() -> Constants.LOG_LISTING_USERS + afterId);
+    return userGateway.findPageAfterId(afterId, pageSize)
+            .collectList()
+            .map(users -> new UserPage(users, nextCursor(users, pageSize)));
+  }
+
+  public Flux<UserParameters> streamUsers(long afterId) {
+    log.fine(() -> Constants.LOG_STREAMING_USERS + afterId);
+    return userGateway.streamAfterId(afterId);
+  }
+
+  public Flux<UserParameters> findUsersInBatch(List<BigDecimal> documentNumbers, List<String> emails) {
+    List<BigDecimal> distinctDocuments = distinctNonNull(documentNumbers);
+    List<String> distinctEmails = distinctNonNull(emails == null ? null : emails.stream().map(Emails::normalize).toList());
+    if (distinctDocuments.isEmpty() && distinctEmails.isEmpty()) {
+      return Flux.empty();
+    }
+    log.fine(() -> Constants.LOG_BATCH_LOOKUP + (distinctDocuments.size() + distinctEmails.size()));
+    return userGateway.findAllByDocumentNumbersOrEmails(distinctDocuments, distinctEmails);
+  }
+
+  private static <T> List<T> distinctNonNull(List<T> values) {
+    if (values == null) {
+      return List.of();
+    }
+    return values.stream().filter(Objects::nonNull).distinct().toList();
+  }
+
+  private Long nextCursor(List<UserParameters> users, int pageSize) {
+    if (users.size() < pageSize) {
+      return null;
+    }
+    return users.get(users.size() - 1).getId();
   }
 
-}
\ No newline at end of file
+}
@@ -30,7 +30,14 @@ public class Constants {
 
   public static final String USUARIO_NO_ENCONTRADO = "Usuario no encontrado";
   public static final String CONTRASENA_INCORRECTA = "Contraseña incorrecta";
+  public static final String USUARIO_SIN_IDENTIFICADOR = "El usuario no tiene identificador";
   public static final String CLAIM_ROLES = "roles";
+  public static final String REFRESH_TOKEN_INVALIDO = "Refresh token inválido o expirado";
+  public static final String TOKEN_SIN_IDENTIFICADOR = "El token no tiene identificador (jti) y no puede revocarse";
+  public static final String LOG_REVOKING_TOKEN = "Revocando token del usuario: ";
+  public static final String LOG_PASSWORD_REHASHED = "Contraseña re-hasheada con los parámetros actuales para el usuario: ";
+  public static final String LOG_PASSWORD_REHASH_FAILED = "No fue posible actualizar el hash de la contraseña: ";
+  public static final String LOG_REFRESH_FAMILY_STARTED = "Sesión iniciada con refresh token para el usuario: ";
 
   public static final String LOG_FINDING_USER_BY_DOCUMENT = "Buscando usuario por número de documento: ";
   public static final String LOG_USER_FOUND_BY_DOCUMENT = "Usuario encontrado por número de documento: ";
@@ -38,4 +45,18 @@ public class Constants {
   public static final String USER_NOT_FOUND_CODE = "USER_NOT_FOUND";
   public static final String USER_NOT_FOUND_MESSAGE = "Usuario no encontrado";
 
+  public static final String LOG_LISTING_USERS = "Listando usuarios a partir del id: ";
+  public static final String LOG_BATCH_LOOKUP = "Buscando usuarios en lote, claves solicitadas: ";
+  public static final String LOG_STREAMING_USERS = "Transmitiendo usuarios a partir del id: ";
+
+  public static final int IMPORT_CHUNK_SIZE = 1000;
+  public static final int MAX_REPORTED_IMPORT_ERRORS = 1000;
+  public static final String INVALID_ROW_CODE = "INVALID_ROW";
+  public static final String IMPORT_FAILED_CODE = "IMPORT_FAILED";
+  public static final String ERROR_USUARIO_DUPLICADO = "El correo electrónico o el número de documento ya está registrado";
+  public static final String ERROR_IMPORTACION_BLOQUE = "No fue posible importar el bloque que contiene la fila";
+  public static final String LOG_IMPORTING_USERS = "Iniciando importación masiva de usuarios";
+  public static final String LOG_IMPORT_FINISHED = "Importación finalizada, filas importadas: ";
+  public static final String LOG_IMPORT_CHUNK_FAILED = "Falló la importación de un bloque de usuarios: ";
+
 }
@@ -0,0 +1,17 @@
+package co.com.pragma.usecase.utils;
+
+import java.util.Locale;
+
+/**
+ * Emails are stored and looked up in lower case, so every query and the
+ * ON CONFLICT (correo_electronico) arbiter compare the same form.
+ */
+public final class Emails {
+
+  private Emails() {
+  }
+
+  public static String normalize(String email) {
+    return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+  }
+}
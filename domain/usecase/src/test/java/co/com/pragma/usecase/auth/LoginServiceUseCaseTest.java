@@ -1,8 +1,12 @@
 package co.com.pragma.usecase.auth;
 
 
-import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.RefreshedSession;
+import co.com.pragma.model.user.user.TokenPair;
+import co.com.pragma.model.user.user.UserCredentials;
 import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.PasswordHasher;
+import co.com.pragma.model.user.user.gateways.RefreshTokenGateway;
 import co.com.pragma.model.user.user.gateways.UserGateway;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,10 +19,13 @@ import reactor.test.StepVerifier;
 
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class LoginServiceUseCaseEdgeCasesTest {
@@ -29,17 +36,23 @@ class LoginServiceUseCaseEdgeCasesTest {
   @Mock
   private JwtProvider jwtProvider;
 
+  @Mock
+  private RefreshTokenGateway refreshTokenGateway;
+
+  @Mock
+  private PasswordHasher passwordHasher;
+
   @InjectMocks
   private LoginServiceUseCase loginServiceUseCase;
 
   @Test
   void login_WhenEmailIsNull_ShouldPropagateGatewayBehavior() {
     // Given
-    when(userGateway.findByCorreoElectronico(null))
+    when(userGateway.findCredentialsByCorreoElectronico(null))
             .thenReturn(Mono.empty());
 
     // When
-    Mono<String> result = loginServiceUseCase.login(null, "password");
+    Mono<TokenPair> result = loginServiceUseCase.login(null, "password");
 
     // Then
     StepVerifier.create(result)
@@ -48,20 +61,21 @@ class LoginServiceUseCaseEdgeCasesTest {
                             throwable.getMessage().equals("Usuario no encontrado"))
             .verify();
 
-    verify(userGateway).findByCorreoElectronico(null);
+    verify(userGateway).findCredentialsByCorreoElectronico(null);
   }
 
   @Test
   void login_WhenPasswordIsNull_ShouldReturnError() {
     // Given
-    UserParameters user = new UserParameters();
-    user.setPassword("validPassword");
+    UserCredentials user = new UserCredentials(1L, "test@example.com", "validPassword", "USER", null);
 
-    when(userGateway.findByCorreoElectronico("test@example.com"))
+    when(userGateway.findCredentialsByCorreoElectronico("test@example.com"))
             .thenReturn(Mono.just(user));
+    when(passwordHasher.matches(null, "validPassword"))
+            .thenReturn(Mono.just(false));
 
     // When
-    Mono<String> result = loginServiceUseCase.login("test@example.com", null);
+    Mono<TokenPair> result = loginServiceUseCase.login("test@example.com", null);
 
     // Then
     StepVerifier.create(result)
@@ -71,54 +85,153 @@ class LoginServiceUseCaseEdgeCasesTest {
             .verify();
   }
 
+  @Test
+  void login_ShouldLookUpCredentialsWithNormalizedEmail() {
+    // Given
+    when(userGateway.findCredentialsByCorreoElectronico("test@example.com"))
+            .thenReturn(Mono.empty());
+
+    // When
+    Mono<TokenPair> result = loginServiceUseCase.login(" Test@Example.COM", "password123");
+
+    // Then
+    StepVerifier.create(result)
+            .expectErrorMatches(throwable -> throwable.getMessage().equals("Usuario no encontrado"))
+            .verify();
+  }
+
   @Test
   void login_WhenUserIdIsNull_ShouldHandleGracefully() {
     // Given
-    UserParameters user = new UserParameters();
-    user.setId(null); // ID nulo
-    user.setCorreoElectronico("test@example.com");
-    user.setPassword("password123");
-    user.setRole("USER");
+    UserCredentials user = new UserCredentials(null, "test@example.com", "password123", "USER", null); // ID nulo
 
-    when(userGateway.findByCorreoElectronico("test@example.com"))
+    when(userGateway.findCredentialsByCorreoElectronico("test@example.com"))
             .thenReturn(Mono.just(user));
+    when(passwordHasher.matches("password123", "password123"))
+            .thenReturn(Mono.just(true));
 
     // When
-    Mono<String> result = loginServiceUseCase.login("test@example.com", "password123");
+    Mono<TokenPair> result = loginServiceUseCase.login("test@example.com", "password123");
 
     // Then
     StepVerifier.create(result)
             .expectErrorMatches(throwable ->
-                    throwable instanceof NullPointerException &&
-                    throwable.getMessage().contains("Cannot invoke \"java.lang.Long.toString()\" because the return value of \"co.com.pragma.model.user.user.UserParameters.getId()\" is null"))
+                    throwable instanceof IllegalStateException &&
+                    throwable.getMessage().equals("El usuario no tiene identificador"))
             .verify();
+
+    verify(jwtProvider, never()).generateToken(any(), any());
+    verify(refreshTokenGateway, never()).issue(any());
   }
 
   @Test
   void login_WhenUserHasMultipleRoles_ShouldIncludeInClaims() {
     // Given
     String expectedToken = "jwt-token-123";
-    UserParameters user = new UserParameters();
-    user.setId(1L);
-    user.setCorreoElectronico("admin@example.com");
-    user.setPassword("adminpass");
-    user.setRole("ADMIN,USER"); // Múltiples roles
+    UserCredentials user = new UserCredentials(1L, "admin@example.com", "adminpass", "ADMIN,USER", null); // Múltiples roles
 
     Map<String, Object> expectedClaims = Map.of("roles", "ADMIN,USER");
 
-    when(userGateway.findByCorreoElectronico("admin@example.com"))
+    when(userGateway.findCredentialsByCorreoElectronico("admin@example.com"))
             .thenReturn(Mono.just(user));
+    when(passwordHasher.matches("adminpass", "adminpass"))
+            .thenReturn(Mono.just(true));
+    when(passwordHasher.needsRehash("adminpass"))
+            .thenReturn(false);
     when(jwtProvider.generateToken(user, expectedClaims))
             .thenReturn(expectedToken);
+    when(refreshTokenGateway.issue(1L))
+            .thenReturn(Mono.just("refresh-token-123"));
 
     // When
-    Mono<String> result = loginServiceUseCase.login("admin@example.com", "adminpass");
+    Mono<TokenPair> result = loginServiceUseCase.login("admin@example.com", "adminpass");
 
     // Then
     StepVerifier.create(result)
-            .expectNext(expectedToken)
+            .expectNext(new TokenPair(expectedToken, "refresh-token-123"))
             .verifyComplete();
 
     verify(jwtProvider).generateToken(user, expectedClaims);
   }
+
+  @Test
+  void login_WhenHashIsOutdated_ShouldRehashAndStillLogin() {
+    // Given
+    UserCredentials user = new UserCredentials(1L, "user@example.com", "$2a$10$old", "USER", null);
+
+    when(userGateway.findCredentialsByCorreoElectronico("user@example.com"))
+            .thenReturn(Mono.just(user));
+    when(passwordHasher.matches("secret", "$2a$10$old"))
+            .thenReturn(Mono.just(true));
+    when(passwordHasher.needsRehash("$2a$10$old"))
+            .thenReturn(true);
+    when(passwordHasher.hash("secret"))
+            .thenReturn(Mono.just("$2a$12$new"));
+    when(userGateway.updatePassword(1L, "$2a$12$new"))
+            .thenReturn(Mono.error(new RuntimeException("db down")));
+    when(jwtProvider.generateToken(user, Map.of("roles", "USER")))
+            .thenReturn("jwt-token-789");
+    when(refreshTokenGateway.issue(1L))
+            .thenReturn(Mono.just("refresh-token-789"));
+
+    // When
+    Mono<TokenPair> result = loginServiceUseCase.login("user@example.com", "secret");
+
+    // Then
+    StepVerifier.create(result)
+            .expectNext(new TokenPair("jwt-token-789", "refresh-token-789"))
+            .verifyComplete();
+
+    verify(userGateway).updatePassword(1L, "$2a$12$new");
+  }
+
+  @Test
+  void refresh_WhenTokenIsValid_ShouldReturnNewPairWithoutLoadingUser() {
+    // Given
+    UserCredentials user = new UserCredentials(1L, "admin@example.com", null, "ADMIN", null);
+    when(refreshTokenGateway.rotate("refresh-old"))
+            .thenReturn(Mono.just(new RefreshedSession(user, "refresh-new")));
+    when(jwtProvider.generateToken(user, Map.of("roles", "ADMIN")))
+            .thenReturn("jwt-token-456");
+
+    // When
+    Mono<TokenPair> result = loginServiceUseCase.refresh("refresh-old");
+
+    // Then
+    StepVerifier.create(result)
+            .expectNext(new TokenPair("jwt-token-456", "refresh-new"))
+            .verifyComplete();
+
+    verifyNoInteractions(userGateway);
+  }
+
+  @Test
+  void refresh_WhenTokenIsRejected_ShouldReturnError() {
+    // Given
+    when(refreshTokenGateway.rotate("refresh-reused"))
+            .thenReturn(Mono.empty());
+
+    // When
+    Mono<TokenPair> result = loginServiceUseCase.refresh("refresh-reused");
+
+    // Then
+    StepVerifier.create(result)
+            .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                            throwable.getMessage().equals("Refresh token inválido o expirado"))
+            .verify();
+  }
+
+  @Test
+  void refresh_WhenTokenIsBlank_ShouldNotHitGateway() {
+    // When
+    Mono<TokenPair> result = loginServiceUseCase.refresh(" ");
+
+    // Then
+    StepVerifier.create(result)
+            .expectError(RuntimeException.class)
+            .verify();
+
+    verifyNoInteractions(refreshTokenGateway);
+  }
 }
@@ -0,0 +1,77 @@
+package co.com.pragma.usecase.auth;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.gateways.RefreshTokenGateway;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationUseCaseTest {
+
+  @Mock
+  private TokenRevocationGateway tokenRevocationGateway;
+
+  @Mock
+  private RefreshTokenGateway refreshTokenGateway;
+
+  @InjectMocks
+  private TokenRevocationUseCase tokenRevocationUseCase;
+
+  @Test
+  @DisplayName("Debe revocar el token usando su jti y su expiración junto con sus refresh tokens")
+  void revokeTokenTest() {
+    // Arrange
+    Instant expiresAt = Instant.now().plusSeconds(600);
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), expiresAt);
+    when(tokenRevocationGateway.revoke("jti-1", expiresAt)).thenReturn(Mono.empty());
+    when(refreshTokenGateway.revokeAll(1L)).thenReturn(Mono.empty());
+
+    // Act & Assert
+    StepVerifier.create(tokenRevocationUseCase.revoke(principal))
+            .verifyComplete();
+    verify(tokenRevocationGateway).revoke("jti-1", expiresAt);
+    verify(refreshTokenGateway).revokeAll(1L);
+  }
+
+  @Test
+  @DisplayName("No debe revocar los refresh tokens si falla la revocación del access token")
+  void revokeTokenFailureKeepsRefreshTokensTest() {
+    // Arrange
+    Instant expiresAt = Instant.now().plusSeconds(600);
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), expiresAt);
+    when(tokenRevocationGateway.revoke("jti-1", expiresAt)).thenReturn(Mono.error(new IllegalStateException("db")));
+
+    // Act & Assert
+    StepVerifier.create(tokenRevocationUseCase.revoke(principal))
+            .expectError(IllegalStateException.class)
+            .verify();
+    verifyNoInteractions(refreshTokenGateway);
+  }
+
+  @Test
+  @DisplayName("Debe fallar si el token no tiene jti")
+  void revokeTokenWithoutIdTest() {
+    // Arrange
+    TokenPrincipal principal = new TokenPrincipal("1", null, List.of("ADMIN"), Instant.now().plusSeconds(600));
+
+    // Act & Assert
+    StepVerifier.create(tokenRevocationUseCase.revoke(principal))
+            .expectError(RuntimeException.class)
+            .verify();
+    verifyNoInteractions(tokenRevocationGateway, refreshTokenGateway);
+  }
+}
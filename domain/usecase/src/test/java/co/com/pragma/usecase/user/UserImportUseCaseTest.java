@@ -0,0 +1,140 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.user.UserImportRow;
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.gateways.UserImportGateway;
+import co.com.pragma.usecase.utils.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class UserImportUseCaseTest {
+  @Mock
+  private UserImportGateway userImportGateway;
+
+  @InjectMocks
+  private UserImportUseCase userImportUseCase;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  private UserParameters buildUser(String email, BigDecimal salario) {
+    return UserParameters.builder()
+            .nombres("Juan")
+            .apellidos("Pérez")
+            .direccion("Calle 123")
+            .telefono("1234567890")
+            .correoElectronico(email)
+            .fechaNacimiento(LocalDate.of(1990, 1, 1))
+            .salarioBase(salario)
+            .numeroDocumento(new BigDecimal("123"))
+            .build();
+  }
+
+  @Test
+  @DisplayName("Debe importar las filas válidas y reportar las inválidas con su número de línea")
+  void importUsers_ShouldCopyValidRowsAndReportInvalidOnes() {
+    // Arrange
+    Flux<UserImportRow> rows = Flux.just(
+            UserImportRow.valid(2, buildUser("a@ejemplo.com", new BigDecimal("2000000"))),
+            UserImportRow.valid(3, buildUser("b@ejemplo.com", new BigDecimal("99999999"))),
+            UserImportRow.malformed(4, "Número de columnas inválido"),
+            UserImportRow.valid(5, buildUser("c@ejemplo.com", new BigDecimal("1000000"))));
+    when(userImportGateway.copyUsers(anyList())).thenReturn(Flux.just("a@ejemplo.com", "c@ejemplo.com"));
+
+    // Act & Assert
+    StepVerifier.create(userImportUseCase.importUsers(rows))
+            .assertNext(report -> {
+              assertEquals(4, report.totalRows());
+              assertEquals(2, report.importedRows());
+              assertEquals(2, report.rejectedRows());
+              assertFalse(report.errorsTruncated());
+              assertEquals(3, report.errors().get(0).lineNumber());
+              assertEquals(Constants.INVALID_SALARY_CODE, report.errors().get(0).code());
+              assertEquals(4, report.errors().get(1).lineNumber());
+              assertEquals(Constants.INVALID_ROW_CODE, report.errors().get(1).code());
+            })
+            .verifyComplete();
+
+    verify(userImportGateway).copyUsers(argThat(users -> users.size() == 2));
+  }
+
+  @Test
+  @DisplayName("Debe reportar como duplicadas las filas que el gateway no insertó")
+  void importUsers_ShouldReportRowsSkippedByConflict() {
+    // Arrange
+    Flux<UserImportRow> rows = Flux.just(
+            UserImportRow.valid(2, buildUser("a@ejemplo.com", new BigDecimal("2000000"))),
+            UserImportRow.valid(3, buildUser("a@ejemplo.com", new BigDecimal("2000000"))));
+    when(userImportGateway.copyUsers(anyList())).thenReturn(Flux.just("a@ejemplo.com"));
+
+    // Act & Assert
+    StepVerifier.create(userImportUseCase.importUsers(rows))
+            .assertNext(report -> {
+              assertEquals(1, report.importedRows());
+              assertEquals(1, report.rejectedRows());
+              assertEquals(3, report.errors().get(0).lineNumber());
+              assertEquals(Constants.USER_EXISTS_CODE, report.errors().get(0).code());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debe dividir la carga en bloques y continuar cuando un bloque falla")
+  void importUsers_ShouldSplitInChunksAndContinueAfterFailedChunk() {
+    // Arrange
+    int rowCount = Constants.IMPORT_CHUNK_SIZE + 1;
+    Flux<UserImportRow> rows = Flux.range(0, rowCount)
+            .map(i -> UserImportRow.valid(i + 2, buildUser(i + "@ejemplo.com", new BigDecimal("2000000"))));
+    when(userImportGateway.copyUsers(anyList()))
+            .thenReturn(Flux.error(new RuntimeException("COPY falló")))
+            .thenReturn(Flux.just(Constants.IMPORT_CHUNK_SIZE + "@ejemplo.com"));
+
+    // Act & Assert
+    StepVerifier.create(userImportUseCase.importUsers(rows))
+            .assertNext(report -> {
+              assertEquals(rowCount, report.totalRows());
+              assertEquals(1, report.importedRows());
+              assertEquals(Constants.IMPORT_CHUNK_SIZE, report.rejectedRows());
+              assertEquals(Constants.IMPORT_FAILED_CODE, report.errors().get(0).code());
+            })
+            .verifyComplete();
+
+    verify(userImportGateway, times(2)).copyUsers(anyList());
+  }
+
+  @Test
+  @DisplayName("Debe truncar el reporte de errores al máximo configurado")
+  void importUsers_ShouldTruncateErrorReport() {
+    // Arrange
+    int rowCount = Constants.MAX_REPORTED_IMPORT_ERRORS + 5;
+    Flux<UserImportRow> rows = Flux.range(0, rowCount)
+            .map(i -> UserImportRow.malformed(i + 2, "Fila inválida"));
+
+    // Act & Assert
+    StepVerifier.create(userImportUseCase.importUsers(rows))
+            .assertNext(report -> {
+              assertEquals(rowCount, report.rejectedRows());
+              assertEquals(Constants.MAX_REPORTED_IMPORT_ERRORS, report.errors().size());
+              assertTrue(report.errorsTruncated());
+            })
+            .verifyComplete();
+
+    verifyNoInteractions(userImportGateway);
+  }
+}
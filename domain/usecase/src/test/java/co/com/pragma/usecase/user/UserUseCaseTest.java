@@ -1,7 +1,10 @@
 package co.com.pragma.usecase.user;
 
+import co.com.pragma.model.user.user.UserCreationResult;
 import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.gateways.PasswordHasher;
 import co.com.pragma.model.user.user.gateways.UserGateway;
+import co.com.pragma.usecase.exceptions.BusinessErrors;
 import co.com.pragma.usecase.exceptions.BusinessException;
 import co.com.pragma.usecase.utils.Constants;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,11 +13,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +30,9 @@ class UserUseCaseTest {
   @Mock
   private UserGateway userGateway;
 
+  @Mock
+  private PasswordHasher passwordHasher;
+
   @InjectMocks
   private UserUseCase userUseCase;
 
@@ -58,23 +68,52 @@ class UserUseCaseTest {
   @DisplayName("Debería crear un usuario exitosamente")
   void shouldCreateUserSuccessfully() {
     // Arrange
-    when(userGateway.existsByCorreoElectronico("juan@ejemplo.com")).thenReturn(Mono.just(false));
-    when(userGateway.createUser(validUserParameters)).thenReturn(Mono.just(validUserParameters));
+    when(userGateway.createUserIfAbsent(validUserParameters)).thenReturn(Mono.just(UserCreationResult.created(validUserParameters)));
 
     // Act & Assert
     StepVerifier.create(userUseCase.createUser(validUserParameters))
             .expectNext(validUserParameters)
             .verifyComplete();
 
-    verify(userGateway).existsByCorreoElectronico("juan@ejemplo.com");
-    verify(userGateway).createUser(validUserParameters);
+    verify(userGateway).createUserIfAbsent(validUserParameters);
+  }
+
+  @Test
+  @DisplayName("Debería guardar el correo electrónico en minúsculas")
+  void shouldNormalizeEmailBeforeCreatingUser() {
+    // Arrange
+    validUserParameters.setCorreoElectronico(" Juan@Ejemplo.COM ");
+    when(userGateway.createUserIfAbsent(argThat(user -> "juan@ejemplo.com".equals(user.getCorreoElectronico()))))
+            .thenAnswer(invocation -> Mono.just(UserCreationResult.created(invocation.getArgument(0))));
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.createUser(validUserParameters))
+            .assertNext(user -> assertEquals("juan@ejemplo.com", user.getCorreoElectronico()))
+            .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debería guardar el hash de la contraseña y no el texto plano")
+  void shouldHashPasswordBeforePersisting() {
+    // Arrange
+    validUserParameters.setPassword("secreto");
+    when(passwordHasher.hash("secreto")).thenReturn(Mono.just("$2a$12$hash"));
+    when(userGateway.createUserIfAbsent(argThat(user -> "$2a$12$hash".equals(user.getPassword()))))
+            .thenAnswer(invocation -> Mono.just(UserCreationResult.created(invocation.getArgument(0))));
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.createUser(validUserParameters))
+            .assertNext(user -> assertEquals("$2a$12$hash", user.getPassword()))
+            .verifyComplete();
+
+    verify(passwordHasher).hash("secreto");
   }
 
   @Test
   @DisplayName("Debería lanzar excepción cuando el correo ya existe")
   void shouldThrowExceptionWhenEmailAlreadyExists() {
     // Arrange
-    when(userGateway.existsByCorreoElectronico("juan@ejemplo.com")).thenReturn(Mono.just(true));
+    when(userGateway.createUserIfAbsent(validUserParameters)).thenReturn(Mono.just(UserCreationResult.alreadyExists()));
 
     // Act & Assert
     StepVerifier.create(userUseCase.createUser(validUserParameters))
@@ -82,7 +121,8 @@ class UserUseCaseTest {
                     ((BusinessException) throwable).getErrorResponse().getCode().equals("USER_EXISTS"))
             .verify();
 
-    verify(userGateway).existsByCorreoElectronico("juan@ejemplo.com");
+    verify(userGateway).createUserIfAbsent(validUserParameters);
+    verify(userGateway, never()).existsByCorreoElectronico(any());
     verify(userGateway, never()).createUser(any());
   }
 
@@ -100,8 +140,7 @@ class UserUseCaseTest {
                     ((BusinessException) throwable).getErrorResponse().getCode().equals("MISSING_FIELDS"))
             .verify();
 
-    verify(userGateway, never()).existsByCorreoElectronico(any());
-    verify(userGateway, never()).createUser(any());
+    verify(userGateway, never()).createUserIfAbsent(any());
   }
 
 
@@ -124,8 +163,7 @@ class UserUseCaseTest {
                     ((BusinessException) throwable).getErrorResponse().getCode().equals("INVALID_SALARY"))
             .verify();
 
-    verify(userGateway, never()).existsByCorreoElectronico(any());
-    verify(userGateway, never()).createUser(any());
+    verify(userGateway, never()).createUserIfAbsent(any());
   }
 
   @Test
@@ -133,7 +171,7 @@ class UserUseCaseTest {
   void shouldHandleGatewayErrors() {
     // Arrange
     RuntimeException gatewayException = new RuntimeException("Error en gateway");
-    when(userGateway.existsByCorreoElectronico("juan@ejemplo.com")).thenReturn(Mono.error(gatewayException));
+    when(userGateway.createUserIfAbsent(validUserParameters)).thenReturn(Mono.error(gatewayException));
 
     // Act & Assert
     StepVerifier.create(userUseCase.createUser(validUserParameters))
@@ -141,8 +179,7 @@ class UserUseCaseTest {
                     throwable.getMessage().equals("Error en gateway"))
             .verify();
 
-    verify(userGateway).existsByCorreoElectronico("juan@ejemplo.com");
-    verify(userGateway, never()).createUser(any());
+    verify(userGateway).createUserIfAbsent(validUserParameters);
   }
   @Test
   @DisplayName("Debería validar correctamente los límites del rango salarial")
@@ -158,15 +195,13 @@ class UserUseCaseTest {
     userWithMinSalary.setSalarioBase(new BigDecimal("1000000")); // Asumiendo que este es el mínimo
 
     // Simulamos que el correo no existe para el caso de salario mínimo
-    when(userGateway.existsByCorreoElectronico(userWithMinSalary.getCorreoElectronico())).thenReturn(Mono.just(false));
-    when(userGateway.createUser(userWithMinSalary)).thenReturn(Mono.just(userWithMinSalary));
+    when(userGateway.createUserIfAbsent(userWithMinSalary)).thenReturn(Mono.just(UserCreationResult.created(userWithMinSalary)));
 
     StepVerifier.create(userUseCase.createUser(userWithMinSalary))
             .expectNext(userWithMinSalary)
             .verifyComplete();
 
-    verify(userGateway).existsByCorreoElectronico(userWithMinSalary.getCorreoElectronico());
-    verify(userGateway).createUser(userWithMinSalary);
+    verify(userGateway).createUserIfAbsent(userWithMinSalary);
     reset(userGateway); // Reseteamos los mocks para la siguiente prueba
 
     // Caso límite superior exacto
@@ -180,15 +215,13 @@ class UserUseCaseTest {
     userWithMaxSalary.setSalarioBase(new BigDecimal("10000000")); // Asumiendo que este es el máximo
 
     // Simulamos que el correo no existe para el caso de salario máximo
-    when(userGateway.existsByCorreoElectronico(userWithMaxSalary.getCorreoElectronico())).thenReturn(Mono.just(false));
-    when(userGateway.createUser(userWithMaxSalary)).thenReturn(Mono.just(userWithMaxSalary));
+    when(userGateway.createUserIfAbsent(userWithMaxSalary)).thenReturn(Mono.just(UserCreationResult.created(userWithMaxSalary)));
 
     StepVerifier.create(userUseCase.createUser(userWithMaxSalary))
             .expectNext(userWithMaxSalary)
             .verifyComplete();
 
-    verify(userGateway).existsByCorreoElectronico(userWithMaxSalary.getCorreoElectronico());
-    verify(userGateway).createUser(userWithMaxSalary);
+    verify(userGateway).createUserIfAbsent(userWithMaxSalary);
   }
 
   @Test
@@ -204,8 +237,7 @@ class UserUseCaseTest {
     userWithLowSalary.setFechaNacimiento(LocalDate.of(1990, 1, 1));
     userWithLowSalary.setSalarioBase(new BigDecimal("-90"));
 
-    when(userGateway.existsByCorreoElectronico(anyString())).thenReturn(Mono.just(false));
-    when(userGateway.createUser(any(UserParameters.class))).thenReturn(Mono.just(userWithLowSalary));
+    when(userGateway.createUserIfAbsent(any(UserParameters.class))).thenReturn(Mono.just(UserCreationResult.created(userWithLowSalary)));
 
     // Act & Assert
     StepVerifier.create(userUseCase.createUser(userWithLowSalary))
@@ -213,8 +245,7 @@ class UserUseCaseTest {
                     ((BusinessException) throwable).getErrorResponse().getCode().equals("INVALID_SALARY"))
             .verify();
 
-    verify(userGateway, never()).existsByCorreoElectronico(any());
-    verify(userGateway, never()).createUser(any());
+    verify(userGateway, never()).createUserIfAbsent(any());
   }
 
   @Test
@@ -230,18 +261,15 @@ class UserUseCaseTest {
     userWithValidSalary.setFechaNacimiento(LocalDate.of(1990, 1, 1));
     userWithValidSalary.setSalarioBase(new BigDecimal("5000000")); // Valor dentro del rango
 
-    when(userGateway.existsByCorreoElectronico(userWithValidSalary.getCorreoElectronico()))
-            .thenReturn(Mono.just(false));
-    when(userGateway.createUser(userWithValidSalary))
-            .thenReturn(Mono.just(userWithValidSalary));
+    when(userGateway.createUserIfAbsent(userWithValidSalary))
+            .thenReturn(Mono.just(UserCreationResult.created(userWithValidSalary)));
 
     // Act & Assert
     StepVerifier.create(userUseCase.createUser(userWithValidSalary))
             .expectNext(userWithValidSalary)
             .verifyComplete();
 
-    verify(userGateway).existsByCorreoElectronico(userWithValidSalary.getCorreoElectronico());
-    verify(userGateway).createUser(userWithValidSalary);
+    verify(userGateway).createUserIfAbsent(userWithValidSalary);
   }
 
 
@@ -249,8 +277,7 @@ class UserUseCaseTest {
   @DisplayName("Debería pasar cuando el salario es exactamente igual al mínimo")
   void shouldPassWhenSalaryEqualsMinimum() {
     UserParameters user = buildUserWithSalary(Constants.SALARIO_MINIMO);
-    when(userGateway.existsByCorreoElectronico(anyString())).thenReturn(Mono.just(false));
-    when(userGateway.createUser(any(UserParameters.class))).thenReturn(Mono.just(user));
+    when(userGateway.createUserIfAbsent(any(UserParameters.class))).thenReturn(Mono.just(UserCreationResult.created(user)));
 
     StepVerifier.create(userUseCase.createUser(user))
             .expectNextMatches(u -> u.getSalarioBase().equals(Constants.SALARIO_MINIMO))
@@ -261,8 +288,7 @@ class UserUseCaseTest {
   @DisplayName("Debería pasar cuando el salario es exactamente igual al máximo")
   void shouldPassWhenSalaryEqualsMaximum() {
     UserParameters user = buildUserWithSalary(Constants.SALARIO_MAXIMO);
-    when(userGateway.existsByCorreoElectronico(anyString())).thenReturn(Mono.just(false));
-    when(userGateway.createUser(any(UserParameters.class))).thenReturn(Mono.just(user));
+    when(userGateway.createUserIfAbsent(any(UserParameters.class))).thenReturn(Mono.just(UserCreationResult.created(user)));
 
     StepVerifier.create(userUseCase.createUser(user))
             .expectNextMatches(u -> u.getSalarioBase().equals(Constants.SALARIO_MAXIMO))
@@ -274,8 +300,8 @@ class UserUseCaseTest {
   void shouldMapErrorWhenEmailAlreadyUsedMessage() {
     UserParameters user = buildUserWithSalary(Constants.SALARIO_MINIMO);
 
-    when(userGateway.existsByCorreoElectronico(anyString()))
-            .thenReturn(Mono.error(new RuntimeException("correo electrónico ya está en uso")));
+    when(userGateway.createUserIfAbsent(any(UserParameters.class)))
+            .thenReturn(Mono.error(new RuntimeException(Constants.LOG_EMAIL_EXISTS + "juan@ejemplo.com")));
 
     StepVerifier.create(userUseCase.createUser(user))
             .expectErrorMatches(ex -> ex instanceof BusinessException
@@ -287,7 +313,7 @@ class UserUseCaseTest {
   @DisplayName("Debería encontrar usuario por número de documento exitosamente")
   void shouldFindUserByDocumentNumberSuccessfully() {
     // Arrange
-    String documentNumber = "12345678";
+    BigDecimal documentNumber = new BigDecimal("12345678");
     UserParameters expectedUser = validUserParameters;
     when(userGateway.findByDocumentNumber(documentNumber)).thenReturn(Mono.just(expectedUser));
 
@@ -303,7 +329,7 @@ class UserUseCaseTest {
   @DisplayName("Debería lanzar excepción cuando el usuario no existe")
   void shouldThrowExceptionWhenUserNotFound() {
     // Arrange
-    String documentNumber = "99999999";
+    BigDecimal documentNumber = new BigDecimal("99999999");
     when(userGateway.findByDocumentNumber(documentNumber)).thenReturn(Mono.empty());
 
     // Act & Assert
@@ -315,11 +341,29 @@ class UserUseCaseTest {
     verify(userGateway).findByDocumentNumber(documentNumber);
   }
 
+  @Test
+  @DisplayName("Debería reutilizar una excepción sin stack trace cuando el usuario no existe")
+  void shouldReuseStacklessExceptionWhenUserNotFound() {
+    // Arrange
+    when(userGateway.findByDocumentNumber(any())).thenReturn(Mono.empty());
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.findByDocumentNumber(BigDecimal.ONE))
+            .expectErrorSatisfies(throwable -> {
+              assertSame(BusinessErrors.USER_NOT_FOUND, throwable);
+              assertEquals(0, throwable.getStackTrace().length);
+            })
+            .verify();
+    StepVerifier.create(userUseCase.findByDocumentNumber(BigDecimal.TEN))
+            .expectErrorSatisfies(throwable -> assertSame(BusinessErrors.USER_NOT_FOUND, throwable))
+            .verify();
+  }
+
   @Test
   @DisplayName("Debería propagar errores del gateway al buscar por documento")
   void shouldPropagateGatewayErrorsWhenFindingByDocument() {
     // Arrange
-    String documentNumber = "12345678";
+    BigDecimal documentNumber = new BigDecimal("12345678");
     RuntimeException gatewayException = new RuntimeException("Error en gateway");
     when(userGateway.findByDocumentNumber(documentNumber)).thenReturn(Mono.error(gatewayException));
 
@@ -331,4 +375,104 @@ class UserUseCaseTest {
 
     verify(userGateway).findByDocumentNumber(documentNumber);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Debería devolver el cursor siguiente cuando la página está completa")
+  void shouldReturnNextCursorWhenPageIsFull() {
+    // Arrange
+    UserParameters first = UserParameters.builder().id(11L).build();
+    UserParameters second = UserParameters.builder().id(12L).build();
+    when(userGateway.findPageAfterId(10L, 2)).thenReturn(Flux.just(first, second));
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.listUsers(10L, 2))
+            .assertNext(page -> {
+              assertEquals(List.of(first, second), page.getItems());
+              assertEquals(12L, page.getNextCursor());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("No debería devolver cursor cuando es la última página")
+  void shouldNotReturnCursorOnLastPage() {
+    // Arrange
+    when(userGateway.findPageAfterId(0L, 5)).thenReturn(Flux.just(UserParameters.builder().id(1L).build()));
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.listUsers(0L, 5))
+            .assertNext(page -> {
+              assertEquals(1, page.getItems().size());
+              assertNull(page.getNextCursor());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debería consultar solo los campos solicitados por número de documento")
+  void shouldFindProjectionWhenFieldsAreRequested() {
+    // Arrange
+    BigDecimal document = new BigDecimal("123");
+    Set<String> fields = Set.of("salarioBase", "correoElectronico");
+    UserParameters projection = UserParameters.builder().correoElectronico("juan@ejemplo.com").build();
+    when(userGateway.findProjectionByDocumentNumber(document, fields)).thenReturn(Mono.just(projection));
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.findByDocumentNumber(document, fields))
+            .expectNext(projection)
+            .verifyComplete();
+
+    verify(userGateway, never()).findByDocumentNumber(any());
+  }
+
+  @Test
+  @DisplayName("Debería responder 404 cuando la proyección no encuentra el usuario")
+  void shouldThrowNotFoundWhenProjectionIsEmpty() {
+    // Arrange
+    BigDecimal document = new BigDecimal("404");
+    when(userGateway.findProjectionByDocumentNumber(document, Set.of("nombres"))).thenReturn(Mono.empty());
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.findByDocumentNumber(document, Set.of("nombres")))
+            .expectErrorMatches(error -> error instanceof BusinessException businessException
+                    && businessException.getErrorResponse().getStatus() == 404)
+            .verify();
+  }
+
+  @Test
+  @DisplayName("Debería buscar en lote con claves únicas y sin nulos")
+  void shouldFindUsersInBatchWithDistinctKeys() {
+    // Arrange
+    BigDecimal document = new BigDecimal("123");
+    when(userGateway.findAllByDocumentNumbersOrEmails(List.of(document), List.of("juan@ejemplo.com")))
+            .thenReturn(Flux.just(validUserParameters));
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.findUsersInBatch(
+                    Arrays.asList(document, null, document), List.of("juan@ejemplo.com", "juan@ejemplo.com")))
+            .expectNext(validUserParameters)
+            .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("No debería consultar el gateway cuando el lote está vacío")
+  void shouldNotQueryGatewayWhenBatchIsEmpty() {
+    // Act & Assert
+    StepVerifier.create(userUseCase.findUsersInBatch(null, List.of()))
+            .verifyComplete();
+
+    verifyNoInteractions(userGateway);
+  }
+
+  @Test
+  @DisplayName("Debería transmitir los usuarios desde el gateway")
+  void shouldStreamUsersFromGateway() {
+    // Arrange
+    when(userGateway.streamAfterId(0L)).thenReturn(Flux.just(validUserParameters));
+
+    // Act & Assert
+    StepVerifier.create(userUseCase.streamUsers(0L))
+            .expectNext(validUserParameters)
+            .verifyComplete();
+  }
+}
@@ -0,0 +1,68 @@
+package co.com.pragma.r2dbc.jwt;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.UserCredentials;
+import co.com.pragma.r2dbc.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.security.Key;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por petición de autenticar un token: el flujo anterior (validar, extraer sujeto y extraer roles,
+ * cada uno con su propio parser) frente a un único parseo con el parser precompilado.
+ * Ejecutar con {@code ./gradlew :r2dbc-postgresql:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParsingBenchmark {
+
+  private static final String SECRET = "ClaveDeBenchmarkConAlMenos256BitsDeLongitud!";
+
+  private final Key secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+  private JwtProviderImpl jwtProvider;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    JwtProperties properties = new JwtProperties(SECRET, null, null, null, null, null, null, null);
+    jwtProvider = new JwtProviderImpl(new JwtKeyRing(properties), properties);
+    UserCredentials credentials = new UserCredentials(1L, "usuario@example.com", "secret", "ADMIN", new BigDecimal("2500000"));
+    token = jwtProvider.generateToken(credentials, Map.of("roles", "ADMIN,USER"));
+  }
+
+  @Benchmark
+  public void parsePerClaim(Blackhole blackhole) {
+    blackhole.consume(parse().getSubject());
+    blackhole.consume(parse().getSubject());
+    blackhole.consume(parse().get("roles", String.class));
+  }
+
+  @Benchmark
+  public Optional<TokenPrincipal> parseOnce() {
+    return jwtProvider.parseToken(token);
+  }
+
+  private Claims parse() {
+    return Jwts.parserBuilder()
+            .setSigningKey(secretKey)
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+  }
+}
@@ -0,0 +1,71 @@
+package co.com.pragma.r2dbc.revocation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the revocation check with a large revoked population, spread over
+ * an hour of expiries as with our one-hour access tokens. Run with
+ * {@code ./gradlew :r2dbc-postgresql:jmh -Pjmh.includes=RevocationSetBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RevocationSetBenchmark {
+
+  private static final int PROBES = 1024;
+
+  @Param({"1000000"})
+  private int revokedEntries;
+
+  private RevocationSet revocationSet;
+  private String[] revokedIds;
+  private String[] validIds;
+  private Instant[] expiries;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    revocationSet = new RevocationSet(Duration.ofMinutes(1));
+    Instant now = Instant.now();
+    revokedIds = new String[PROBES];
+    validIds = new String[PROBES];
+    expiries = new Instant[PROBES];
+    for (int i = 0; i < revokedEntries; i++) {
+      String jti = UUID.randomUUID().toString();
+      Instant expiresAt = now.plusMillis(ThreadLocalRandom.current().nextLong(Duration.ofHours(1).toMillis()));
+      revocationSet.add(jti, expiresAt);
+      if (i < PROBES) {
+        revokedIds[i] = jti;
+        expiries[i] = expiresAt;
+        validIds[i] = UUID.randomUUID().toString();
+      }
+    }
+  }
+
+  @Benchmark
+  public boolean revokedToken() {
+    int i = ThreadLocalRandom.current().nextInt(PROBES);
+    return revocationSet.contains(revokedIds[i], expiries[i]);
+  }
+
+  @Benchmark
+  public boolean validToken() {
+    int i = ThreadLocalRandom.current().nextInt(PROBES);
+    return revocationSet.contains(validIds[i], expiries[i]);
+  }
+}
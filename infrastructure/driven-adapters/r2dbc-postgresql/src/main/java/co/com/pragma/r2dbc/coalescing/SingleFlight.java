@@ -0,0 +1,57 @@
+package co.com.pragma.r2dbc.coalescing;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight {@link Mono} between concurrent subscribers asking for
+ * the same key. The entry is removed as soon as the shared call terminates,
+ * so results are never served after completion (this is not a cache).
+ */
+public class SingleFlight<K, V> {
+
+  private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder leaders = new LongAdder();
+  private final LongAdder followers = new LongAdder();
+
+  public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+    return Mono.defer(() -> {
+      Mono<V> existing = inFlight.get(key);
+      if (existing != null) {
+        followers.increment();
+        return existing;
+      }
+
+      AtomicReference<Mono<V>> self = new AtomicReference<>();
+      Mono<V> shared = Mono.defer(call)
+              .doFinally(signal -> inFlight.remove(key, self.get()))
+              .cache();
+      self.set(shared);
+
+      Mono<V> winner = inFlight.putIfAbsent(key, shared);
+      if (winner != null) {
+        followers.increment();
+        return winner;
+      }
+      leaders.increment();
+      return shared;
+    });
+  }
+
+  public long leaders() {
+    return leaders.sum();
+  }
+
+  public long followers() {
+    return followers.sum();
+  }
+
+  public int inFlight() {
+    return inFlight.size();
+  }
+}
@@ -0,0 +1,61 @@
+package co.com.pragma.r2dbc.coalescing;
+
+import co.com.pragma.model.user.user.UserCredentials;
+import co.com.pragma.model.user.user.UserParameters;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Coalescing ratio per lookup = shared / (executed + shared) over
+ * {@code users.lookup.coalescing}.
+ */
+@Component
+public class UserLookupCoalescer implements MeterBinder {
+
+  private static final String METRIC_NAME = "users.lookup.coalescing";
+  private static final String IN_FLIGHT_METRIC_NAME = "users.lookup.coalescing.in.flight";
+
+  private final SingleFlight<String, UserParameters> byDocument = new SingleFlight<>();
+  private final SingleFlight<String, UserParameters> byEmail = new SingleFlight<>();
+  private final SingleFlight<String, UserCredentials> credentialsByEmail = new SingleFlight<>();
+
+  public Mono<UserParameters> byDocument(String documentNumber, Supplier<Mono<UserParameters>> query) {
+    return byDocument.execute(documentNumber, query);
+  }
+
+  public Mono<UserParameters> byEmail(String email, Supplier<Mono<UserParameters>> query) {
+    return byEmail.execute(email, query);
+  }
+
+  public Mono<UserCredentials> credentialsByEmail(String email, Supplier<Mono<UserCredentials>> query) {
+    return credentialsByEmail.execute(email, query);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    register(registry, "document", byDocument);
+    register(registry, "email", byEmail);
+    register(registry, "credentials", credentialsByEmail);
+  }
+
+  private static void register(MeterRegistry registry, String lookup, SingleFlight<?, ?> singleFlight) {
+    FunctionCounter.builder(METRIC_NAME, singleFlight, SingleFlight::leaders)
+            .tags("lookup", lookup, "result", "executed")
+            .description("Lookups that issued a query")
+            .register(registry);
+    FunctionCounter.builder(METRIC_NAME, singleFlight, SingleFlight::followers)
+            .tags("lookup", lookup, "result", "shared")
+            .description("Lookups served by joining an identical in-flight query")
+            .register(registry);
+    Gauge.builder(IN_FLIGHT_METRIC_NAME, singleFlight, SingleFlight::inFlight)
+            .tag("lookup", lookup)
+            .description("Distinct keys with a query in flight")
+            .register(registry);
+  }
+}
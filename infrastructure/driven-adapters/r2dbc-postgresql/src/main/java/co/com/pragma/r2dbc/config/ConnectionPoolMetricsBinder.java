@@ -0,0 +1,42 @@
+package co.com.pragma.r2dbc.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.ToDoubleFunction;
+
+@RequiredArgsConstructor
+public class ConnectionPoolMetricsBinder implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "r2dbc.pool.";
+    private static final String NAME_TAG = "name";
+
+    private final ConnectionPool connectionPool;
+    private final String poolName;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        connectionPool.getMetrics().ifPresent(metrics -> {
+            Tags tags = Tags.of(NAME_TAG, poolName);
+            register(registry, metrics, tags, "acquired", "Connections currently in use", PoolMetrics::acquiredSize);
+            register(registry, metrics, tags, "allocated", "Connections allocated, idle or in use", PoolMetrics::allocatedSize);
+            register(registry, metrics, tags, "idle", "Idle connections", PoolMetrics::idleSize);
+            register(registry, metrics, tags, "pending", "Subscribers waiting for a connection", PoolMetrics::pendingAcquireSize);
+            register(registry, metrics, tags, "max.allocated", "Maximum connections the pool can allocate", PoolMetrics::getMaxAllocatedSize);
+            register(registry, metrics, tags, "max.pending", "Maximum pending acquisitions", PoolMetrics::getMaxPendingAcquireSize);
+        });
+    }
+
+    private static void register(MeterRegistry registry, PoolMetrics metrics, Tags tags,
+                                 String name, String description, ToDoubleFunction<PoolMetrics> value) {
+        Gauge.builder(METRIC_PREFIX + name, metrics, value)
+                .tags(tags)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -0,0 +1,46 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Token signing setup. With HS256 only {@code secret} is used. With RS256/ES256 the key whose
+ * kid is {@code activeKid} signs new tokens and every listed key stays valid for verification
+ * (and is published in the JWKS) until it is removed from {@code keys}.
+ * <p>
+ * Tokens without a kid were signed with the old secret; they are only verified against
+ * {@code legacySecret} and until {@code legacySecretValidUntil}. Both must be set explicitly,
+ * otherwise tokens without a kid are rejected. With {@code clusterSize} above 1, keys must be
+ * configured because generated ones differ per node.
+ */
+@ConfigurationProperties(prefix = "jwt")
+public record JwtProperties(
+        String secret,
+        @DurationUnit(ChronoUnit.SECONDS) Duration expiration,
+        String algorithm,
+        String activeKid,
+        List<SigningKey> keys,
+        String legacySecret,
+        Instant legacySecretValidUntil,
+        Integer clusterSize) {
+
+    public static final Duration DEFAULT_EXPIRATION = Duration.ofHours(1);
+    public static final String DEFAULT_ALGORITHM = "HS256";
+
+    public JwtProperties {
+        expiration = expiration != null && expiration.isPositive() ? expiration : DEFAULT_EXPIRATION;
+        algorithm = algorithm != null && !algorithm.isBlank() ? algorithm.trim().toUpperCase() : DEFAULT_ALGORITHM;
+        activeKid = activeKid != null && !activeKid.isBlank() ? activeKid : null;
+        keys = keys != null ? List.copyOf(keys) : List.of();
+        legacySecret = legacySecret != null && !legacySecret.isBlank() ? legacySecret : null;
+        clusterSize = clusterSize != null && clusterSize > 0 ? clusterSize : 1;
+    }
+
+    public record SigningKey(String kid, String privateKey, String publicKey) {
+    }
+}
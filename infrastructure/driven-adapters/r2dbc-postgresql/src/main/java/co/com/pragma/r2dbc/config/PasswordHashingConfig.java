@@ -0,0 +1,28 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.password.BCryptPasswordHasher;
+import co.com.pragma.r2dbc.utils.Constants;
+import lombok.extern.java.Log;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Log
+@Configuration
+public class PasswordHashingConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public BCryptPasswordHasher passwordHasher(PasswordHashingProperties properties) {
+        int strength;
+        if (properties.strength() != null) {
+            strength = properties.strength();
+            log.info(Constants.PASSWORD_HASHING_CONFIGURED + strength);
+        } else {
+            strength = BCryptPasswordHasher.calibrate(
+                    properties.targetLatency(), properties.minStrength(), properties.maxStrength());
+            log.info(Constants.PASSWORD_HASHING_CALIBRATED + strength);
+        }
+        log.info(Constants.PASSWORD_PLAINTEXT_ACCEPTED_UNTIL + properties.plaintextAcceptedUntil());
+        return new BCryptPasswordHasher(strength, properties.threads(), properties.queueCapacity(),
+                properties.plaintextAcceptedUntil());
+    }
+}
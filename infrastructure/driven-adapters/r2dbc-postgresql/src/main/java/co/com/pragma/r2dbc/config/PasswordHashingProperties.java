@@ -0,0 +1,40 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.password-hashing")
+public record PasswordHashingProperties(
+        Integer strength,
+        Duration targetLatency,
+        Integer minStrength,
+        Integer maxStrength,
+        Integer threads,
+        Integer queueCapacity,
+        Instant plaintextAcceptedUntil) {
+
+    public static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(250);
+    public static final int DEFAULT_MIN_STRENGTH = 10;
+    public static final int DEFAULT_MAX_STRENGTH = 14;
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    // Limits accepted by BCrypt itself
+    private static final int BCRYPT_MIN_STRENGTH = 4;
+    private static final int BCRYPT_MAX_STRENGTH = 31;
+
+    public PasswordHashingProperties {
+        targetLatency = targetLatency != null && targetLatency.isPositive() ? targetLatency : DEFAULT_TARGET_LATENCY;
+        minStrength = isValidStrength(minStrength) ? minStrength : DEFAULT_MIN_STRENGTH;
+        maxStrength = isValidStrength(maxStrength) && maxStrength >= minStrength ? maxStrength : Math.max(minStrength, DEFAULT_MAX_STRENGTH);
+        strength = isValidStrength(strength) ? strength : null;
+        threads = threads != null && threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        queueCapacity = queueCapacity != null && queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+        // Sin fecha configurada no se acepta ninguna contraseña en texto plano
+        plaintextAcceptedUntil = plaintextAcceptedUntil != null ? plaintextAcceptedUntil : Instant.EPOCH;
+    }
+
+    private static boolean isValidStrength(Integer value) {
+        return value != null && value >= BCRYPT_MIN_STRENGTH && value <= BCRYPT_MAX_STRENGTH;
+    }
+}
@@ -1,23 +1,42 @@
 package co.com.pragma.r2dbc.config;
 
+import co.com.pragma.r2dbc.routing.DataSourceRoute;
+import co.com.pragma.r2dbc.routing.ReadYourWritesTracker;
+import co.com.pragma.r2dbc.routing.RoutingConnectionFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
+    /* Defaults used when adapters.r2dbc.pool does not define a value */
     public static final int INITIAL_SIZE = 12;
     public static final int MAX_SIZE = 15;
     public static final int MAX_IDLE_TIME = 30;
+    public static final int ACQUIRE_RETRY = 1;
     public static final int DEFAULT_PORT = 5432;
+    public static final String VALIDATION_QUERY = "SELECT 1";
+    public static final String POOL_NAME = "api-postgres-connection-pool";
 
-	@Bean
+    public static final String PRIMARY_POOL_BEAN = "getConnectionConfig";
+    public static final String READ_REPLICA_POOL_BEAN = "readReplicaConnectionPool";
+    public static final String READ_REPLICA_POOL_NAME = "api-postgres-read-replica-pool";
+
+	@Bean(PRIMARY_POOL_BEAN)
 	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
@@ -28,15 +47,84 @@ public class PostgreSQLConnectionPool {
                 .password(properties.password())
                 .build();
 
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
+        return new ConnectionPool(poolConfiguration(
+                new PostgresqlConnectionFactory(dbConfiguration), POOL_NAME, properties.pool()));
+	}
+
+    @Bean(READ_REPLICA_POOL_BEAN)
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "enabled", havingValue = "true")
+    public ConnectionPool readReplicaConnectionPool(ReadReplicaProperties replica,
+                                                    PostgresqlConnectionProperties primary) {
+        PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
+                .host(replica.host())
+                .port(replica.port() != null ? replica.port() : DEFAULT_PORT)
+                .database(replica.database() != null ? replica.database() : primary.database())
+                .schema(replica.schema() != null ? replica.schema() : primary.schema())
+                .username(replica.username() != null ? replica.username() : primary.username())
+                .password(replica.password() != null ? replica.password() : primary.password())
                 .build();
 
-		return new ConnectionPool(poolConfiguration);
-	}
-}
\ No newline at end of file
+        return new ConnectionPool(poolConfiguration(
+                new PostgresqlConnectionFactory(dbConfiguration), READ_REPLICA_POOL_NAME, replica.pool()));
+    }
+
+    @Bean
+    @Primary
+    public ConnectionFactory routingConnectionFactory(@Qualifier(PRIMARY_POOL_BEAN) ConnectionPool primary,
+                                                      @Qualifier(READ_REPLICA_POOL_BEAN) ObjectProvider<ConnectionPool> readReplica) {
+        Map<DataSourceRoute, ConnectionFactory> targets = new EnumMap<>(DataSourceRoute.class);
+        targets.put(DataSourceRoute.PRIMARY, primary);
+        readReplica.ifAvailable(replica -> targets.put(DataSourceRoute.READ_REPLICA, replica));
+
+        RoutingConnectionFactory routingConnectionFactory = new RoutingConnectionFactory();
+        routingConnectionFactory.setTargetConnectionFactories(targets);
+        routingConnectionFactory.setDefaultTargetConnectionFactory(primary);
+        return routingConnectionFactory;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties replica) {
+        return new ReadYourWritesTracker(replica.readYourWritesWindow());
+    }
+
+    @Bean
+    public MeterBinder connectionPoolMetrics(@Qualifier(PRIMARY_POOL_BEAN) ConnectionPool connectionPool) {
+        return new ConnectionPoolMetricsBinder(connectionPool, POOL_NAME);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "enabled", havingValue = "true")
+    public MeterBinder readReplicaConnectionPoolMetrics(@Qualifier(READ_REPLICA_POOL_BEAN) ConnectionPool connectionPool) {
+        return new ConnectionPoolMetricsBinder(connectionPool, READ_REPLICA_POOL_NAME);
+    }
+
+    static ConnectionPoolConfiguration poolConfiguration(PostgresqlConnectionFactory connectionFactory,
+                                                         String name,
+                                                         PostgresqlConnectionProperties.Pool pool) {
+        PostgresqlConnectionProperties.Pool settings = pool != null ? pool : PostgresqlConnectionProperties.Pool.defaults();
+
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder()
+                .connectionFactory(connectionFactory)
+                .name(name)
+                .initialSize(settings.initialSize())
+                .maxSize(settings.maxSize())
+                .acquireRetry(settings.acquireRetry())
+                .validationQuery(settings.validationQuery())
+                .validationDepth(settings.validationDepth());
+
+        applyDuration(settings.maxIdleTime(), builder::maxIdleTime);
+        applyDuration(settings.maxAcquireTime(), builder::maxAcquireTime);
+        applyDuration(settings.maxCreateConnectionTime(), builder::maxCreateConnectionTime);
+        applyDuration(settings.maxLifeTime(), builder::maxLifeTime);
+        applyDuration(settings.backgroundEvictionInterval(), builder::backgroundEvictionInterval);
+
+        return builder.build();
+    }
+
+    /* Negative or missing durations keep the r2dbc-pool default (no timeout) */
+    private static void applyDuration(Duration value, Consumer<Duration> setter) {
+        if (value != null && !value.isNegative()) {
+            setter.accept(value);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package co.com.pragma.r2dbc.config;
 
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "adapters.r2dbc")
 public record PostgresqlConnectionProperties(
         String host,
@@ -9,5 +12,32 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
+        String password,
+        Pool pool) {
+
+    public record Pool(
+            Integer initialSize,
+            Integer maxSize,
+            Duration maxIdleTime,
+            Duration maxAcquireTime,
+            Duration maxCreateConnectionTime,
+            Duration maxLifeTime,
+            Duration backgroundEvictionInterval,
+            String validationQuery,
+            ValidationDepth validationDepth,
+            Integer acquireRetry) {
+
+        public Pool {
+            initialSize = initialSize != null ? initialSize : PostgreSQLConnectionPool.INITIAL_SIZE;
+            maxSize = maxSize != null ? maxSize : PostgreSQLConnectionPool.MAX_SIZE;
+            maxIdleTime = maxIdleTime != null ? maxIdleTime : Duration.ofMinutes(PostgreSQLConnectionPool.MAX_IDLE_TIME);
+            validationQuery = validationQuery != null ? validationQuery : PostgreSQLConnectionPool.VALIDATION_QUERY;
+            validationDepth = validationDepth != null ? validationDepth : ValidationDepth.LOCAL;
+            acquireRetry = acquireRetry != null ? acquireRetry : PostgreSQLConnectionPool.ACQUIRE_RETRY;
+        }
+
+        public static Pool defaults() {
+            return new Pool(null, null, null, null, null, null, null, null, null, null);
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.replica")
+public record ReadReplicaProperties(
+        boolean enabled,
+        String host,
+        Integer port,
+        String database,
+        String schema,
+        String username,
+        String password,
+        PostgresqlConnectionProperties.Pool pool,
+        Duration readYourWritesWindow) {
+
+    public static final Duration DEFAULT_READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(5);
+
+    public ReadReplicaProperties {
+        readYourWritesWindow = readYourWritesWindow != null ? readYourWritesWindow : DEFAULT_READ_YOUR_WRITES_WINDOW;
+    }
+}
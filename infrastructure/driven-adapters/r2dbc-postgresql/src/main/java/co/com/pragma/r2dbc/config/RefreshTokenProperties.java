@@ -0,0 +1,18 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.refresh-tokens")
+public record RefreshTokenProperties(Duration ttl, Long hotIndexMaximumSize) {
+
+    public static final Duration DEFAULT_TTL = Duration.ofDays(30);
+    public static final long DEFAULT_HOT_INDEX_MAXIMUM_SIZE = 100_000;
+
+    public RefreshTokenProperties {
+        ttl = ttl != null && ttl.isPositive() ? ttl : DEFAULT_TTL;
+        hotIndexMaximumSize = hotIndexMaximumSize != null && hotIndexMaximumSize > 0
+                ? hotIndexMaximumSize : DEFAULT_HOT_INDEX_MAXIMUM_SIZE;
+    }
+}
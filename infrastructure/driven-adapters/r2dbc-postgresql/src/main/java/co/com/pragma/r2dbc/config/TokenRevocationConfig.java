@@ -0,0 +1,23 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.revocation.TokenRevocationRepositoryAdapter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean(destroyMethod = "stop")
+    public TokenRevocationRepositoryAdapter tokenRevocationRepositoryAdapter(TokenRevocationProperties properties,
+                                                                             DatabaseClient databaseClient) {
+        return new TokenRevocationRepositoryAdapter(properties, databaseClient);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> tokenRevocationStarter(TokenRevocationRepositoryAdapter adapter) {
+        return event -> adapter.start();
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.token-revocation")
+public record TokenRevocationProperties(
+        Duration refreshInterval,
+        Duration bucketWidth,
+        Duration purgeInterval) {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_BUCKET_WIDTH = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_PURGE_INTERVAL = Duration.ofMinutes(10);
+
+    public TokenRevocationProperties {
+        refreshInterval = refreshInterval != null && refreshInterval.isPositive() ? refreshInterval : DEFAULT_REFRESH_INTERVAL;
+        bucketWidth = bucketWidth != null && bucketWidth.isPositive() ? bucketWidth : DEFAULT_BUCKET_WIDTH;
+        purgeInterval = purgeInterval != null && purgeInterval.isPositive() ? purgeInterval : DEFAULT_PURGE_INTERVAL;
+    }
+}
@@ -0,0 +1,23 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.user.cache.UserDocumentCache;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserCacheConfig {
+    public static final String USERS_BY_DOCUMENT_CACHE = "users.by-document";
+
+    @Bean
+    public UserDocumentCache userDocumentCache(UserCacheProperties properties) {
+        return new UserDocumentCache(properties);
+    }
+
+    @Bean
+    public MeterBinder userDocumentCacheMetrics(UserDocumentCache userDocumentCache) {
+        return new CaffeineCacheMetrics<>(userDocumentCache.nativeCache().synchronous(), USERS_BY_DOCUMENT_CACHE, Tags.empty());
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.user-cache")
+public record UserCacheProperties(
+        boolean enabled,
+        Long maximumSize,
+        Duration expireAfterWrite) {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+
+    public UserCacheProperties {
+        maximumSize = maximumSize != null && maximumSize >= 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+        expireAfterWrite = expireAfterWrite != null && !expireAfterWrite.isNegative()
+                ? expireAfterWrite : DEFAULT_EXPIRE_AFTER_WRITE;
+    }
+}
@@ -0,0 +1,24 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.insert-batch")
+public record UserInsertBatchProperties(
+        boolean enabled,
+        Integer maxSize,
+        Duration maxWait,
+        Integer maxConcurrentFlushes) {
+
+    public static final int DEFAULT_MAX_SIZE = 50;
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofMillis(5);
+    public static final int DEFAULT_MAX_CONCURRENT_FLUSHES = 4;
+
+    public UserInsertBatchProperties {
+        maxSize = maxSize != null && maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE;
+        maxWait = maxWait != null && !maxWait.isNegative() && !maxWait.isZero() ? maxWait : DEFAULT_MAX_WAIT;
+        maxConcurrentFlushes = maxConcurrentFlushes != null && maxConcurrentFlushes > 0
+                ? maxConcurrentFlushes : DEFAULT_MAX_CONCURRENT_FLUSHES;
+    }
+}
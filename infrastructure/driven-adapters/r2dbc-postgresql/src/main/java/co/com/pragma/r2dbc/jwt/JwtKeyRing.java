@@ -0,0 +1,263 @@
+package co.com.pragma.r2dbc.jwt;
+
+import co.com.pragma.r2dbc.config.JwtProperties;
+import co.com.pragma.r2dbc.utils.Constants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.java.Log;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Signing and verification keys indexed by {@code kid}. Resolves the verification key from the
+ * token header, checking that the header algorithm is the one the key was registered with.
+ * Tokens without a kid only verify against the configured legacy secret, and only until the
+ * configured migration window closes; that secret never signs. Without both settings there is no
+ * legacy key and such tokens are rejected.
+ */
+@Log
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+  static final String HMAC_KID = "hmac";
+  private static final int MIN_SECRET_BYTES = 32;
+
+  private final SignatureAlgorithm algorithm;
+  private final String activeKid;
+  private final Key signingKey;
+  private final Key legacyHmacKey;
+  private final Instant legacySecretValidUntil;
+  private final Map<String, VerificationKey> verificationKeys;
+  private final List<Map<String, Object>> publicJwks;
+
+  public JwtKeyRing(JwtProperties properties) {
+    this.algorithm = SignatureAlgorithm.forName(properties.algorithm());
+    if (algorithm != SignatureAlgorithm.HS256 && algorithm != SignatureAlgorithm.RS256
+            && algorithm != SignatureAlgorithm.ES256) {
+      throw new IllegalStateException(Constants.JWT_UNSUPPORTED_ALGORITHM + algorithm);
+    }
+    if (properties.legacySecret() != null && properties.legacySecretValidUntil() != null) {
+      this.legacyHmacKey = hmacKey(properties.legacySecret());
+      this.legacySecretValidUntil = properties.legacySecretValidUntil();
+      log.info(Constants.JWT_LEGACY_SECRET_WINDOW + legacySecretValidUntil);
+    } else {
+      this.legacyHmacKey = null;
+      this.legacySecretValidUntil = null;
+      log.info(Constants.JWT_LEGACY_SECRET_DISABLED);
+    }
+
+    Map<String, VerificationKey> keys = new LinkedHashMap<>();
+    Map<String, Key> privateKeys = new LinkedHashMap<>();
+    boolean configured = algorithm.isHmac() ? hasText(properties.secret()) : !properties.keys().isEmpty();
+    if (!configured && properties.clusterSize() > 1) {
+      throw new IllegalStateException(Constants.JWT_KEYS_REQUIRED_FOR_CLUSTER + properties.clusterSize());
+    }
+    if (algorithm.isHmac()) {
+      String kid = properties.activeKid() != null ? properties.activeKid() : HMAC_KID;
+      Key secretKey = configured ? hmacKey(properties.secret()) : Keys.secretKeyFor(SignatureAlgorithm.HS256);
+      if (!configured) {
+        log.warning(Constants.JWT_EPHEMERAL_KEY + kid);
+      }
+      keys.put(kid, new VerificationKey(algorithm, secretKey));
+      privateKeys.put(kid, secretKey);
+    } else if (!configured) {
+      String kid = "ephemeral-" + UUID.randomUUID().toString().substring(0, 8);
+      KeyPair keyPair = generateKeyPair(algorithm);
+      keys.put(kid, new VerificationKey(algorithm, keyPair.getPublic()));
+      privateKeys.put(kid, keyPair.getPrivate());
+      log.warning(Constants.JWT_EPHEMERAL_KEY + kid);
+    } else {
+      for (JwtProperties.SigningKey key : properties.keys()) {
+        if (key.kid() == null || key.kid().isBlank() || key.publicKey() == null) {
+          throw new IllegalStateException(Constants.JWT_INVALID_KEY + key.kid());
+        }
+        keys.put(key.kid(), new VerificationKey(algorithm, readPublicKey(algorithm, key.publicKey())));
+        if (hasText(key.privateKey())) {
+          privateKeys.put(key.kid(), readPrivateKey(algorithm, key.privateKey()));
+        }
+      }
+    }
+
+    String kid = properties.activeKid() != null || privateKeys.isEmpty()
+            ? properties.activeKid() : privateKeys.keySet().iterator().next();
+    if (kid == null || !privateKeys.containsKey(kid)) {
+      throw new IllegalStateException(Constants.JWT_ACTIVE_KEY_MISSING + kid);
+    }
+    this.activeKid = kid;
+    this.signingKey = privateKeys.get(kid);
+    this.verificationKeys = Collections.unmodifiableMap(keys);
+
+    List<Map<String, Object>> jwks = new ArrayList<>();
+    keys.forEach((keyId, key) -> {
+      if (key.key() instanceof PublicKey) {
+        jwks.add(toJwk(keyId, key));
+      }
+    });
+    this.publicJwks = List.copyOf(jwks);
+    log.info(Constants.JWT_KEY_RING_LOADED + keys.keySet() + ", activa: " + activeKid);
+  }
+
+  public SignatureAlgorithm algorithm() {
+    return algorithm;
+  }
+
+  public String activeKid() {
+    return activeKid;
+  }
+
+  public Key signingKey() {
+    return signingKey;
+  }
+
+  public List<Map<String, Object>> publicJwks() {
+    return publicJwks;
+  }
+
+  @Override
+  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+    return resolve(header);
+  }
+
+  @Override
+  public Key resolveSigningKey(JwsHeader header, String plaintext) {
+    return resolve(header);
+  }
+
+  private Key resolve(JwsHeader header) {
+    String kid = header.getKeyId();
+    if (kid == null) {
+      if (!SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+        throw new SignatureException(Constants.JWT_UNKNOWN_KID + null);
+      }
+      if (legacyHmacKey == null) {
+        throw new SignatureException(Constants.JWT_LEGACY_SECRET_DISABLED);
+      }
+      if (!Instant.now().isBefore(legacySecretValidUntil)) {
+        throw new SignatureException(Constants.JWT_LEGACY_SECRET_EXPIRED + legacySecretValidUntil);
+      }
+      return legacyHmacKey;
+    }
+    VerificationKey key = verificationKeys.get(kid);
+    if (key == null) {
+      throw new SignatureException(Constants.JWT_UNKNOWN_KID + kid);
+    }
+    if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+      throw new SignatureException(Constants.JWT_ALGORITHM_MISMATCH + header.getAlgorithm());
+    }
+    return key.key();
+  }
+
+  private static Key hmacKey(String secret) {
+    byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length < MIN_SECRET_BYTES) {
+      throw new IllegalStateException(Constants.JWT_SECRET_TOO_SHORT + bytes.length);
+    }
+    return Keys.hmacShaKeyFor(bytes);
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  private static Map<String, Object> toJwk(String kid, VerificationKey key) {
+    Map<String, Object> jwk = new LinkedHashMap<>();
+    jwk.put("kid", kid);
+    jwk.put("use", "sig");
+    jwk.put("alg", key.algorithm().getValue());
+    if (key.key() instanceof RSAPublicKey rsa) {
+      jwk.put("kty", "RSA");
+      jwk.put("n", base64Url(rsa.getModulus(), 0));
+      jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+    } else if (key.key() instanceof ECPublicKey ec) {
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("x", base64Url(ec.getW().getAffineX(), 32));
+      jwk.put("y", base64Url(ec.getW().getAffineY(), 32));
+    }
+    return jwk;
+  }
+
+  // Entero sin signo en big-endian, rellenado a izquierda hasta length bytes cuando length > 0
+  static String base64Url(BigInteger value, int length) {
+    byte[] bytes = value.toByteArray();
+    if (bytes.length > 1 && bytes[0] == 0) {
+      bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+    }
+    if (length > bytes.length) {
+      byte[] padded = new byte[length];
+      System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+      bytes = padded;
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  private static PublicKey readPublicKey(SignatureAlgorithm algorithm, String pem) {
+    try {
+      return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(decodePem(pem)));
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalStateException(Constants.JWT_INVALID_KEY + e.getMessage(), e);
+    }
+  }
+
+  private static PrivateKey readPrivateKey(SignatureAlgorithm algorithm, String pem) {
+    try {
+      return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(decodePem(pem)));
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalStateException(Constants.JWT_INVALID_KEY + e.getMessage(), e);
+    }
+  }
+
+  private static byte[] decodePem(String pem) {
+    String body = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+    return Base64.getDecoder().decode(body);
+  }
+
+  private static KeyFactory keyFactory(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+    return KeyFactory.getInstance(algorithm.isEllipticCurve() ? "EC" : "RSA");
+  }
+
+  static KeyPair generateKeyPair(SignatureAlgorithm algorithm) {
+    try {
+      if (algorithm == SignatureAlgorithm.ES256) {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+      }
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      return generator.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record VerificationKey(SignatureAlgorithm algorithm, Key key) {
+  }
+}
@@ -1,16 +1,18 @@
 package co.com.pragma.r2dbc.jwt;
 
-import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.UserCredentials;
 import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.r2dbc.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.java.Log;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -18,79 +20,90 @@ import java.util.stream.Collectors;
 @Log
 public class JwtProviderImpl implements JwtProvider {
 
-  private final Key secretKey = Keys.hmacShaKeyFor("ClaveSuperSecretaDeJWTQueDebeTenerAlMenos256Bits!".getBytes());
-  private final long expirationMillis = 3600000; // 1 hora
+  private final JwtKeyRing keyRing;
+  private final long expirationMillis;
+  // Inmutable y thread-safe: se construye una sola vez y se reutiliza en cada petición
+  private final JwtParser jwtParser;
+
+  public JwtProviderImpl(JwtKeyRing keyRing, JwtProperties properties) {
+    this.keyRing = keyRing;
+    this.expirationMillis = properties.expiration().toMillis();
+    this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+  }
 
   @Override
-  public String generateToken(UserParameters userParameters, Map<String, Object> claims) {
+  public String generateToken(UserCredentials credentials, Map<String, Object> claims) {
     Date now = new Date();
     Date expiryDate = new Date(now.getTime() + expirationMillis);
 
-    log.info("Generando token para usuario: " + userParameters.getId());
+    log.fine(() -> "Generando token para usuario: " + credentials.id());
 
-      claims.put("salarioBase", userParameters.getSalarioBase());
-      claims.put("correoElectronico", Base64.getEncoder().encodeToString(userParameters.getCorreoElectronico().getBytes()));
-    log.info("Claims a incluir en el token: " + claims);
-    return Jwts.builder()
-            .setSubject(String.valueOf(userParameters.getId()))
+      claims.put("salarioBase", credentials.salarioBase());
+      claims.put("correoElectronico", Base64.getEncoder().encodeToString(credentials.correoElectronico().getBytes()));
+    log.fine(() -> "Claims a incluir en el token: " + claims.keySet());
+    JwtBuilder builder = Jwts.builder();
+    if (keyRing.activeKid() != null) {
+      builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.activeKid());
+    }
+    return builder
+            .setSubject(String.valueOf(credentials.id()))
+            .setId(UUID.randomUUID().toString())
             .addClaims(claims)
             .setIssuedAt(now)
             .setExpiration(expiryDate)
-            .signWith(secretKey, SignatureAlgorithm.HS256)
+            .signWith(keyRing.signingKey(), keyRing.algorithm())
             .compact();
   }
 
 
   @Override
   public boolean validateToken(String token) {
+    return parseToken(token).isPresent();
+  }
+
+  @Override
+  public Optional<TokenPrincipal> parseToken(String token) {
     try {
-      Jwts.parserBuilder()
-              .setSigningKey(secretKey)
-              .build()
-              .parseClaimsJws(token);
-      return true;
+      Claims claims = jwtParser.parseClaimsJws(token).getBody();
+      return Optional.of(new TokenPrincipal(
+              claims.getSubject(),
+              claims.getId(),
+              splitRoles(claims.get("roles", String.class)),
+              claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
     } catch (JwtException | IllegalArgumentException e) {
-      return false;
+      return Optional.empty();
     }
   }
 
+  @Override
+  public List<Map<String, Object>> getPublicJwks() {
+    return keyRing.publicJwks();
+  }
+
   @Override
   public String getUserIdFromToken(String token) {
-    Claims claims = Jwts.parserBuilder()
-            .setSigningKey(secretKey)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
-    return claims.getSubject();
+    return jwtParser.parseClaimsJws(token).getBody().getSubject();
   }
 
   @Override
   public List<String> getRoleFromToken(String token) {
     try {
-      Claims claims = Jwts.parserBuilder()
-              .setSigningKey(secretKey)
-              .build()
-              .parseClaimsJws(token)
-              .getBody();
-
-      String rolesStr = claims.get("roles", String.class);
-      log.info("Roles extraídos del token: " + (rolesStr != null ? rolesStr : "null"));
-
-      if (rolesStr == null || rolesStr.isEmpty()) {
-        log.info("No se encontraron roles en el token");
-        return List.of();
-      }
-
-      List<String> roles = Arrays.stream(rolesStr.split(","))
-              .map(String::trim)
-              .collect(Collectors.toList());
-
-      log.info("Roles procesados: " + roles);
-      return roles;
+      String rolesStr = jwtParser.parseClaimsJws(token).getBody().get("roles", String.class);
+      log.fine(() -> "Roles extraídos del token: " + (rolesStr != null ? rolesStr : "null"));
+      return splitRoles(rolesStr);
     } catch (Exception e) {
-      log.info("Error al obtener roles del token: " + e.getMessage());
+      log.warning(() -> "Error al obtener roles del token: " + e.getMessage());
+      return List.of();
+    }
+  }
+
+  private static List<String> splitRoles(String rolesStr) {
+    if (rolesStr == null || rolesStr.isEmpty()) {
       return List.of();
     }
+    return Arrays.stream(rolesStr.split(","))
+            .map(String::trim)
+            .collect(Collectors.toList());
   }
 
 }
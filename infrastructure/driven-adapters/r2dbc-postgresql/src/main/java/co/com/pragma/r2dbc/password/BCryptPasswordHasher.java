@@ -0,0 +1,186 @@
+package co.com.pragma.r2dbc.password;
+
+import co.com.pragma.model.user.user.gateways.PasswordHasher;
+import co.com.pragma.r2dbc.utils.Constants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.java.Log;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt hashing on its own fixed-size pool with a bounded queue, so login CPU never runs
+ * on event-loop threads and a burst is rejected instead of piling up. Values that are not
+ * bcrypt hashes are treated as legacy plaintext and flagged for rehash, but only match until
+ * {@code plaintextAcceptedUntil}; every plaintext comparison is counted by outcome.
+ */
+@Log
+public class BCryptPasswordHasher implements PasswordHasher, MeterBinder {
+
+  private static final String METRIC_PREFIX = "auth.password-hashing.";
+  private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./A-Za-z0-9]{53}$");
+  private static final String CALIBRATION_INPUT = "calibration-password";
+
+  private final int strength;
+  private final Instant plaintextAcceptedUntil;
+  private final BCryptPasswordEncoder encoder;
+  private final ThreadPoolExecutor executor;
+  private final Scheduler scheduler;
+  private final LongAdder hashCount = new LongAdder();
+  private final LongAdder hashNanos = new LongAdder();
+  private final LongAdder verifyCount = new LongAdder();
+  private final LongAdder verifyNanos = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder plaintextMatched = new LongAdder();
+  private final LongAdder plaintextMismatched = new LongAdder();
+  private final LongAdder plaintextExpired = new LongAdder();
+
+  public BCryptPasswordHasher(int strength, int threads, int queueCapacity, Instant plaintextAcceptedUntil) {
+    this.strength = strength;
+    this.plaintextAcceptedUntil = plaintextAcceptedUntil;
+    this.encoder = new BCryptPasswordEncoder(strength);
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, Constants.PASSWORD_HASHING_POOL + "-" + threadIndex.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            (runnable, pool) -> {
+              rejected.increment();
+              new ThreadPoolExecutor.AbortPolicy().rejectedExecution(runnable, pool);
+            });
+    this.scheduler = Schedulers.fromExecutorService(executor, Constants.PASSWORD_HASHING_POOL);
+  }
+
+  @Override
+  public Mono<String> hash(String rawPassword) {
+    return timed(() -> encoder.encode(rawPassword), hashCount, hashNanos);
+  }
+
+  @Override
+  public Mono<Boolean> matches(String rawPassword, String storedPassword) {
+    if (rawPassword == null || storedPassword == null) {
+      return Mono.just(false);
+    }
+    if (!isBcrypt(storedPassword)) {
+      return Mono.just(matchesPlaintext(rawPassword, storedPassword));
+    }
+    return timed(() -> encoder.matches(rawPassword, storedPassword), verifyCount, verifyNanos);
+  }
+
+  @Override
+  public boolean needsRehash(String storedPassword) {
+    if (storedPassword == null) {
+      return false;
+    }
+    // Un costo mayor (p. ej. calibrado en otro nodo más rápido) no se degrada
+    Matcher matcher = BCRYPT_HASH.matcher(storedPassword);
+    return !matcher.matches() || Integer.parseInt(matcher.group(1)) < strength;
+  }
+
+  public int strength() {
+    return strength;
+  }
+
+  public void dispose() {
+    scheduler.dispose();
+    executor.shutdown();
+  }
+
+  /**
+   * Picks the highest cost, within bounds, whose hash time stays under the target.
+   * Each extra cost step doubles the work, so one measurement at the minimum is enough.
+   */
+  public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+    BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+    probe.encode(CALIBRATION_INPUT);
+    long start = System.nanoTime();
+    probe.encode(CALIBRATION_INPUT);
+    long elapsed = Math.max(1, System.nanoTime() - start);
+    double headroom = (double) targetLatency.toNanos() / elapsed;
+    int extraSteps = headroom >= 1 ? (int) Math.floor(Math.log(headroom) / Math.log(2)) : 0;
+    return Math.min(maxStrength, minStrength + extraSteps);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionTimer.builder(METRIC_PREFIX + "latency", this,
+                    hasher -> hasher.hashCount.sum(), hasher -> hasher.hashNanos.sum(), TimeUnit.NANOSECONDS)
+            .tag("operation", "hash")
+            .register(registry);
+    FunctionTimer.builder(METRIC_PREFIX + "latency", this,
+                    hasher -> hasher.verifyCount.sum(), hasher -> hasher.verifyNanos.sum(), TimeUnit.NANOSECONDS)
+            .tag("operation", "verify")
+            .register(registry);
+    Gauge.builder(METRIC_PREFIX + "queue.depth", executor, pool -> pool.getQueue().size())
+            .register(registry);
+    Gauge.builder(METRIC_PREFIX + "active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(registry);
+    Gauge.builder(METRIC_PREFIX + "strength", this, BCryptPasswordHasher::strength)
+            .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + "rejected", rejected, LongAdder::sum)
+            .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + "plaintext", plaintextMatched, LongAdder::sum)
+            .tag("outcome", "match")
+            .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + "plaintext", plaintextMismatched, LongAdder::sum)
+            .tag("outcome", "mismatch")
+            .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + "plaintext", plaintextExpired, LongAdder::sum)
+            .tag("outcome", "expired")
+            .register(registry);
+  }
+
+  private boolean matchesPlaintext(String rawPassword, String storedPassword) {
+    if (!Instant.now().isBefore(plaintextAcceptedUntil)) {
+      plaintextExpired.increment();
+      log.warning(Constants.PASSWORD_PLAINTEXT_EXPIRED + plaintextAcceptedUntil);
+      return false;
+    }
+    boolean matched = MessageDigest.isEqual(
+            rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+    if (matched) {
+      plaintextMatched.increment();
+    } else {
+      plaintextMismatched.increment();
+    }
+    return matched;
+  }
+
+  private static boolean isBcrypt(String storedPassword) {
+    return BCRYPT_HASH.matcher(storedPassword).matches();
+  }
+
+  private <T> Mono<T> timed(Supplier<T> work, LongAdder count, LongAdder nanos) {
+    return Mono.fromCallable(() -> {
+              long start = System.nanoTime();
+              try {
+                return work.get();
+              } finally {
+                count.increment();
+                nanos.add(System.nanoTime() - start);
+              }
+            })
+            .subscribeOn(scheduler);
+  }
+}
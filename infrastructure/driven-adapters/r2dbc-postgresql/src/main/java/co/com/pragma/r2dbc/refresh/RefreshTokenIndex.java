@@ -0,0 +1,58 @@
+package co.com.pragma.r2dbc.refresh;
+
+import co.com.pragma.r2dbc.config.RefreshTokenProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * In-memory view of the refresh tokens this instance has issued or rotated recently. It lets
+ * expired, rotated (reused) or revoked tokens be rejected without touching the database;
+ * anything it does not know about falls through to the table, which stays the source of truth.
+ */
+@Component
+public class RefreshTokenIndex {
+
+  public enum State { ACTIVE, ROTATED }
+
+  public record Entry(UUID familyId, Instant expiresAt, State state) {
+  }
+
+  private final Cache<ByteBuffer, Entry> tokens;
+  private final Cache<UUID, Boolean> revokedFamilies;
+
+  public RefreshTokenIndex(RefreshTokenProperties properties) {
+    this.tokens = Caffeine.newBuilder()
+            .maximumSize(properties.hotIndexMaximumSize())
+            .expireAfterWrite(properties.ttl())
+            .build();
+    this.revokedFamilies = Caffeine.newBuilder()
+            .maximumSize(properties.hotIndexMaximumSize())
+            .expireAfterWrite(properties.ttl())
+            .build();
+  }
+
+  public Entry get(byte[] tokenHash) {
+    return tokens.getIfPresent(ByteBuffer.wrap(tokenHash));
+  }
+
+  public void active(byte[] tokenHash, UUID familyId, Instant expiresAt) {
+    tokens.put(ByteBuffer.wrap(tokenHash), new Entry(familyId, expiresAt, State.ACTIVE));
+  }
+
+  public void rotated(byte[] tokenHash, UUID familyId, Instant expiresAt) {
+    tokens.put(ByteBuffer.wrap(tokenHash), new Entry(familyId, expiresAt, State.ROTATED));
+  }
+
+  public void revokeFamily(UUID familyId) {
+    revokedFamilies.put(familyId, Boolean.TRUE);
+  }
+
+  public boolean isRevoked(UUID familyId) {
+    return revokedFamilies.getIfPresent(familyId) != null;
+  }
+}
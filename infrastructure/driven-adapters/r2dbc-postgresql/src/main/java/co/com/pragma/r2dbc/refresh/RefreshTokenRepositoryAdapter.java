@@ -0,0 +1,212 @@
+package co.com.pragma.r2dbc.refresh;
+
+import co.com.pragma.model.user.user.RefreshedSession;
+import co.com.pragma.model.user.user.UserCredentials;
+import co.com.pragma.model.user.user.gateways.RefreshTokenGateway;
+import co.com.pragma.r2dbc.config.RefreshTokenProperties;
+import co.com.pragma.r2dbc.exceptions.RepositoryException;
+import co.com.pragma.r2dbc.utils.Constants;
+import lombok.extern.java.Log;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens. A refresh is one statement: the presented row is marked as rotated,
+ * its successor inserted and the user's current credentials returned, all keyed by the primary key.
+ */
+@Repository
+@Log
+public class RefreshTokenRepositoryAdapter implements RefreshTokenGateway {
+
+  private static final String INSERT_TOKEN = """
+          INSERT INTO refresh_tokens (token_hash, family_id, user_id, expires_at)
+          VALUES (:tokenHash, :familyId, :userId, :expiresAt)
+          """;
+  // The successor keeps the family expiry, so a session cannot be extended past its TTL
+  private static final String ROTATE_TOKEN = """
+          WITH consumed AS (
+              UPDATE refresh_tokens
+                 SET rotated_at = now()
+               WHERE token_hash = :tokenHash
+                 AND rotated_at IS NULL
+                 AND revoked_at IS NULL
+                 AND expires_at > now()
+              RETURNING family_id, user_id, expires_at
+          ), issued AS (
+              INSERT INTO refresh_tokens (token_hash, family_id, user_id, expires_at)
+              SELECT :nextTokenHash, family_id, user_id, expires_at FROM consumed
+          )
+          SELECT c.family_id, c.expires_at, u.id, u.correo_electronico, u.role, u.salario_base
+            FROM consumed c
+            JOIN users u ON u.id = c.user_id
+          """;
+  private static final String REVOKE_REUSED_FAMILY = """
+          UPDATE refresh_tokens
+             SET revoked_at = now()
+           WHERE family_id = (SELECT family_id FROM refresh_tokens
+                               WHERE token_hash = :tokenHash AND rotated_at IS NOT NULL)
+             AND revoked_at IS NULL
+          RETURNING family_id
+          """;
+  private static final String REVOKE_FAMILY = """
+          UPDATE refresh_tokens
+             SET revoked_at = now()
+           WHERE family_id = :familyId
+             AND revoked_at IS NULL
+          """;
+  private static final String REVOKE_USER_FAMILIES = """
+          UPDATE refresh_tokens
+             SET revoked_at = now()
+           WHERE user_id = :userId
+             AND revoked_at IS NULL
+          RETURNING family_id
+          """;
+  private static final int TOKEN_BYTES = 32;
+
+  private final SecureRandom secureRandom = new SecureRandom();
+  private final DatabaseClient databaseClient;
+  private final RefreshTokenIndex refreshTokenIndex;
+  private final Duration ttl;
+
+  public RefreshTokenRepositoryAdapter(R2dbcEntityTemplate template,
+                                       RefreshTokenIndex refreshTokenIndex,
+                                       RefreshTokenProperties properties) {
+    this.databaseClient = template.getDatabaseClient();
+    this.refreshTokenIndex = refreshTokenIndex;
+    this.ttl = properties.ttl();
+  }
+
+  @Override
+  public Mono<String> issue(Long userId) {
+    String token = newToken();
+    byte[] tokenHash = hash(token);
+    UUID familyId = UUID.randomUUID();
+    Instant expiresAt = Instant.now().plus(ttl);
+    return databaseClient.sql(INSERT_TOKEN)
+            .bind("tokenHash", tokenHash)
+            .bind("familyId", familyId)
+            .bind("userId", userId)
+            .bind("expiresAt", expiresAt)
+            .fetch()
+            .rowsUpdated()
+            .doOnSuccess(rows -> refreshTokenIndex.active(tokenHash, familyId, expiresAt))
+            .thenReturn(token)
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_REFRESH_TOKEN + e.getMessage());
+              return new RepositoryException(Constants.ERROR_REFRESH_TOKEN + e.getMessage(), e);
+            });
+  }
+
+  @Override
+  public Mono<RefreshedSession> rotate(String refreshToken) {
+    byte[] tokenHash = hash(refreshToken);
+    RefreshTokenIndex.Entry known = refreshTokenIndex.get(tokenHash);
+    if (known != null) {
+      if (known.state() == RefreshTokenIndex.State.ROTATED) {
+        log.warning(Constants.REFRESH_TOKEN_REUSE_DETECTED + known.familyId());
+        return revokeFamily(known.familyId()).then(Mono.empty());
+      }
+      if (refreshTokenIndex.isRevoked(known.familyId()) || !known.expiresAt().isAfter(Instant.now())) {
+        return Mono.empty();
+      }
+    }
+
+    String nextToken = newToken();
+    byte[] nextTokenHash = hash(nextToken);
+    return databaseClient.sql(ROTATE_TOKEN)
+            .bind("tokenHash", tokenHash)
+            .bind("nextTokenHash", nextTokenHash)
+            .map(row -> new Rotation(
+                    row.get("family_id", UUID.class),
+                    row.get("expires_at", Instant.class),
+                    new UserCredentials(
+                            row.get("id", Long.class),
+                            row.get("correo_electronico", String.class),
+                            null,
+                            row.get("role", String.class),
+                            toBigDecimal(row.get("salario_base", Double.class)))))
+            .one()
+            .map(rotation -> {
+              refreshTokenIndex.rotated(tokenHash, rotation.familyId(), rotation.expiresAt());
+              refreshTokenIndex.active(nextTokenHash, rotation.familyId(), rotation.expiresAt());
+              return new RefreshedSession(rotation.credentials(), nextToken);
+            })
+            .switchIfEmpty(Mono.defer(() -> revokeIfReused(tokenHash)).then(Mono.empty()))
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_REFRESH_TOKEN + e.getMessage());
+              return new RepositoryException(Constants.ERROR_REFRESH_TOKEN + e.getMessage(), e);
+            });
+  }
+
+  @Override
+  public Mono<Void> revokeAll(Long userId) {
+    return databaseClient.sql(REVOKE_USER_FAMILIES)
+            .bind("userId", userId)
+            .map(row -> row.get("family_id", UUID.class))
+            .all()
+            .distinct()
+            .doOnNext(refreshTokenIndex::revokeFamily)
+            .count()
+            .doOnNext(families -> log.fine(() -> Constants.REFRESH_FAMILIES_REVOKED + userId + ": " + families))
+            .then()
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_REFRESH_TOKEN + e.getMessage());
+              return new RepositoryException(Constants.ERROR_REFRESH_TOKEN + e.getMessage(), e);
+            });
+  }
+
+  private Mono<Void> revokeIfReused(byte[] tokenHash) {
+    return databaseClient.sql(REVOKE_REUSED_FAMILY)
+            .bind("tokenHash", tokenHash)
+            .map(row -> row.get("family_id", UUID.class))
+            .all()
+            .distinct()
+            .doOnNext(familyId -> {
+              log.warning(Constants.REFRESH_TOKEN_REUSE_DETECTED + familyId);
+              refreshTokenIndex.revokeFamily(familyId);
+            })
+            .then();
+  }
+
+  private Mono<Void> revokeFamily(UUID familyId) {
+    refreshTokenIndex.revokeFamily(familyId);
+    return databaseClient.sql(REVOKE_FAMILY)
+            .bind("familyId", familyId)
+            .fetch()
+            .rowsUpdated()
+            .then();
+  }
+
+  private String newToken() {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    secureRandom.nextBytes(bytes);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  static byte[] hash(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static BigDecimal toBigDecimal(Double value) {
+    return value != null ? BigDecimal.valueOf(value) : null;
+  }
+
+  record Rotation(UUID familyId, Instant expiresAt, UserCredentials credentials) {
+  }
+}
@@ -0,0 +1,70 @@
+package co.com.pragma.r2dbc.revocation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revoked token ids grouped into buckets by the token's expiry. A lookup hashes
+ * straight into the one bucket the expiry maps to, and once a bucket's window has
+ * passed every token in it is expired anyway, so pruning drops whole buckets.
+ */
+public class RevocationSet {
+
+  // Tokens without exp never leave the set
+  private static final long NO_EXPIRY_BUCKET = Long.MAX_VALUE;
+
+  private final long bucketMillis;
+  private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong size = new AtomicLong();
+
+  public RevocationSet(Duration bucketWidth) {
+    this.bucketMillis = bucketWidth.toMillis();
+  }
+
+  public boolean add(String tokenId, Instant expiresAt) {
+    boolean added = buckets.computeIfAbsent(bucket(expiresAt), key -> ConcurrentHashMap.newKeySet()).add(tokenId);
+    if (added) {
+      size.incrementAndGet();
+    }
+    return added;
+  }
+
+  public boolean contains(String tokenId, Instant expiresAt) {
+    Set<String> bucket = buckets.get(bucket(expiresAt));
+    return bucket != null && bucket.contains(tokenId);
+  }
+
+  /** Drops every bucket whose whole window ends at or before {@code now}. */
+  public int prune(Instant now) {
+    long nowMillis = now.toEpochMilli();
+    int removed = 0;
+    Iterator<Map.Entry<Long, Set<String>>> iterator = buckets.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Long, Set<String>> entry = iterator.next();
+      long bucket = entry.getKey();
+      if (bucket != NO_EXPIRY_BUCKET && (bucket + 1) * bucketMillis <= nowMillis) {
+        iterator.remove();
+        removed += entry.getValue().size();
+      }
+    }
+    size.addAndGet(-removed);
+    return removed;
+  }
+
+  public long size() {
+    return size.get();
+  }
+
+  public int bucketCount() {
+    return buckets.size();
+  }
+
+  private long bucket(Instant expiresAt) {
+    return expiresAt == null ? NO_EXPIRY_BUCKET : Math.floorDiv(expiresAt.toEpochMilli(), bucketMillis);
+  }
+}
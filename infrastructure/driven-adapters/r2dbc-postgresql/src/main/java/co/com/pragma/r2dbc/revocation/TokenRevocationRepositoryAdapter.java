@@ -0,0 +1,150 @@
+package co.com.pragma.r2dbc.revocation;
+
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
+import co.com.pragma.r2dbc.config.TokenRevocationProperties;
+import co.com.pragma.r2dbc.exceptions.RepositoryException;
+import co.com.pragma.r2dbc.utils.Constants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.java.Log;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Persists revoked token ids and mirrors every non-expired one into a
+ * {@link RevocationSet}, so the security filter answers from memory. Each node polls
+ * for revocations made elsewhere; until the first poll finishes the set may be incomplete.
+ */
+@Log
+public class TokenRevocationRepositoryAdapter implements TokenRevocationGateway, MeterBinder {
+
+  private static final String METRIC_PREFIX = "auth.revocation.";
+  private static final String INSERT_REVOKED = """
+          INSERT INTO revoked_tokens (jti, expires_at)
+          VALUES (:jti, :expiresAt)
+          ON CONFLICT (jti) DO NOTHING
+          """;
+  private static final String SELECT_REVOKED_SINCE = """
+          SELECT jti, expires_at, revoked_at
+            FROM revoked_tokens
+           WHERE revoked_at > :since
+             AND (expires_at IS NULL OR expires_at > now())
+          """;
+  private static final String DELETE_EXPIRED = "DELETE FROM revoked_tokens WHERE expires_at <= now()";
+  // Rows that commit out of revoked_at order are picked up by re-reading this window
+  static final Duration CATCH_UP_OVERLAP = Duration.ofSeconds(5);
+
+  private final TokenRevocationProperties properties;
+  private final DatabaseClient databaseClient;
+  private final RevocationSet revoked;
+  private final AtomicReference<Instant> watermark = new AtomicReference<>(Instant.EPOCH);
+  private final LongAdder rejections = new LongAdder();
+  private final Disposable.Composite schedules = Disposables.composite();
+
+  public TokenRevocationRepositoryAdapter(TokenRevocationProperties properties, DatabaseClient databaseClient) {
+    this.properties = properties;
+    this.databaseClient = databaseClient;
+    this.revoked = new RevocationSet(properties.bucketWidth());
+  }
+
+  @Override
+  public Mono<Void> revoke(String tokenId, Instant expiresAt) {
+    DatabaseClient.GenericExecuteSpec statement = databaseClient.sql(INSERT_REVOKED).bind("jti", tokenId);
+    statement = expiresAt != null ? statement.bind("expiresAt", expiresAt) : statement.bindNull("expiresAt", Instant.class);
+    return statement.fetch()
+            .rowsUpdated()
+            .doOnSuccess(rows -> revoked.add(tokenId, expiresAt))
+            .then()
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_REVOKING_TOKEN + e.getMessage());
+              return new RepositoryException(Constants.ERROR_REVOKING_TOKEN + e.getMessage(), e);
+            });
+  }
+
+  @Override
+  public boolean isRevoked(String tokenId, Instant expiresAt) {
+    if (tokenId == null || !revoked.contains(tokenId, expiresAt)) {
+      return false;
+    }
+    rejections.increment();
+    return true;
+  }
+
+  public void start() {
+    schedules.add(Flux.interval(Duration.ZERO, properties.refreshInterval())
+            .onBackpressureDrop()
+            .concatMap(tick -> catchUp(), 1)
+            .subscribe());
+    schedules.add(Flux.interval(properties.purgeInterval(), properties.purgeInterval())
+            .onBackpressureDrop()
+            .concatMap(tick -> purgeExpired(), 1)
+            .subscribe());
+  }
+
+  public void stop() {
+    schedules.dispose();
+  }
+
+  /** Loads revocations made by any node since the last poll and prunes expired buckets. */
+  public Mono<Void> catchUp() {
+    return databaseClient.sql(SELECT_REVOKED_SINCE)
+            .bind("since", watermark.get().minus(CATCH_UP_OVERLAP))
+            .map(row -> new RevokedRow(
+                    row.get("jti", String.class),
+                    row.get("expires_at", Instant.class),
+                    row.get("revoked_at", Instant.class)))
+            .all()
+            .doOnNext(row -> {
+              revoked.add(row.jti(), row.expiresAt());
+              watermark.accumulateAndGet(row.revokedAt(), (current, seen) -> seen.isAfter(current) ? seen : current);
+            })
+            .then(Mono.fromRunnable(() -> revoked.prune(Instant.now())))
+            .onErrorResume(error -> {
+              log.warning(Constants.REVOCATION_SYNC_FAILED + error.getMessage());
+              return Mono.empty();
+            })
+            .then();
+  }
+
+  Mono<Void> purgeExpired() {
+    return databaseClient.sql(DELETE_EXPIRED)
+            .fetch()
+            .rowsUpdated()
+            .doOnNext(rows -> log.info(Constants.REVOKED_TOKENS_PURGED + rows))
+            .onErrorResume(error -> {
+              log.warning(Constants.REVOCATION_SYNC_FAILED + error.getMessage());
+              return Mono.empty();
+            })
+            .then();
+  }
+
+  RevocationSet revocationSet() {
+    return revoked;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(METRIC_PREFIX + "size", revoked, RevocationSet::size)
+            .description("Revoked token ids held in memory")
+            .register(registry);
+    Gauge.builder(METRIC_PREFIX + "buckets", revoked, RevocationSet::bucketCount)
+            .description("Expiry buckets in the in-memory revocation set")
+            .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + "rejections", rejections, LongAdder::sum)
+            .description("Requests rejected because their token was revoked")
+            .register(registry);
+  }
+
+  private record RevokedRow(String jti, Instant expiresAt, Instant revokedAt) {
+  }
+}
@@ -0,0 +1,14 @@
+package co.com.pragma.r2dbc.routing;
+
+import reactor.util.context.Context;
+
+public enum DataSourceRoute {
+  PRIMARY,
+  READ_REPLICA;
+
+  public static final String CONTEXT_KEY = DataSourceRoute.class.getName();
+
+  public Context asContext() {
+    return Context.of(CONTEXT_KEY, this);
+  }
+}
@@ -0,0 +1,60 @@
+package co.com.pragma.r2dbc.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public class ReadYourWritesTracker {
+
+  private static final int PRUNE_THRESHOLD = 10_000;
+
+  private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+  private final long windowNanos;
+  private final LongSupplier clock;
+
+  public ReadYourWritesTracker(Duration window) {
+    this(window, System::nanoTime);
+  }
+
+  ReadYourWritesTracker(Duration window, LongSupplier clock) {
+    this.windowNanos = window.toNanos();
+    this.clock = clock;
+  }
+
+  public void markWritten(String... keys) {
+    if (windowNanos <= 0) {
+      return;
+    }
+    long expiresAt = clock.getAsLong() + windowNanos;
+    for (String key : keys) {
+      if (key != null) {
+        recentWrites.put(key, expiresAt);
+      }
+    }
+    if (recentWrites.size() > PRUNE_THRESHOLD) {
+      prune();
+    }
+  }
+
+  public boolean isRecentlyWritten(String key) {
+    Long expiresAt = recentWrites.get(key);
+    if (expiresAt == null) {
+      return false;
+    }
+    if (expiresAt - clock.getAsLong() > 0) {
+      return true;
+    }
+    recentWrites.remove(key, expiresAt);
+    return false;
+  }
+
+  void prune() {
+    long now = clock.getAsLong();
+    recentWrites.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+  }
+
+  int size() {
+    return recentWrites.size();
+  }
+}
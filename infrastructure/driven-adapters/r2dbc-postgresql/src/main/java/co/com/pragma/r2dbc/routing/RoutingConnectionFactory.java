@@ -0,0 +1,12 @@
+package co.com.pragma.r2dbc.routing;
+
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+public class RoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+  @Override
+  protected Mono<Object> determineCurrentLookupKey() {
+    return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(DataSourceRoute.CONTEXT_KEY)));
+  }
+}
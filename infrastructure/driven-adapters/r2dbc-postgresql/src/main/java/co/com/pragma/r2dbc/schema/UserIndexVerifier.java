@@ -0,0 +1,103 @@
+package co.com.pragma.r2dbc.schema;
+
+import co.com.pragma.r2dbc.utils.Constants;
+import io.r2dbc.spi.Result;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "adapters.r2dbc.schema-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Log
+public class UserIndexVerifier {
+
+  static final List<String> EXPECTED_INDEXES = List.of(
+          "ux_users_correo_electronico",
+          "ux_users_numero_documento");
+
+  private static final String SELECT_USER_INDEXES =
+          "SELECT indexname FROM pg_indexes WHERE tablename = 'users' AND schemaname = current_schema()";
+
+  // Same statement and bind type (numeric) that UserRepository.findByNumeroDocumento issues
+  private static final String EXPLAIN_DOCUMENT_LOOKUP =
+          "EXPLAIN SELECT * FROM users WHERE numero_documento = $1";
+  // Scoped to the check's transaction; a tiny table would otherwise be planned as a seq scan
+  private static final String DISABLE_SEQSCAN = "SET LOCAL enable_seqscan = off";
+  private static final String DOCUMENT_INDEX = "ux_users_numero_documento";
+
+  private final DatabaseClient databaseClient;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    verify().then(verifyDocumentLookupPlan()).subscribe();
+  }
+
+  /**
+   * Emits whether the planner can answer the typed document-number lookup from the unique
+   * index. A bind whose type does not match the column forces a cast and a sequential scan.
+   */
+  public Mono<Boolean> verifyDocumentLookupPlan() {
+    return databaseClient.inConnectionMany(connection -> Mono.from(connection.beginTransaction())
+                    .thenMany(Flux.from(connection.createStatement(DISABLE_SEQSCAN).execute())
+                            .flatMap(Result::getRowsUpdated))
+                    .thenMany(Flux.from(connection.createStatement(EXPLAIN_DOCUMENT_LOOKUP)
+                                    .bind(0, BigDecimal.ONE)
+                                    .execute())
+                            .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class))))
+                    .concatWith(Mono.from(connection.rollbackTransaction()).then(Mono.<String>empty()))
+                    .onErrorResume(error -> Mono.from(connection.rollbackTransaction()).then(Mono.<String>error(error))))
+            .collectList()
+            .map(UserIndexVerifier::usesDocumentIndex)
+            .doOnNext(usesIndex -> {
+              if (usesIndex) {
+                log.info(Constants.DOCUMENT_LOOKUP_USES_INDEX);
+              } else {
+                log.warning(Constants.DOCUMENT_LOOKUP_WITHOUT_INDEX);
+              }
+            })
+            .onErrorResume(error -> {
+              log.warning(Constants.USER_INDEXES_CHECK_FAILED + error.getMessage());
+              return Mono.empty();
+            });
+  }
+
+  static boolean usesDocumentIndex(List<String> plan) {
+    return plan.stream().anyMatch(line -> line.contains(DOCUMENT_INDEX));
+  }
+
+  public Mono<List<String>> verify() {
+    return databaseClient.sql(SELECT_USER_INDEXES)
+            .map(row -> row.get("indexname", String.class))
+            .all()
+            .collectList()
+            .map(UserIndexVerifier::missingIndexes)
+            .doOnNext(missing -> {
+              if (missing.isEmpty()) {
+                log.info(Constants.USER_INDEXES_PRESENT);
+              } else {
+                log.warning(Constants.USER_INDEXES_MISSING + missing);
+              }
+            })
+            .onErrorResume(error -> {
+              log.warning(Constants.USER_INDEXES_CHECK_FAILED + error.getMessage());
+              return Mono.empty();
+            });
+  }
+
+  static List<String> missingIndexes(Collection<String> existing) {
+    return EXPECTED_INDEXES.stream()
+            .filter(index -> !existing.contains(index))
+            .toList();
+  }
+}
@@ -0,0 +1,132 @@
+package co.com.pragma.r2dbc.user.adapter;
+
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.gateways.UserImportGateway;
+import co.com.pragma.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.pragma.r2dbc.exceptions.RepositoryException;
+import co.com.pragma.r2dbc.utils.Constants;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Loads users with COPY into a transaction-scoped staging table and moves them
+ * with INSERT ... ON CONFLICT DO NOTHING, so rows that collide with an existing
+ * email or document are skipped instead of aborting the whole COPY.
+ */
+@Repository
+@Log
+public class UserImportRepositoryAdapter implements UserImportGateway {
+
+  private static final String CREATE_STAGING_TABLE = """
+          CREATE TEMP TABLE users_import (
+              nombres            VARCHAR(100),
+              apellidos          VARCHAR(100),
+              fecha_nacimiento   DATE,
+              direccion          VARCHAR(255),
+              telefono           VARCHAR(20),
+              correo_electronico VARCHAR(150),
+              salario_base       DOUBLE PRECISION,
+              numero_documento   NUMERIC(20, 0),
+              role               VARCHAR(30)
+          ) ON COMMIT DROP
+          """;
+  private static final String COPY_INTO_STAGING = """
+          COPY users_import (nombres, apellidos, fecha_nacimiento, direccion, telefono,
+                             correo_electronico, salario_base, numero_documento, role)
+          FROM STDIN WITH (FORMAT csv)
+          """;
+  private static final String MOVE_FROM_STAGING = """
+          INSERT INTO users (nombres, apellidos, fecha_nacimiento, direccion, telefono,
+                             correo_electronico, salario_base, numero_documento, role)
+          SELECT nombres, apellidos, fecha_nacimiento, direccion, telefono,
+                 correo_electronico, salario_base, numero_documento, role
+          FROM users_import
+          ON CONFLICT DO NOTHING
+          RETURNING correo_electronico
+          """;
+
+  private final ConnectionFactory connectionFactory;
+
+  public UserImportRepositoryAdapter(@Qualifier(PostgreSQLConnectionPool.PRIMARY_POOL_BEAN) ConnectionFactory connectionFactory) {
+    this.connectionFactory = connectionFactory;
+  }
+
+  @Override
+  public Flux<String> copyUsers(List<UserParameters> users) {
+    log.info(Constants.COPYING_USERS_CHUNK + users.size());
+    return Flux.usingWhen(
+                    Mono.from(connectionFactory.create()),
+                    connection -> copyInTransaction(connection, users),
+                    Connection::close,
+                    (connection, error) -> Mono.from(connection.rollbackTransaction())
+                            .onErrorResume(rollbackError -> Mono.empty())
+                            .then(Mono.from(connection.close())),
+                    Connection::close)
+            .onErrorMap(error -> {
+              log.severe(Constants.ERROR_COPYING_USERS + error.getMessage());
+              return new RepositoryException(Constants.ERROR_COPYING_USERS + error.getMessage(), error);
+            });
+  }
+
+  private Flux<String> copyInTransaction(Connection connection, List<UserParameters> users) {
+    PostgresqlConnection postgresqlConnection = unwrap(connection);
+    Flux<ByteBuf> csv = Flux.fromIterable(users)
+            .map(user -> Unpooled.wrappedBuffer(toCopyLine(user).getBytes(StandardCharsets.UTF_8)));
+
+    return Mono.from(connection.beginTransaction())
+            .then(Mono.from(connection.createStatement(CREATE_STAGING_TABLE).execute())
+                    .flatMap(result -> Mono.from(result.getRowsUpdated())))
+            .then(postgresqlConnection.copyIn(COPY_INTO_STAGING, csv))
+            .thenMany(Flux.from(connection.createStatement(MOVE_FROM_STAGING).execute())
+                    .flatMap(result -> result.map((row, metadata) -> row.get("correo_electronico", String.class))))
+            .concatWith(Mono.from(connection.commitTransaction()).then(Mono.empty()));
+  }
+
+  static PostgresqlConnection unwrap(Connection connection) {
+    Object current = connection;
+    while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+      current = wrapped.unwrap();
+    }
+    if (current instanceof PostgresqlConnection postgresqlConnection) {
+      return postgresqlConnection;
+    }
+    throw new IllegalStateException(Constants.COPY_NOT_SUPPORTED + connection.getClass().getName());
+  }
+
+  static String toCopyLine(UserParameters user) {
+    StringJoiner line = new StringJoiner(",", "", "\n");
+    line.add(quote(user.getNombres()));
+    line.add(quote(user.getApellidos()));
+    line.add(user.getFechaNacimiento() != null ? user.getFechaNacimiento().toString() : "");
+    line.add(quote(user.getDireccion()));
+    line.add(quote(user.getTelefono()));
+    line.add(quote(user.getCorreoElectronico()));
+    line.add(plain(user.getSalarioBase()));
+    line.add(plain(user.getNumeroDocumento()));
+    line.add(Constants.ROLE_USER);
+    return line.toString();
+  }
+
+  // In CSV format an unquoted empty field is NULL and a quoted one is ''
+  private static String quote(String value) {
+    return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+  private static String plain(BigDecimal value) {
+    return value == null ? "" : value.toPlainString();
+  }
+}
@@ -1,10 +1,22 @@
 package co.com.pragma.r2dbc.user.adapter;
 
+import co.com.pragma.model.user.user.UserCreationResult;
+import co.com.pragma.model.user.user.UserCredentials;
 import co.com.pragma.model.user.user.UserParameters;
 import co.com.pragma.model.user.user.gateways.UserGateway;
+import co.com.pragma.r2dbc.coalescing.UserLookupCoalescer;
 import co.com.pragma.r2dbc.exceptions.DataIntegrityViolationException;
 import co.com.pragma.r2dbc.exceptions.RepositoryException;
+import co.com.pragma.r2dbc.routing.DataSourceRoute;
+import co.com.pragma.r2dbc.routing.ReadYourWritesTracker;
+import co.com.pragma.r2dbc.user.cache.UserDocumentCache;
+import co.com.pragma.r2dbc.user.entity.User;
+import co.com.pragma.r2dbc.user.entity.UserCredentialsData;
 import co.com.pragma.r2dbc.user.mapper.UserMapper;
+import co.com.pragma.r2dbc.user.repository.UserBatchQueries;
+import co.com.pragma.r2dbc.user.repository.UserInsertBatcher;
+import co.com.pragma.r2dbc.user.repository.UserKeysetQueries;
+import co.com.pragma.r2dbc.user.repository.UserProjectionQueries;
 import co.com.pragma.r2dbc.user.repository.UserRepository;
 import co.com.pragma.r2dbc.utils.Constants;
 import jakarta.validation.ConstraintViolation;
@@ -13,8 +25,11 @@ import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Set;
 
 @Repository
@@ -25,17 +40,25 @@ public class UserRepositoryAdapter implements UserGateway {
   private final UserRepository userRepository;
   private final UserMapper userMapper;
   private final Validator validator;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final UserKeysetQueries userKeysetQueries;
+  private final UserBatchQueries userBatchQueries;
+  private final UserProjectionQueries userProjectionQueries;
+  private final UserInsertBatcher userInsertBatcher;
+  private final UserDocumentCache userDocumentCache;
+  private final UserLookupCoalescer userLookupCoalescer;
 
   @Override
   public Mono<UserParameters> createUser(UserParameters userParameters) {
-    log.info(Constants.CREATING_USER_INIT + userParameters);
+    log.fine(() -> Constants.CREATING_USER_INIT + userParameters.getNumeroDocumento());
     return Mono.just(userParameters)
             .doOnNext(this::validateUserParameters)
             .map(userMapper::toEntity)
             .doOnNext(user -> user.setRole(Constants.ROLE_USER))
             .flatMap(userRepository::save)
             .map(userMapper::toDto)
-            .doOnSuccess(savedUser -> log.info(Constants.USER_CREATED_SUCCESSFULLY + savedUser))
+            .doOnNext(this::markWritten)
+            .doOnNext(savedUser -> log.fine(() -> Constants.USER_CREATED_SUCCESSFULLY + savedUser.getId()))
             .onErrorMap(e -> {
               if (e instanceof DataIntegrityViolationException) {
                 log.severe(Constants.DATA_INTEGRITY_VIOLATION + e.getMessage());
@@ -46,27 +69,59 @@ public class UserRepositoryAdapter implements UserGateway {
             });
   }
 
+  @Override
+  public Mono<UserCreationResult> createUserIfAbsent(UserParameters userParameters) {
+    log.fine(() -> Constants.CREATING_USER_IF_ABSENT_INIT + userParameters.getCorreoElectronico());
+    return Mono.just(userParameters)
+            .doOnNext(this::validateUserParameters)
+            .map(userMapper::toEntity)
+            .doOnNext(user -> user.setRole(Constants.ROLE_USER))
+            .flatMap(this::insertIfAbsent)
+            .map(userMapper::toDto)
+            .doOnNext(this::markWritten)
+            .map(UserCreationResult::created)
+            .doOnNext(result -> log.fine(() -> Constants.USER_CREATED_SUCCESSFULLY + result.getUser().getId()))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+              log.fine(() -> Constants.USER_ALREADY_EXISTS + userParameters.getCorreoElectronico());
+              return UserCreationResult.alreadyExists();
+            }))
+            .onErrorMap(e -> {
+              log.severe(Constants.UNEXPECTED_ERROR_CREATING_USER + e.getMessage());
+              return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
+            });
+  }
+
+  private Mono<User> insertIfAbsent(User user) {
+    if (userInsertBatcher.isEnabled()) {
+      return userInsertBatcher.insertIfAbsent(user);
+    }
+    return userRepository.insertIfAbsent(
+            user.getNombres(),
+            user.getApellidos(),
+            user.getFechaNacimiento(),
+            user.getDireccion(),
+            user.getTelefono(),
+            user.getCorreoElectronico(),
+            user.getSalarioBase(),
+            user.getNumeroDocumento(),
+            user.getRole(),
+            user.getPassword());
+  }
+
   @Override
   public Mono<Boolean> existsByCorreoElectronico(String email) {
-    log.info(Constants.CHECKING_EMAIL_EXISTENCE + email);
+    log.fine(() -> Constants.CHECKING_EMAIL_EXISTENCE + email);
     return userRepository.existsByCorreoElectronico(email)
-            .doOnNext(exists -> log.info(Constants.EMAIL_EXISTENCE_RESULT + email + ": " + exists))
-            .flatMap(existingUser -> {
-              if (existingUser) {
-                return Mono.error(new RepositoryException(Constants.EMAIL_ALREADY_IN_USE));
-              }
-              return Mono.just(false);
-            });
+            .doOnNext(exists -> log.fine(() -> Constants.EMAIL_EXISTENCE_RESULT + email + ": " + exists));
   }
 
   @Override
-  public Mono<UserParameters> findByDocumentNumber(String documentNumber) {
-    log.info(Constants.SEARCHING_USER_BY_DOCUMENT + documentNumber);
-    return userRepository.findByNumeroDocumento(documentNumber)
-            .map(userMapper::toDto)
-            .doOnSuccess(user -> log.info(Constants.USER_FOUND_BY_DOCUMENT + (user != null ? user : "No encontrado")))
+  public Mono<UserParameters> findByDocumentNumber(BigDecimal documentNumber) {
+    log.fine(() -> Constants.SEARCHING_USER_BY_DOCUMENT + documentNumber);
+    return userDocumentCache.get(documentNumber, this::loadByDocumentNumber)
+            .doOnNext(user -> log.fine(() -> Constants.USER_FOUND_BY_DOCUMENT + user.getId()))
             .switchIfEmpty(Mono.defer(() -> {
-              log.info(Constants.USER_NOT_FOUND_BY_DOCUMENT + documentNumber);
+              log.fine(() -> Constants.USER_NOT_FOUND_BY_DOCUMENT + documentNumber);
               return Mono.empty();
             }))
             .onErrorMap(e -> {
@@ -75,24 +130,59 @@ public class UserRepositoryAdapter implements UserGateway {
             });
   }
 
+  @Override
+  public Mono<UserParameters> findProjectionByDocumentNumber(BigDecimal documentNumber, Set<String> fields) {
+    log.fine(() -> Constants.SEARCHING_USER_BY_DOCUMENT + documentNumber);
+    return routeRead(documentKey(documentNumber), userProjectionQueries.findByDocumentNumber(documentNumber, fields))
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_FINDING_USER_BY_DOCUMENT + e.getMessage());
+              return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
+            });
+  }
+
+  private Mono<UserParameters> loadByDocumentNumber(BigDecimal documentNumber) {
+    return userLookupCoalescer.byDocument(documentNumber.toPlainString(), () ->
+            routeRead(documentKey(documentNumber), userRepository.findByNumeroDocumento(documentNumber))
+                    .map(userMapper::toDto));
+  }
+
+  private <T> Mono<T> routeRead(String routingKey, Mono<T> query) {
+    if (readYourWritesTracker.isRecentlyWritten(routingKey)) {
+      return query.contextWrite(DataSourceRoute.PRIMARY.asContext());
+    }
+    return query.contextWrite(DataSourceRoute.READ_REPLICA.asContext());
+  }
+
+  private void markWritten(UserParameters user) {
+    readYourWritesTracker.markWritten(
+            Constants.EMAIL_ROUTING_KEY + user.getCorreoElectronico(),
+            documentKey(user.getNumeroDocumento()));
+    userDocumentCache.invalidate(user.getNumeroDocumento());
+  }
+
+  private static String documentKey(BigDecimal documentNumber) {
+    return Constants.DOCUMENT_ROUTING_KEY + (documentNumber != null ? documentNumber.toPlainString() : null);
+  }
+
   private void validateUserParameters(UserParameters userParameters) {
-    log.info(Constants.VALIDATING_USER_PARAMETERS + userParameters);
+    log.fine(() -> Constants.VALIDATING_USER_PARAMETERS + userParameters.getNumeroDocumento());
     Set<ConstraintViolation<UserParameters>> violations = validator.validate(userParameters);
     if (!violations.isEmpty()) {
       log.severe(Constants.VALIDATION_FAILED + violations);
       throw new RepositoryException(Constants.VALIDATION_EXCEPTION_MESSAGE, new ConstraintViolationException(violations));
     }
-    log.info(Constants.VALIDATION_SUCCESSFUL);
+    log.fine(Constants.VALIDATION_SUCCESSFUL);
   }
 
   @Override
   public Mono<UserParameters> findByCorreoElectronico(String email) {
-    log.info(Constants.SEARCHING_USER_BY_EMAIL + email);
-    return userRepository.findByCorreoElectronico(email)
-            .map(userMapper::toDto)
-            .doOnSuccess(user -> log.info(Constants.USER_NOT_FOUND + (user != null ? user : "No encontrado")))
+    log.fine(() -> Constants.SEARCHING_USER_BY_EMAIL + email);
+    return userLookupCoalescer.byEmail(email, () ->
+                    routeRead(Constants.EMAIL_ROUTING_KEY + email, userRepository.findByCorreoElectronico(email))
+                            .map(userMapper::toDto))
+            .doOnNext(user -> log.fine(() -> Constants.USER_FOUND_BY_EMAIL + user.getId()))
             .switchIfEmpty(Mono.defer(() -> {
-              log.info(Constants.USER_NOT_FOUND + email);
+              log.fine(() -> Constants.USER_NOT_FOUND + email);
               return Mono.empty();
             }))
             .onErrorMap(e -> {
@@ -100,4 +190,75 @@ public class UserRepositoryAdapter implements UserGateway {
               return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
             });
   }
+
+  @Override
+  public Mono<UserCredentials> findCredentialsByCorreoElectronico(String email) {
+    log.fine(() -> Constants.SEARCHING_CREDENTIALS_BY_EMAIL + email);
+    return userLookupCoalescer.credentialsByEmail(email, () ->
+                    routeRead(Constants.EMAIL_ROUTING_KEY + email, userRepository.findCredentialsByCorreoElectronico(email))
+                            .map(this::toCredentials))
+            .onErrorMap(e -> {
+              log.severe(Constants.USER_NOT_FOUND_BY_EMAIL + e.getMessage());
+              return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
+            });
+  }
+
+  @Override
+  public Mono<Void> updatePassword(Long userId, String encodedPassword) {
+    return userRepository.updatePassword(userId, encodedPassword)
+            .doOnNext(documentNumber -> {
+              readYourWritesTracker.markWritten(documentKey(documentNumber));
+              userDocumentCache.invalidate(documentNumber);
+            })
+            .then()
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_UPDATING_PASSWORD + e.getMessage());
+              return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
+            });
+  }
+
+  private UserCredentials toCredentials(UserCredentialsData data) {
+    return new UserCredentials(
+            data.id(),
+            data.correoElectronico(),
+            data.password(),
+            data.role(),
+            data.salarioBase() != null ? BigDecimal.valueOf(data.salarioBase()) : null);
+  }
+
+  @Override
+  public Flux<UserParameters> findPageAfterId(long afterId, int limit) {
+    log.fine(() -> Constants.LISTING_USERS_PAGE + afterId);
+    return userKeysetQueries.findPageAfterId(afterId, limit)
+            .map(userMapper::toDto)
+            .contextWrite(DataSourceRoute.READ_REPLICA.asContext())
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_LISTING_USERS + e.getMessage());
+              return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
+            });
+  }
+
+  @Override
+  public Flux<UserParameters> streamAfterId(long afterId) {
+    log.fine(() -> Constants.STREAMING_USERS + afterId);
+    return userKeysetQueries.streamAfterId(afterId)
+            .map(userMapper::toDto)
+            .contextWrite(DataSourceRoute.READ_REPLICA.asContext())
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_LISTING_USERS + e.getMessage());
+              return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
+            });
+  }
+
+  @Override
+  public Flux<UserParameters> findAllByDocumentNumbersOrEmails(List<BigDecimal> documentNumbers, List<String> emails) {
+    log.fine(() -> Constants.FINDING_USERS_IN_BATCH + (documentNumbers.size() + emails.size()));
+    return userBatchQueries.findByDocumentNumbersOrEmails(documentNumbers, emails)
+            .map(userMapper::toDto)
+            .contextWrite(DataSourceRoute.READ_REPLICA.asContext())
+            .onErrorMap(e -> {
+              log.severe(Constants.ERROR_LISTING_USERS + e.getMessage());
+              return new RepositoryException(Constants.UNEXPECTED_ERROR_MESSAGE, e);
+            });
+  }
 }
@@ -0,0 +1,53 @@
+package co.com.pragma.r2dbc.user.cache;
+
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.r2dbc.config.UserCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * Bounded (W-TinyLFU) cache of users by document number. Concurrent misses for
+ * the same key share one load, and empty results are not cached.
+ */
+public class UserDocumentCache {
+
+  private final boolean enabled;
+  private final AsyncCache<String, UserParameters> cache;
+
+  public UserDocumentCache(UserCacheProperties properties) {
+    this.enabled = properties.enabled();
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .buildAsync();
+  }
+
+  public Mono<UserParameters> get(BigDecimal documentNumber, Function<BigDecimal, Mono<UserParameters>> loader) {
+    if (!enabled) {
+      return loader.apply(documentNumber);
+    }
+    return Mono.fromFuture(() -> cache.get(key(documentNumber),
+                    (key, executor) -> loader.apply(documentNumber).toFuture()), true)
+            // Callers get their own copy so nobody mutates the cached instance
+            .map(user -> user.toBuilder().build());
+  }
+
+  public void invalidate(BigDecimal documentNumber) {
+    if (enabled && documentNumber != null) {
+      cache.synchronous().invalidate(key(documentNumber));
+    }
+  }
+
+  public AsyncCache<String, UserParameters> nativeCache() {
+    return cache;
+  }
+
+  private static String key(BigDecimal documentNumber) {
+    return documentNumber.stripTrailingZeros().toPlainString();
+  }
+}
@@ -0,0 +1,11 @@
+package co.com.pragma.r2dbc.user.entity;
+
+import org.springframework.data.relational.core.mapping.Column;
+
+public record UserCredentialsData(
+        @Column("id") Long id,
+        @Column("correo_electronico") String correoElectronico,
+        @Column("password") String password,
+        @Column("role") String role,
+        @Column("salario_base") Double salarioBase) {
+}
@@ -0,0 +1,43 @@
+package co.com.pragma.r2dbc.user.repository;
+
+import co.com.pragma.r2dbc.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Multi-key lookups resolved with a single {@code = ANY(array)} statement, so the plan
+ * and the round trip do not grow with the number of keys.
+ */
+@Component
+public class UserBatchQueries {
+
+  private static final String SELECT_BY_DOCUMENTS_OR_EMAILS = """
+          SELECT * FROM users
+           WHERE numero_documento = ANY(:documentNumbers)
+              OR correo_electronico = ANY(:emails)
+          """;
+
+  private final R2dbcEntityTemplate template;
+  private final int fetchSize;
+
+  public UserBatchQueries(R2dbcEntityTemplate template,
+                          @Value("${adapters.r2dbc.streaming.fetch-size:500}") int fetchSize) {
+    this.template = template;
+    this.fetchSize = fetchSize;
+  }
+
+  public Flux<User> findByDocumentNumbersOrEmails(List<BigDecimal> documentNumbers, List<String> emails) {
+    return template.getDatabaseClient()
+            .sql(SELECT_BY_DOCUMENTS_OR_EMAILS)
+            .filter(statement -> statement.fetchSize(fetchSize))
+            .bind("documentNumbers", documentNumbers.toArray(BigDecimal[]::new))
+            .bind("emails", emails.toArray(String[]::new))
+            .map((row, metadata) -> template.getConverter().read(User.class, row, metadata))
+            .all();
+  }
+}
@@ -0,0 +1,222 @@
+package co.com.pragma.r2dbc.user.repository;
+
+import co.com.pragma.r2dbc.config.UserInsertBatchProperties;
+import co.com.pragma.r2dbc.user.entity.User;
+import co.com.pragma.r2dbc.utils.Constants;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent {@code insertIfAbsent} calls into a single multi-row
+ * {@code INSERT ... ON CONFLICT DO NOTHING RETURNING *}. Each caller gets back
+ * its own row (matched by email), an empty result when the email already
+ * exists, or its own error.
+ */
+@Component
+@Log
+public class UserInsertBatcher implements DisposableBean {
+
+  private static final String INSERT_PREFIX = """
+          INSERT INTO users (nombres, apellidos, fecha_nacimiento, direccion, telefono,
+                             correo_electronico, salario_base, numero_documento, role, password)
+          VALUES\s""";
+  private static final String INSERT_VALUES = "(:nombres%1$d, :apellidos%1$d, :fechaNacimiento%1$d, :direccion%1$d, "
+          + ":telefono%1$d, :correoElectronico%1$d, :salarioBase%1$d, :numeroDocumento%1$d, :role%1$d, :password%1$d)";
+  private static final String INSERT_SUFFIX = " ON CONFLICT (correo_electronico) DO NOTHING RETURNING *";
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+  private final boolean enabled;
+  private final Function<List<User>, Flux<User>> executor;
+  private final Sinks.Many<PendingInsert> pending = Sinks.many().unicast().onBackpressureBuffer();
+  // Serializes emissions so concurrent callers queue briefly instead of failing with FAIL_NON_SERIALIZED
+  private final Object emitLock = new Object();
+  // Every caller still waiting for a result, so shutdown or a dead pipeline never leaves one hanging
+  private final Set<PendingInsert> outstanding = ConcurrentHashMap.newKeySet();
+  private final Sinks.Empty<Void> drained = Sinks.empty();
+  private final Duration shutdownTimeout;
+  private final Disposable subscription;
+
+  @Autowired
+  public UserInsertBatcher(R2dbcEntityTemplate template, UserInsertBatchProperties properties) {
+    this(properties, users -> executeMultiRowInsert(template, users));
+  }
+
+  UserInsertBatcher(UserInsertBatchProperties properties, Function<List<User>, Flux<User>> executor) {
+    this(properties, executor, SHUTDOWN_TIMEOUT);
+  }
+
+  UserInsertBatcher(UserInsertBatchProperties properties, Function<List<User>, Flux<User>> executor,
+                    Duration shutdownTimeout) {
+    this.enabled = properties.enabled();
+    this.executor = executor;
+    this.shutdownTimeout = shutdownTimeout;
+    // Fair bufferTimeout only emits on demand: a timer firing while every flush is in flight
+    // keeps buffering instead of signalling an overflow error that would end the pipeline.
+    this.subscription = enabled
+            ? pending.asFlux()
+                .bufferTimeout(properties.maxSize(), properties.maxWait(), true)
+                .flatMap(batch -> flush(batch).onErrorResume(error -> failAll(batch, error)),
+                        properties.maxConcurrentFlushes())
+                .doFinally(signal -> drained.tryEmitEmpty())
+                .subscribe(null, this::onPipelineError)
+            : Disposables.disposed();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public Mono<User> insertIfAbsent(User user) {
+    return Mono.defer(() -> {
+      PendingInsert insert = new PendingInsert(user, Sinks.one());
+      outstanding.add(insert);
+      Sinks.EmitResult result = offer(insert);
+      if (result.isFailure()) {
+        outstanding.remove(insert);
+        return Mono.error(new IllegalStateException(result == Sinks.EmitResult.FAIL_TERMINATED
+                || result == Sinks.EmitResult.FAIL_CANCELLED
+                ? Constants.USER_BATCHER_CLOSED : Constants.USER_BATCHER_EMIT_FAILED + result));
+      }
+      return insert.result().asMono().doFinally(signal -> outstanding.remove(insert));
+    });
+  }
+
+  /**
+   * Lets the buffered inserts flush, waiting up to the shutdown timeout, then fails
+   * whatever is still pending so no caller is left waiting on a closed batcher.
+   */
+  @Override
+  public void destroy() {
+    synchronized (emitLock) {
+      pending.tryEmitComplete();
+    }
+    if (enabled) {
+      try {
+        drained.asMono().block(shutdownTimeout);
+      } catch (IllegalStateException timeout) {
+        log.warning(Constants.USER_BATCHER_SHUTDOWN_TIMEOUT + outstanding.size());
+      }
+    }
+    subscription.dispose();
+    failOutstanding(new IllegalStateException(Constants.USER_BATCHER_CLOSED));
+  }
+
+  // emitNext's failure handlers silently drop values on a terminated sink; callers must see the failure
+  private Sinks.EmitResult offer(PendingInsert insert) {
+    synchronized (emitLock) {
+      return pending.tryEmitNext(insert);
+    }
+  }
+
+  private void onPipelineError(Throwable error) {
+    log.severe(Constants.USER_BATCHER_FAILED + error.getMessage());
+    failOutstanding(error);
+  }
+
+  private void failOutstanding(Throwable error) {
+    for (PendingInsert insert : List.copyOf(outstanding)) {
+      insert.result().tryEmitError(error);
+    }
+    outstanding.clear();
+  }
+
+  private static Mono<Void> failAll(List<PendingInsert> batch, Throwable error) {
+    batch.forEach(insert -> insert.result().tryEmitError(error));
+    return Mono.empty();
+  }
+
+  private Mono<Void> flush(List<PendingInsert> batch) {
+    log.fine(() -> Constants.FLUSHING_USER_BATCH + batch.size());
+    return Mono.defer(() -> executor.apply(batch.stream().map(PendingInsert::user).toList())
+                    .collectMap(User::getCorreoElectronico))
+            .doOnNext(inserted -> complete(batch, inserted))
+            .then()
+            .onErrorResume(error -> {
+              if (batch.size() == 1) {
+                batch.get(0).result().tryEmitError(error);
+                return Mono.empty();
+              }
+              // One bad row (e.g. duplicated document) aborts the whole statement,
+              // retry row by row so only the offending caller sees the error.
+              log.warning(Constants.USER_BATCH_FAILED + error.getMessage());
+              return Flux.fromIterable(batch)
+                      .flatMap(single -> flush(List.of(single)))
+                      .then();
+            });
+  }
+
+  static void complete(List<PendingInsert> batch, Map<String, User> inserted) {
+    for (PendingInsert insert : batch) {
+      User row = inserted.remove(insert.user().getCorreoElectronico());
+      if (row != null) {
+        insert.result().tryEmitValue(row);
+      } else {
+        insert.result().tryEmitEmpty();
+      }
+    }
+  }
+
+  static String buildInsertSql(int rows) {
+    StringJoiner values = new StringJoiner(", ", INSERT_PREFIX, INSERT_SUFFIX);
+    for (int i = 0; i < rows; i++) {
+      values.add(String.format(INSERT_VALUES, i));
+    }
+    return values.toString();
+  }
+
+  private static Flux<User> executeMultiRowInsert(R2dbcEntityTemplate template, List<User> users) {
+    DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(buildInsertSql(users.size()));
+    for (int i = 0; i < users.size(); i++) {
+      User user = users.get(i);
+      spec = bind(spec, "nombres" + i, user.getNombres(), String.class);
+      spec = bind(spec, "apellidos" + i, user.getApellidos(), String.class);
+      spec = bind(spec, "fechaNacimiento" + i, user.getFechaNacimiento(), LocalDate.class);
+      spec = bind(spec, "direccion" + i, user.getDireccion(), String.class);
+      spec = bind(spec, "telefono" + i, user.getTelefono(), String.class);
+      spec = bind(spec, "correoElectronico" + i, user.getCorreoElectronico(), String.class);
+      spec = bind(spec, "salarioBase" + i, user.getSalarioBase(), Double.class);
+      spec = bind(spec, "numeroDocumento" + i, user.getNumeroDocumento(), BigDecimal.class);
+      spec = bind(spec, "role" + i, user.getRole(), String.class);
+      spec = bind(spec, "password" + i, user.getPassword(), String.class);
+    }
+    return spec.map((row, metadata) -> template.getConverter().read(User.class, row, metadata)).all();
+  }
+
+  private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+                                                        String name, Object value, Class<?> type) {
+    return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+  }
+
+  record PendingInsert(User user, Sinks.One<User> result) {
+
+    // Identity semantics: the User is mutable and its hash changes once the row comes back
+    @Override
+    public boolean equals(Object other) {
+      return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package co.com.pragma.r2dbc.user.repository;
+
+import co.com.pragma.r2dbc.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+@Component
+public class UserKeysetQueries {
+
+  private static final String SELECT_PAGE_AFTER_ID =
+          "SELECT * FROM users WHERE id > :afterId ORDER BY id LIMIT :limit";
+  private static final String SELECT_ALL_AFTER_ID =
+          "SELECT * FROM users WHERE id > :afterId ORDER BY id";
+
+  private final R2dbcEntityTemplate template;
+  private final int fetchSize;
+
+  public UserKeysetQueries(R2dbcEntityTemplate template,
+                           @Value("${adapters.r2dbc.streaming.fetch-size:500}") int fetchSize) {
+    this.template = template;
+    this.fetchSize = fetchSize;
+  }
+
+  public Flux<User> findPageAfterId(long afterId, int limit) {
+    return template.getDatabaseClient()
+            .sql(SELECT_PAGE_AFTER_ID)
+            .bind("afterId", afterId)
+            .bind("limit", limit)
+            .map((row, metadata) -> template.getConverter().read(User.class, row, metadata))
+            .all();
+  }
+
+  public Flux<User> streamAfterId(long afterId) {
+    return template.getDatabaseClient()
+            .sql(SELECT_ALL_AFTER_ID)
+            .filter(statement -> statement.fetchSize(fetchSize))
+            .bind("afterId", afterId)
+            .map((row, metadata) -> template.getConverter().read(User.class, row, metadata))
+            .all();
+  }
+}
@@ -0,0 +1,90 @@
+package co.com.pragma.r2dbc.user.repository;
+
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.r2dbc.utils.Constants;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads only the requested {@link UserParameters} properties. Column names come from a
+ * fixed whitelist, never from the request, and the statement for each field set is built
+ * once; there are at most 2^9 of them.
+ */
+@Component
+public class UserProjectionQueries {
+
+  private static final Map<String, ProjectedColumn<?>> COLUMNS = new LinkedHashMap<>();
+
+  static {
+    register("id", "id", Long.class, UserParameters::setId);
+    register("nombres", "nombres", String.class, UserParameters::setNombres);
+    register("apellidos", "apellidos", String.class, UserParameters::setApellidos);
+    register("fechaNacimiento", "fecha_nacimiento", LocalDate.class, UserParameters::setFechaNacimiento);
+    register("direccion", "direccion", String.class, UserParameters::setDireccion);
+    register("telefono", "telefono", String.class, UserParameters::setTelefono);
+    register("correoElectronico", "correo_electronico", String.class, UserParameters::setCorreoElectronico);
+    register("salarioBase", "salario_base", Double.class,
+            (user, salary) -> user.setSalarioBase(salary != null ? BigDecimal.valueOf(salary) : null));
+    register("numeroDocumento", "numero_documento", BigDecimal.class, UserParameters::setNumeroDocumento);
+  }
+
+  private final DatabaseClient databaseClient;
+  private final Map<Set<String>, String> statements = new ConcurrentHashMap<>();
+
+  public UserProjectionQueries(DatabaseClient databaseClient) {
+    this.databaseClient = databaseClient;
+  }
+
+  public Mono<UserParameters> findByDocumentNumber(BigDecimal documentNumber, Set<String> fields) {
+    Set<String> projected = Set.copyOf(fields);
+    return Mono.fromSupplier(() -> statements.computeIfAbsent(projected, UserProjectionQueries::buildSelect))
+            .flatMap(sql -> databaseClient.sql(sql)
+                    .bind("documentNumber", documentNumber)
+                    .map(row -> toUser(row, projected))
+                    .one());
+  }
+
+  static String buildSelect(Set<String> fields) {
+    for (String field : fields) {
+      if (!COLUMNS.containsKey(field)) {
+        throw new IllegalArgumentException(Constants.UNKNOWN_PROJECTED_FIELD + field);
+      }
+    }
+    StringJoiner columns = new StringJoiner(", ", "SELECT ", " FROM users WHERE numero_documento = :documentNumber");
+    COLUMNS.forEach((field, column) -> {
+      if (fields.contains(field)) {
+        columns.add(column.name());
+      }
+    });
+    return columns.toString();
+  }
+
+  private static UserParameters toUser(Readable row, Set<String> fields) {
+    UserParameters user = new UserParameters();
+    for (String field : fields) {
+      COLUMNS.get(field).copy(row, user);
+    }
+    return user;
+  }
+
+  private static <T> void register(String field, String column, Class<T> type, BiConsumer<UserParameters, T> setter) {
+    COLUMNS.put(field, new ProjectedColumn<>(column, type, setter));
+  }
+
+  private record ProjectedColumn<T>(String name, Class<T> type, BiConsumer<UserParameters, T> setter) {
+    void copy(Readable row, UserParameters user) {
+      setter.accept(user, row.get(name, type));
+    }
+  }
+}
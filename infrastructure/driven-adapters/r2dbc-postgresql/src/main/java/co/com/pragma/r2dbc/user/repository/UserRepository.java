@@ -1,12 +1,43 @@
 package co.com.pragma.r2dbc.user.repository;
 
-import co.com.pragma.model.user.user.UserParameters;
 import co.com.pragma.r2dbc.user.entity.User;
+import co.com.pragma.r2dbc.user.entity.UserCredentialsData;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 public interface UserRepository extends ReactiveCrudRepository<User, Long> {
   Mono<Boolean> existsByCorreoElectronico(String email);
-  Mono<User> findByNumeroDocumento(String documentNumber);
+  Mono<User> findByNumeroDocumento(BigDecimal documentNumber);
   Mono<User> findByCorreoElectronico(String correoElectronico);
+
+  @Query("SELECT id, correo_electronico, password, role, salario_base FROM users WHERE correo_electronico = :email")
+  Mono<UserCredentialsData> findCredentialsByCorreoElectronico(@Param("email") String email);
+
+  // Devuelve el documento para poder invalidar la caché por documento
+  @Query("UPDATE users SET password = :password WHERE id = :id RETURNING numero_documento")
+  Mono<BigDecimal> updatePassword(@Param("id") Long id, @Param("password") String password);
+
+  @Query("""
+          INSERT INTO users (nombres, apellidos, fecha_nacimiento, direccion, telefono,
+                             correo_electronico, salario_base, numero_documento, role, password)
+          VALUES (:nombres, :apellidos, :fechaNacimiento, :direccion, :telefono,
+                  :correoElectronico, :salarioBase, :numeroDocumento, :role, :password)
+          ON CONFLICT (correo_electronico) DO NOTHING
+          RETURNING *
+          """)
+  Mono<User> insertIfAbsent(@Param("nombres") String nombres,
+                            @Param("apellidos") String apellidos,
+                            @Param("fechaNacimiento") LocalDate fechaNacimiento,
+                            @Param("direccion") String direccion,
+                            @Param("telefono") String telefono,
+                            @Param("correoElectronico") String correoElectronico,
+                            @Param("salarioBase") Double salarioBase,
+                            @Param("numeroDocumento") BigDecimal numeroDocumento,
+                            @Param("role") String role,
+                            @Param("password") String password);
 }
@@ -5,11 +5,12 @@ public class Constants {
   public static final String VALIDATION_FAILED = "Falló la validación de parámetros: ";
   public static final String VALIDATION_SUCCESSFUL = "Validación de parámetros exitosa.";
   public static final String VALIDATION_EXCEPTION_MESSAGE = "Validation failed";
-  public static final String EMAIL_ALREADY_IN_USE = "El correo electrónico ya está en uso";
   public static final String CHECKING_EMAIL_EXISTENCE = "Verificando si el correo electrónico ya existe: ";
   public static final String EMAIL_EXISTENCE_RESULT = "Resultado de existsByCorreoElectronico para ";
-  public static final String CREATING_USER_INIT = "Iniciando creación de usuario con parámetros: ";
+  public static final String CREATING_USER_INIT = "Iniciando creación de usuario con documento: ";
   public static final String USER_CREATED_SUCCESSFULLY = "Usuario creado exitosamente: ";
+  public static final String CREATING_USER_IF_ABSENT_INIT = "Iniciando creación atómica de usuario con correo: ";
+  public static final String USER_ALREADY_EXISTS = "No se insertó el usuario, el correo ya existe: ";
   public static final String DATA_INTEGRITY_VIOLATION = "Violación de integridad de datos al crear el usuario: ";
   public static final String MISSING_REQUIRED_FIELDS = "Faltan campos obligatorios";
   public static final String UNEXPECTED_ERROR_CREATING_USER = "Error inesperado al crear el usuario: ";
@@ -21,10 +22,74 @@ public class Constants {
   public static final String USER_NOT_FOUND_BY_DOCUMENT = "No se encontró usuario con número de documento: ";
   public static final String ERROR_FINDING_USER_BY_DOCUMENT = "Error al buscar usuario por número de documento: ";
   public static final String SEARCHING_USER_BY_EMAIL =" Buscando usuario por correo electrónico: ";
+  public static final String SEARCHING_CREDENTIALS_BY_EMAIL = "Buscando credenciales por correo electrónico: ";
   public static final String USER_FOUND_BY_EMAIL = "Usuario encontrado por correo electrónico: ";
   public static final String USER_NOT_FOUND_BY_EMAIL = "No se encontró usuario con correo electrónico";
   public static final String USER_NOT_FOUND = "El usuario con el documento especificado ";
 
+  // Inserción agrupada de usuarios
+  public static final String FLUSHING_USER_BATCH = "Insertando lote de usuarios, tamaño: ";
+  public static final String USER_BATCH_FAILED = "Falló la inserción del lote, se reintenta fila por fila: ";
+  public static final String USER_BATCHER_CLOSED = "El agrupador de inserciones de usuarios está cerrado";
+  public static final String USER_BATCHER_EMIT_FAILED = "No se pudo encolar la inserción del usuario: ";
+  public static final String USER_BATCHER_FAILED = "El agrupador de inserciones de usuarios terminó con error: ";
+  public static final String USER_BATCHER_SHUTDOWN_TIMEOUT = "Tiempo de cierre agotado, inserciones pendientes que se cancelan: ";
+
+  // Importación masiva de usuarios (COPY)
+  public static final String COPYING_USERS_CHUNK = "Copiando bloque de usuarios, tamaño: ";
+  public static final String ERROR_COPYING_USERS = "Error al copiar el bloque de usuarios: ";
+  public static final String COPY_NOT_SUPPORTED = "La conexión no soporta COPY de PostgreSQL: ";
+
+  // Constantes para listado de usuarios
+  public static final String LISTING_USERS_PAGE = "Listando página de usuarios a partir del id: ";
+  public static final String STREAMING_USERS = "Transmitiendo usuarios a partir del id: ";
+  public static final String ERROR_LISTING_USERS = "Error al listar usuarios: ";
+  public static final String UNKNOWN_PROJECTED_FIELD = "Campo de usuario no proyectable: ";
+  public static final String FINDING_USERS_IN_BATCH = "Buscando usuarios en lote, claves: ";
+
+  // Claves de enrutamiento lectura réplica / primaria
+  public static final String DOCUMENT_ROUTING_KEY = "doc:";
+  public static final String EMAIL_ROUTING_KEY = "email:";
+
+  // Verificación de índices al arrancar
+  public static final String USER_INDEXES_PRESENT = "Índices de la tabla users verificados correctamente";
+  public static final String USER_INDEXES_MISSING = "Faltan índices en la tabla users, las búsquedas harán escaneo secuencial: ";
+  public static final String USER_INDEXES_CHECK_FAILED = "No fue posible verificar los índices de la tabla users: ";
+  public static final String DOCUMENT_LOOKUP_USES_INDEX = "La búsqueda por número de documento usa el índice ux_users_numero_documento";
+  public static final String DOCUMENT_LOOKUP_WITHOUT_INDEX = "La búsqueda por número de documento no puede usar ux_users_numero_documento, revise el tipo del parámetro";
+
+  // Firma de tokens JWT
+  public static final String JWT_UNSUPPORTED_ALGORITHM = "Algoritmo de firma JWT no soportado: ";
+  public static final String JWT_INVALID_KEY = "Clave JWT inválida: ";
+  public static final String JWT_ACTIVE_KEY_MISSING = "No existe clave privada para el kid activo: ";
+  public static final String JWT_UNKNOWN_KID = "kid desconocido en el token: ";
+  public static final String JWT_ALGORITHM_MISMATCH = "El algoritmo del token no corresponde a la clave: ";
+  public static final String JWT_EPHEMERAL_KEY = "No hay claves JWT configuradas, se generó una clave efímera con kid: ";
+  public static final String JWT_KEY_RING_LOADED = "Claves JWT cargadas: ";
+  public static final String JWT_SECRET_TOO_SHORT = "jwt.secret debe tener al menos 256 bits (32 bytes en UTF-8), bytes configurados: ";
+  public static final String JWT_KEYS_REQUIRED_FOR_CLUSTER = "Con más de un nodo se deben configurar claves JWT compartidas (jwt.secret para HS256, jwt.keys para RS256/ES256), jwt.cluster-size: ";
+  public static final String JWT_LEGACY_SECRET_WINDOW = "Tokens sin kid firmados con la clave histórica se verifican hasta: ";
+  public static final String JWT_LEGACY_SECRET_EXPIRED = "La ventana de migración de la clave histórica terminó en: ";
+  public static final String JWT_LEGACY_SECRET_DISABLED = "Tokens sin kid rechazados: jwt.legacy-secret o jwt.legacy-secret-valid-until no configurados";
+
+  // Refresh tokens
+  public static final String ERROR_REFRESH_TOKEN = "Error al gestionar el refresh token: ";
+  public static final String REFRESH_TOKEN_REUSE_DETECTED = "Reutilización de refresh token detectada, se revoca la familia: ";
+  public static final String REFRESH_FAMILIES_REVOKED = "Familias de refresh token revocadas para el usuario ";
+
+  // Revocación de tokens
+  public static final String ERROR_REVOKING_TOKEN = "Error al revocar el token: ";
+  public static final String REVOCATION_SYNC_FAILED = "No fue posible sincronizar los tokens revocados: ";
+  public static final String REVOKED_TOKENS_PURGED = "Tokens revocados expirados eliminados: ";
+
+  // Hash de contraseñas
+  public static final String ERROR_UPDATING_PASSWORD = "Error al actualizar la contraseña: ";
+  public static final String PASSWORD_HASHING_CALIBRATED = "Costo de bcrypt calibrado: ";
+  public static final String PASSWORD_HASHING_CONFIGURED = "Costo de bcrypt configurado: ";
+  public static final String PASSWORD_HASHING_POOL = "password-hashing";
+  public static final String PASSWORD_PLAINTEXT_ACCEPTED_UNTIL = "Contraseñas heredadas en texto plano aceptadas hasta: ";
+  public static final String PASSWORD_PLAINTEXT_EXPIRED = "Se rechazó una contraseña heredada en texto plano, la migración terminó en: ";
+
   // Constantes roles
   public static final String ROLE_USER = "USER";
   public static final String ROLE_ADMIN = "ADMIN";
@@ -0,0 +1,77 @@
+package co.com.pragma.r2dbc.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentSubscribersForSameKeyShareOneCall() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        Sinks.One<String> result = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        Flux<String> lookups = Flux.merge(
+                singleFlight.execute("k", () -> { calls.incrementAndGet(); return result.asMono(); }),
+                singleFlight.execute("k", () -> { calls.incrementAndGet(); return result.asMono(); }),
+                singleFlight.execute("k", () -> { calls.incrementAndGet(); return result.asMono(); }));
+
+        StepVerifier.create(lookups)
+                .then(() -> assertEquals(1, singleFlight.inFlight()))
+                .then(() -> result.tryEmitValue("value"))
+                .expectNext("value", "value", "value")
+                .verifyComplete();
+
+        assertEquals(1, calls.get());
+        assertEquals(1, singleFlight.leaders());
+        assertEquals(2, singleFlight.followers());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void completedCallIsNotReused() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("k", () -> Mono.fromSupplier(calls::incrementAndGet)).block();
+        Integer second = singleFlight.execute("k", () -> Mono.fromSupplier(calls::incrementAndGet)).block();
+
+        assertEquals(2, second);
+        assertEquals(0, singleFlight.followers());
+    }
+
+    @Test
+    void errorsAreSharedAndThenCleared() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        StepVerifier.create(singleFlight.execute("k", () -> Mono.error(new IllegalStateException("boom"))))
+                .expectErrorMessage("boom")
+                .verify();
+
+        StepVerifier.create(singleFlight.execute("k", () -> Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void coalescerExposesExecutedAndSharedCounters() {
+        UserLookupCoalescer coalescer = new UserLookupCoalescer();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+
+        coalescer.byEmail("a@example.com", Mono::empty).block();
+
+        assertEquals(1.0, registry.get("users.lookup.coalescing")
+                .tags("lookup", "email", "result", "executed").functionCounter().count());
+        assertEquals(0.0, registry.get("users.lookup.coalescing")
+                .tags("lookup", "email", "result", "shared").functionCounter().count());
+    }
+}
@@ -1,11 +1,18 @@
 package co.com.pragma.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ValidationDepth;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
@@ -34,4 +41,39 @@ class PostgreSQLConnectionPoolTest {
     void getConnectionConfigSuccess() {
         assertNotNull(connectionPool.getConnectionConfig(properties));
     }
+
+    @Test
+    void getConnectionConfigUsesConfiguredPoolSize() {
+        when(properties.pool()).thenReturn(new PostgresqlConnectionProperties.Pool(
+                2, 7, Duration.ofMinutes(5), Duration.ofSeconds(3), Duration.ofSeconds(3),
+                Duration.ofMillis(-1), Duration.ofMinutes(1), null, ValidationDepth.REMOTE, 2));
+
+        ConnectionPool pool = connectionPool.getConnectionConfig(properties);
+
+        assertEquals(7, pool.getMetrics().orElseThrow().getMaxAllocatedSize());
+    }
+
+    @Test
+    void poolDefaultsWhenValuesAreMissing() {
+        PostgresqlConnectionProperties.Pool pool = PostgresqlConnectionProperties.Pool.defaults();
+
+        assertEquals(PostgreSQLConnectionPool.INITIAL_SIZE, pool.initialSize());
+        assertEquals(PostgreSQLConnectionPool.MAX_SIZE, pool.maxSize());
+        assertEquals(Duration.ofMinutes(PostgreSQLConnectionPool.MAX_IDLE_TIME), pool.maxIdleTime());
+        assertEquals(PostgreSQLConnectionPool.VALIDATION_QUERY, pool.validationQuery());
+    }
+
+    @Test
+    void connectionPoolMetricsRegistersGauges() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ConnectionPool pool = connectionPool.getConnectionConfig(properties);
+
+        connectionPool.connectionPoolMetrics(pool).bindTo(registry);
+
+        assertEquals(PostgreSQLConnectionPool.MAX_SIZE,
+                registry.get("r2dbc.pool.max.allocated").tag("name", PostgreSQLConnectionPool.POOL_NAME).gauge().value());
+        assertEquals(0, registry.get("r2dbc.pool.acquired").gauge().value());
+        assertNotNull(registry.get("r2dbc.pool.idle").gauge());
+        assertNotNull(registry.get("r2dbc.pool.pending").gauge());
+    }
 }
@@ -0,0 +1,228 @@
+package co.com.pragma.r2dbc.jwt;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.UserCredentials;
+import co.com.pragma.r2dbc.config.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtKeyRingTest {
+
+  private static final UserCredentials CREDENTIALS =
+          new UserCredentials(7L, "usuario@example.com", "secret", "ADMIN", new BigDecimal("1000"));
+
+  private static JwtProperties.SigningKey signingKey(String kid, KeyPair keyPair, boolean withPrivateKey) {
+    return new JwtProperties.SigningKey(kid,
+            withPrivateKey ? pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()) : null,
+            pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+  }
+
+  private static String pem(String type, byte[] der) {
+    return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder().encodeToString(der)
+            + "\n-----END " + type + "-----";
+  }
+
+  private static final String LEGACY_SECRET = "ClaveHistoricaDePruebaConAlMenos256Bits!!";
+
+  private static JwtProviderImpl provider(JwtProperties properties) {
+    return new JwtProviderImpl(new JwtKeyRing(properties), properties);
+  }
+
+  private static String legacyToken(String secret) {
+    return Jwts.builder().setSubject("7")
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+            .compact();
+  }
+
+  private static Map<String, Object> claims() {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put("roles", "ADMIN");
+    return claims;
+  }
+
+  @Test
+  void signsWithActiveRsaKeyAndPublishesJwk() {
+    // Arrange
+    KeyPair keyPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.RS256);
+    JwtProperties properties = new JwtProperties(null, null, "RS256", "k1",
+            List.of(signingKey("k1", keyPair, true)), null, null, null);
+    JwtProviderImpl provider = provider(properties);
+
+    // Act
+    String token = provider.generateToken(CREDENTIALS, claims());
+    Optional<TokenPrincipal> principal = provider.parseToken(token);
+
+    // Assert
+    assertEquals("7", principal.orElseThrow().subject());
+    Map<String, Object> jwk = provider.getPublicJwks().get(0);
+    assertEquals("k1", jwk.get("kid"));
+    assertEquals("RSA", jwk.get("kty"));
+    assertEquals("RS256", jwk.get("alg"));
+    assertEquals("AQAB", jwk.get("e"));
+  }
+
+  @Test
+  void rotatedKeysKeepVerifyingOlderTokens() {
+    // Arrange
+    KeyPair oldPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.ES256);
+    KeyPair newPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.ES256);
+    String oldToken = provider(new JwtProperties(null, null, "ES256", "old",
+            List.of(signingKey("old", oldPair, true)), null, null, null)).generateToken(CREDENTIALS, claims());
+
+    // Act
+    JwtProviderImpl rotated = provider(new JwtProperties(null, null, "ES256", "new",
+            List.of(signingKey("old", oldPair, false), signingKey("new", newPair, true)), null, null, null));
+
+    // Assert
+    assertTrue(rotated.parseToken(oldToken).isPresent());
+    assertTrue(rotated.parseToken(rotated.generateToken(CREDENTIALS, claims())).isPresent());
+    assertEquals(2, rotated.getPublicJwks().size());
+    Map<String, Object> jwk = rotated.getPublicJwks().get(0);
+    assertEquals("EC", jwk.get("kty"));
+    assertEquals("P-256", jwk.get("crv"));
+    assertEquals(43, ((String) jwk.get("x")).length());
+  }
+
+  @Test
+  void rejectsUnknownKidAndLegacyTokensAfterTheMigrationWindow() {
+    // Arrange
+    KeyPair keyPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.RS256);
+    JwtProviderImpl provider = provider(new JwtProperties(null, null, "RS256", null,
+            List.of(signingKey("k1", keyPair, true)), LEGACY_SECRET, Instant.now().minusSeconds(1), null));
+    KeyPair otherPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.RS256);
+    String unknownKid = Jwts.builder().setHeaderParam("kid", "otro").setSubject("7")
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(otherPair.getPrivate(), SignatureAlgorithm.RS256).compact();
+
+    // Act & Assert
+    assertFalse(provider.parseToken(unknownKid).isPresent());
+    assertFalse(provider.parseToken(legacyToken(LEGACY_SECRET)).isPresent());
+  }
+
+  @Test
+  void verifiesLegacySecretTokensDuringTheMigrationWindowOnly() {
+    // Arrange
+    KeyPair keyPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.RS256);
+    String secret = "OtraClaveSecretaDePruebaConAlMenos256Bits!!";
+
+    // Act
+    JwtProviderImpl provider = provider(new JwtProperties(secret, null, "RS256", "k1",
+            List.of(signingKey("k1", keyPair, true)), LEGACY_SECRET, Instant.now().plusSeconds(600), null));
+
+    // Assert
+    assertTrue(provider.parseToken(legacyToken(LEGACY_SECRET)).isPresent());
+    assertFalse(provider.parseToken(legacyToken(secret)).isPresent());
+  }
+
+  @Test
+  void rejectsLegacyTokensWhenTheMigrationWindowIsNotConfigured() {
+    // Arrange
+    KeyPair keyPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.RS256);
+    List<JwtProperties.SigningKey> keys = List.of(signingKey("k1", keyPair, true));
+
+    // Act
+    JwtProviderImpl unset = provider(new JwtProperties(null, null, "RS256", "k1", keys, null, null, null));
+    JwtProviderImpl secretOnly = provider(new JwtProperties(null, null, "RS256", "k1", keys, LEGACY_SECRET, null, null));
+
+    // Assert
+    assertFalse(unset.parseToken(legacyToken(LEGACY_SECRET)).isPresent());
+    assertFalse(secretOnly.parseToken(legacyToken(LEGACY_SECRET)).isPresent());
+  }
+
+  @Test
+  void hmacModeSignsWithSecretAndKeepsLegacySecretVerifyOnly() {
+    // Arrange
+    String secret = "OtraClaveSecretaDePruebaConAlMenos256Bits!!";
+    JwtProperties properties = new JwtProperties(secret, null, "HS256", null, null, LEGACY_SECRET,
+            Instant.now().plusSeconds(600), null);
+    JwtProviderImpl provider = provider(properties);
+
+    // Act
+    String token = provider.generateToken(CREDENTIALS, claims());
+
+    // Assert
+    assertTrue(provider.parseToken(token).isPresent());
+    assertTrue(provider.parseToken(legacyToken(LEGACY_SECRET)).isPresent());
+    assertFalse(provider.parseToken(legacyToken(secret)).isPresent());
+    assertTrue(provider.getPublicJwks().isEmpty());
+  }
+
+  @Test
+  void rejectsSecretShorterThan256Bits() {
+    // Arrange
+    JwtProperties properties = new JwtProperties("corta", null, "HS256", null, null, null, null, null);
+
+    // Act
+    IllegalStateException error = assertThrows(IllegalStateException.class, () -> new JwtKeyRing(properties));
+
+    // Assert
+    assertTrue(error.getMessage().contains("256 bits"));
+  }
+
+  @Test
+  void requiresConfiguredKeysWhenRunningMoreThanOneNode() {
+    // Arrange
+    JwtProperties rsa = new JwtProperties(null, null, "RS256", null, null, null, null, 2);
+    JwtProperties hmac = new JwtProperties(null, null, "HS256", null, null, null, null, 2);
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> new JwtKeyRing(rsa));
+    assertThrows(IllegalStateException.class, () -> new JwtKeyRing(hmac));
+  }
+
+  @Test
+  void rejectsTokenWhoseAlgorithmDoesNotMatchTheKid() {
+    // Arrange
+    KeyPair keyPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.RS256);
+    JwtProviderImpl provider = provider(new JwtProperties(null, null, "RS256", "k1",
+            List.of(signingKey("k1", keyPair, true)), null, null, null));
+    String forged = Jwts.builder().setHeaderParam("kid", "k1").setSubject("7")
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+            .compact();
+
+    // Act & Assert
+    assertFalse(provider.parseToken(forged).isPresent());
+  }
+
+  @Test
+  void failsFastWhenActiveKidHasNoPrivateKey() {
+    // Arrange
+    KeyPair keyPair = JwtKeyRing.generateKeyPair(SignatureAlgorithm.RS256);
+    JwtProperties properties = new JwtProperties(null, null, "RS256", "k1",
+            List.of(signingKey("k1", keyPair, false)), null, null, null);
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> new JwtKeyRing(properties));
+  }
+
+  @Test
+  void generatesEphemeralKeyWhenNoneConfigured() {
+    // Act
+    JwtKeyRing keyRing = new JwtKeyRing(new JwtProperties(null, null, "ES256", null, null, null, null, null));
+
+    // Assert
+    assertTrue(keyRing.activeKid().startsWith("ephemeral-"));
+    assertEquals(1, keyRing.publicJwks().size());
+  }
+}
@@ -2,7 +2,10 @@ package co.com.pragma.r2dbc.jwt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.UserCredentials;
 import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.r2dbc.config.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -10,21 +13,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 class JwtProviderImplTest {
 
   private JwtProvider jwtProvider;
   private String userId;
+  private UserCredentials credentials;
   private Map<String, Object> claims;
 
   @BeforeEach
   void setUp() {
     // Arrange - Configuración general
-    jwtProvider = new JwtProviderImpl();
-    userId = "usuario123";
+    JwtProperties properties = new JwtProperties(null, null, null, null, null, null, null, null);
+    jwtProvider = new JwtProviderImpl(new JwtKeyRing(properties), properties);
+    userId = "123";
+    credentials = new UserCredentials(123L, "usuario@example.com", "secret", "USER", new BigDecimal("2500000"));
     claims = new HashMap<>();
   }
 
@@ -35,7 +44,7 @@ class JwtProviderImplTest {
     claims.put("roles", "ADMIN,USER");
 
     // Act
-    String token = jwtProvider.generateToken(userId, claims);
+    String token = jwtProvider.generateToken(credentials, claims);
 
     // Assert
     assertNotNull(token);
@@ -47,7 +56,7 @@ class JwtProviderImplTest {
   @DisplayName("Debe validar correctamente un token válido")
   void validateValidTokenTest() {
     // Arrange
-    String token = jwtProvider.generateToken(userId, claims);
+    String token = jwtProvider.generateToken(credentials, claims);
 
     // Act
     boolean isValid = jwtProvider.validateToken(token);
@@ -73,7 +82,7 @@ class JwtProviderImplTest {
   @DisplayName("Debe extraer el ID de usuario del token")
   void getUserIdFromTokenTest() {
     // Arrange
-    String token = jwtProvider.generateToken(userId, claims);
+    String token = jwtProvider.generateToken(credentials, claims);
 
     // Act
     String extractedUserId = jwtProvider.getUserIdFromToken(token);
@@ -87,7 +96,7 @@ class JwtProviderImplTest {
   void getRolesFromTokenWithRolesTest() {
     // Arrange
     claims.put("roles", "ADMIN,USER");
-    String token = jwtProvider.generateToken(userId, claims);
+    String token = jwtProvider.generateToken(credentials, claims);
 
     // Act
     List<String> roles = jwtProvider.getRoleFromToken(token);
@@ -103,7 +112,7 @@ class JwtProviderImplTest {
   @DisplayName("Debe manejar el caso de token sin roles")
   void getRolesFromTokenWithoutRolesTest() {
     // Arrange
-    String token = jwtProvider.generateToken(userId, claims);
+    String token = jwtProvider.generateToken(credentials, claims);
 
     // Act
     List<String> roles = jwtProvider.getRoleFromToken(token);
@@ -118,7 +127,7 @@ class JwtProviderImplTest {
   void getRolesFromTokenWithEmptyRolesTest() {
     // Arrange
     claims.put("roles", "");
-    String token = jwtProvider.generateToken(userId, claims);
+    String token = jwtProvider.generateToken(credentials, claims);
 
     // Act
     List<String> roles = jwtProvider.getRoleFromToken(token);
@@ -127,4 +136,31 @@ class JwtProviderImplTest {
     assertNotNull(roles);
     assertTrue(roles.isEmpty());
   }
+
+  @Test
+  @DisplayName("Debe obtener sujeto, roles y expiración con un único parseo")
+  void parseTokenTest() {
+    // Arrange
+    claims.put("roles", "ADMIN, USER");
+    String token = jwtProvider.generateToken(credentials, claims);
+
+    // Act
+    Optional<TokenPrincipal> principal = jwtProvider.parseToken(token);
+
+    // Assert
+    assertTrue(principal.isPresent());
+    assertEquals(userId, principal.get().subject());
+    assertEquals(List.of("ADMIN", "USER"), principal.get().roles());
+    assertTrue(principal.get().expiresAt().isAfter(Instant.now()));
+  }
+
+  @Test
+  @DisplayName("Debe retornar vacío al parsear un token inválido")
+  void parseInvalidTokenTest() {
+    // Act
+    Optional<TokenPrincipal> principal = jwtProvider.parseToken("token.invalido.jwt");
+
+    // Assert
+    assertTrue(principal.isEmpty());
+  }
 }
@@ -0,0 +1,123 @@
+package co.com.pragma.r2dbc.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BCryptPasswordHasherTest {
+
+    private static final Instant PLAINTEXT_WINDOW_OPEN = Instant.now().plus(Duration.ofDays(1));
+
+    private final BCryptPasswordHasher hasher = new BCryptPasswordHasher(4, 1, 4, PLAINTEXT_WINDOW_OPEN);
+
+    @AfterEach
+    void tearDown() {
+        hasher.dispose();
+    }
+
+    @Test
+    void hash_ShouldProduceVerifiableBcryptOffTheCallingThread() {
+        // Arrange
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        // Act
+        String hash = hasher.hash("secreto")
+                .doOnNext(value -> thread.set(Thread.currentThread().getName()))
+                .block();
+
+        // Assert
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(thread.get().startsWith("password-hashing"));
+        StepVerifier.create(hasher.matches("secreto", hash)).expectNext(true).verifyComplete();
+        StepVerifier.create(hasher.matches("otra", hash)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void matches_ShouldAcceptLegacyPlaintextAndFlagItForRehash() {
+        // Act & Assert
+        StepVerifier.create(hasher.matches("legacy", "legacy")).expectNext(true).verifyComplete();
+        StepVerifier.create(hasher.matches("legacy", "otra")).expectNext(false).verifyComplete();
+        StepVerifier.create(hasher.matches(null, "legacy")).expectNext(false).verifyComplete();
+        assertTrue(hasher.needsRehash("legacy"));
+    }
+
+    @Test
+    void matches_ShouldRejectPlaintextAfterDeadlineAndCountOutcomes() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BCryptPasswordHasher expired = new BCryptPasswordHasher(4, 1, 4, Instant.now().minusSeconds(1));
+        hasher.bindTo(registry);
+        SimpleMeterRegistry expiredRegistry = new SimpleMeterRegistry();
+        expired.bindTo(expiredRegistry);
+
+        try {
+            // Act
+            hasher.matches("legacy", "legacy").block();
+            hasher.matches("legacy", "otra").block();
+            Boolean afterDeadline = expired.matches("legacy", "legacy").block();
+
+            // Assert
+            assertFalse(afterDeadline);
+            assertEquals(1.0, registry.get("auth.password-hashing.plaintext").tag("outcome", "match").functionCounter().count());
+            assertEquals(1.0, registry.get("auth.password-hashing.plaintext").tag("outcome", "mismatch").functionCounter().count());
+            assertEquals(1.0, expiredRegistry.get("auth.password-hashing.plaintext").tag("outcome", "expired").functionCounter().count());
+        } finally {
+            expired.dispose();
+        }
+    }
+
+    @Test
+    void needsRehash_ShouldOnlyUpgradeLowerCosts() {
+        // Arrange
+        String current = hasher.hash("secreto").block();
+        BCryptPasswordHasher stronger = new BCryptPasswordHasher(5, 1, 4, PLAINTEXT_WINDOW_OPEN);
+
+        try {
+            String strongerHash = stronger.hash("secreto").block();
+
+            // Act & Assert
+            assertFalse(hasher.needsRehash(current));
+            assertTrue(stronger.needsRehash(current));
+            assertFalse(hasher.needsRehash(strongerHash));
+            StepVerifier.create(stronger.matches("secreto", current)).expectNext(true).verifyComplete();
+        } finally {
+            stronger.dispose();
+        }
+    }
+
+    @Test
+    void calibrate_ShouldStayWithinBounds() {
+        // Act
+        int tiny = BCryptPasswordHasher.calibrate(Duration.ofNanos(1), 4, 6);
+        int generous = BCryptPasswordHasher.calibrate(Duration.ofHours(1), 4, 6);
+
+        // Assert
+        assertEquals(4, tiny);
+        assertEquals(6, generous);
+    }
+
+    @Test
+    void bindTo_ShouldExposeLatencyAndQueueMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hasher.bindTo(registry);
+
+        // Act
+        hasher.hash("secreto").block();
+
+        // Assert
+        assertEquals(1, registry.get("auth.password-hashing.latency").tag("operation", "hash").functionTimer().count());
+        assertEquals(0.0, registry.get("auth.password-hashing.queue.depth").gauge().value());
+        assertNotEquals(0.0, registry.get("auth.password-hashing.strength").gauge().value());
+    }
+}
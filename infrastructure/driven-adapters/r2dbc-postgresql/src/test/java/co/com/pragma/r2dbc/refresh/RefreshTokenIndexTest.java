@@ -0,0 +1,50 @@
+package co.com.pragma.r2dbc.refresh;
+
+import co.com.pragma.r2dbc.config.RefreshTokenProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshTokenIndexTest {
+
+    private final RefreshTokenIndex index = new RefreshTokenIndex(new RefreshTokenProperties(null, null));
+
+    @Test
+    void get_ShouldReturnNullForUnknownToken() {
+        // Act & Assert
+        assertNull(index.get(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void rotated_ShouldReplaceActiveEntryWithSameKeyBytes() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        index.active(new byte[]{1, 2, 3}, familyId, expiresAt);
+
+        // Act
+        index.rotated(new byte[]{1, 2, 3}, familyId, expiresAt);
+
+        // Assert
+        assertEquals(RefreshTokenIndex.State.ROTATED, index.get(new byte[]{1, 2, 3}).state());
+    }
+
+    @Test
+    void revokeFamily_ShouldBeVisibleThroughIsRevoked() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+
+        // Act
+        index.revokeFamily(familyId);
+
+        // Assert
+        assertTrue(index.isRevoked(familyId));
+        assertFalse(index.isRevoked(UUID.randomUUID()));
+    }
+}
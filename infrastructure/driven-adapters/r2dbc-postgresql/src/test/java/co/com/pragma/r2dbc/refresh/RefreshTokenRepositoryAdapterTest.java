@@ -0,0 +1,174 @@
+package co.com.pragma.r2dbc.refresh;
+
+import co.com.pragma.model.user.user.UserCredentials;
+import co.com.pragma.r2dbc.config.RefreshTokenProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenRepositoryAdapterTest {
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private RefreshTokenIndex refreshTokenIndex;
+    private RefreshTokenRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        R2dbcEntityTemplate template = mock(R2dbcEntityTemplate.class);
+        databaseClient = mock(DatabaseClient.class);
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+        when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+
+        RefreshTokenProperties properties = new RefreshTokenProperties(Duration.ofDays(1), 100L);
+        refreshTokenIndex = new RefreshTokenIndex(properties);
+        adapter = new RefreshTokenRepositoryAdapter(template, refreshTokenIndex, properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RowsFetchSpec<Object> stubRows() {
+        RowsFetchSpec<Object> rows = mock(RowsFetchSpec.class);
+        when(executeSpec.map(any(Function.class))).thenReturn(rows);
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRowsUpdated() {
+        FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+    }
+
+    @Test
+    void issue_ShouldStoreOnlyTheHashAndIndexTheToken() {
+        // Arrange
+        stubRowsUpdated();
+
+        // Act
+        String token = adapter.issue(7L).block();
+
+        // Assert
+        assertEquals(43, token.length());
+        verify(executeSpec, never()).bind("tokenHash", token);
+        assertEquals(RefreshTokenIndex.State.ACTIVE, refreshTokenIndex.get(RefreshTokenRepositoryAdapter.hash(token)).state());
+    }
+
+    @Test
+    void rotate_ShouldReturnCredentialsAndNextToken() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        UserCredentials credentials = new UserCredentials(7L, "usuario@example.com", null, "ADMIN", null);
+        when(stubRows().one()).thenReturn(Mono.just(new RefreshTokenRepositoryAdapter.Rotation(familyId, expiresAt, credentials)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.rotate("presented"))
+                .assertNext(session -> {
+                    assertEquals(credentials, session.credentials());
+                    assertNotEquals("presented", session.refreshToken());
+                    assertEquals(RefreshTokenIndex.State.ACTIVE,
+                            refreshTokenIndex.get(RefreshTokenRepositoryAdapter.hash(session.refreshToken())).state());
+                })
+                .verifyComplete();
+        assertEquals(RefreshTokenIndex.State.ROTATED,
+                refreshTokenIndex.get(RefreshTokenRepositoryAdapter.hash("presented")).state());
+    }
+
+    @Test
+    void rotate_ShouldRevokeFamily_WhenDatabaseReportsReuse() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+        RowsFetchSpec<Object> rows = stubRows();
+        when(rows.one()).thenReturn(Mono.empty());
+        when(rows.all()).thenReturn(Flux.just(familyId));
+
+        // Act & Assert
+        StepVerifier.create(adapter.rotate("reused"))
+                .verifyComplete();
+        assertTrue(refreshTokenIndex.isRevoked(familyId));
+    }
+
+    @Test
+    void rotate_ShouldRevokeFamilyWithoutRotating_WhenIndexKnowsTokenWasRotated() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+        refreshTokenIndex.rotated(RefreshTokenRepositoryAdapter.hash("reused"), familyId, Instant.now().plusSeconds(600));
+        stubRowsUpdated();
+
+        // Act & Assert
+        StepVerifier.create(adapter.rotate("reused"))
+                .verifyComplete();
+        assertTrue(refreshTokenIndex.isRevoked(familyId));
+        verify(databaseClient).sql(contains("family_id = :familyId"));
+        verify(databaseClient, never()).sql(contains("WITH consumed"));
+    }
+
+    @Test
+    void rotate_ShouldRejectExpiredTokenWithoutQuerying() {
+        // Arrange
+        refreshTokenIndex.active(RefreshTokenRepositoryAdapter.hash("expired"), UUID.randomUUID(), Instant.now().minusSeconds(1));
+
+        // Act & Assert
+        StepVerifier.create(adapter.rotate("expired"))
+                .verifyComplete();
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    void rotate_ShouldFailAfterRevokeAll_WhenUserLoggedOut() {
+        // Arrange
+        stubRowsUpdated();
+        String token = adapter.issue(7L).block();
+        UUID familyId = refreshTokenIndex.get(RefreshTokenRepositoryAdapter.hash(token)).familyId();
+        when(stubRows().all()).thenReturn(Flux.just(familyId, familyId));
+
+        // Act
+        StepVerifier.create(adapter.revokeAll(7L))
+                .verifyComplete();
+
+        // Assert
+        verify(executeSpec).bind("userId", 7L);
+        assertTrue(refreshTokenIndex.isRevoked(familyId));
+        StepVerifier.create(adapter.rotate(token))
+                .verifyComplete();
+        verify(databaseClient, never()).sql(contains("WITH consumed"));
+    }
+
+    @Test
+    void hash_ShouldBeSha256OfTheToken() {
+        // Act
+        byte[] first = RefreshTokenRepositoryAdapter.hash("token");
+        byte[] second = RefreshTokenRepositoryAdapter.hash("token");
+
+        // Assert
+        assertEquals(32, first.length);
+        assertArrayEquals(first, second);
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.pragma.r2dbc.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevocationSetTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Test
+    void contains_ShouldMatchIdOnlyWithinItsExpiryBucket() {
+        // Arrange
+        RevocationSet set = new RevocationSet(Duration.ofMinutes(1));
+        Instant expiresAt = NOW.plusSeconds(90);
+
+        // Act
+        set.add("jti-1", expiresAt);
+
+        // Assert
+        assertTrue(set.contains("jti-1", expiresAt));
+        assertFalse(set.contains("jti-2", expiresAt));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void add_ShouldIgnoreDuplicates() {
+        // Arrange
+        RevocationSet set = new RevocationSet(Duration.ofMinutes(1));
+
+        // Act
+        assertTrue(set.add("jti-1", NOW));
+        assertFalse(set.add("jti-1", NOW));
+
+        // Assert
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void prune_ShouldDropOnlyBucketsWhoseWindowHasEnded() {
+        // Arrange
+        RevocationSet set = new RevocationSet(Duration.ofMinutes(1));
+        set.add("expired", NOW.minusSeconds(120));
+        set.add("current-window", NOW.plusSeconds(1));
+        set.add("future", NOW.plusSeconds(600));
+        set.add("no-expiry", null);
+
+        // Act
+        int removed = set.prune(NOW);
+
+        // Assert
+        assertEquals(1, removed);
+        assertEquals(3, set.size());
+        assertFalse(set.contains("expired", NOW.minusSeconds(120)));
+        assertTrue(set.contains("current-window", NOW.plusSeconds(1)));
+        assertTrue(set.contains("no-expiry", null));
+    }
+}
@@ -0,0 +1,92 @@
+package co.com.pragma.r2dbc.revocation;
+
+import co.com.pragma.r2dbc.config.TokenRevocationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationRepositoryAdapterTest {
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec executeSpec;
+    private TokenRevocationRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        executeSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+        when(executeSpec.bind(anyString(), any())).thenReturn(executeSpec);
+        adapter = new TokenRevocationRepositoryAdapter(new TokenRevocationProperties(null, null, null), databaseClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void revoke_ShouldPersistAndRejectTokenLocally() {
+        // Arrange
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+        when(executeSpec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(1L));
+
+        // Act
+        StepVerifier.create(adapter.revoke("jti-1", expiresAt))
+                .verifyComplete();
+
+        // Assert
+        verify(executeSpec).bind("jti", "jti-1");
+        verify(executeSpec).bind("expiresAt", expiresAt);
+        assertTrue(adapter.isRevoked("jti-1", expiresAt));
+        assertFalse(adapter.isRevoked("jti-2", expiresAt));
+        assertFalse(adapter.isRevoked(null, expiresAt));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void catchUp_ShouldLoadRevocationsFromOtherNodesAndAdvanceWatermark() {
+        // Arrange
+        RowsFetchSpec<Object> rows = mock(RowsFetchSpec.class);
+        when(executeSpec.map(any(Function.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.empty());
+
+        // Act
+        StepVerifier.create(adapter.catchUp())
+                .verifyComplete();
+
+        // Assert
+        verify(executeSpec).bind(eq("since"), eq(Instant.EPOCH.minus(TokenRevocationRepositoryAdapter.CATCH_UP_OVERLAP)));
+        assertEquals(0, adapter.revocationSet().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void catchUp_ShouldSwallowErrors() {
+        // Arrange
+        RowsFetchSpec<Object> rows = mock(RowsFetchSpec.class);
+        when(executeSpec.map(any(Function.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.error(new RuntimeException("db down")));
+
+        // Act & Assert
+        StepVerifier.create(adapter.catchUp())
+                .verifyComplete();
+    }
+}
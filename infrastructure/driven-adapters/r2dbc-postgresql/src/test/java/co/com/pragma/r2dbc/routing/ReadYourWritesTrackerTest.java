@@ -0,0 +1,65 @@
+package co.com.pragma.r2dbc.routing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesTrackerTest {
+
+  private AtomicLong clock;
+  private ReadYourWritesTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    clock = new AtomicLong();
+    tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock::get);
+  }
+
+  @Test
+  void keyIsRecentWithinWindow() {
+    tracker.markWritten("email:a@b.com");
+
+    clock.addAndGet(Duration.ofSeconds(4).toNanos());
+
+    assertTrue(tracker.isRecentlyWritten("email:a@b.com"));
+    assertFalse(tracker.isRecentlyWritten("email:other@b.com"));
+  }
+
+  @Test
+  void keyExpiresAfterWindow() {
+    tracker.markWritten("doc:123");
+
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    assertFalse(tracker.isRecentlyWritten("doc:123"));
+    assertEquals(0, tracker.size());
+  }
+
+  @Test
+  void pruneRemovesExpiredKeysOnly() {
+    tracker.markWritten("doc:1");
+    clock.addAndGet(Duration.ofSeconds(3).toNanos());
+    tracker.markWritten("doc:2");
+    clock.addAndGet(Duration.ofSeconds(3).toNanos());
+
+    tracker.prune();
+
+    assertEquals(1, tracker.size());
+    assertTrue(tracker.isRecentlyWritten("doc:2"));
+  }
+
+  @Test
+  void zeroWindowDisablesTracking() {
+    ReadYourWritesTracker disabled = new ReadYourWritesTracker(Duration.ZERO, clock::get);
+
+    disabled.markWritten("doc:1");
+
+    assertFalse(disabled.isRecentlyWritten("doc:1"));
+  }
+}
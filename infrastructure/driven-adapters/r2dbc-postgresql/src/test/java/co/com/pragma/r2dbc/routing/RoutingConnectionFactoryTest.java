@@ -0,0 +1,23 @@
+package co.com.pragma.r2dbc.routing;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class RoutingConnectionFactoryTest {
+
+  private final RoutingConnectionFactory routingConnectionFactory = new RoutingConnectionFactory();
+
+  @Test
+  void lookupKeyComesFromReactorContext() {
+    StepVerifier.create(routingConnectionFactory.determineCurrentLookupKey()
+                    .contextWrite(DataSourceRoute.READ_REPLICA.asContext()))
+            .expectNext(DataSourceRoute.READ_REPLICA)
+            .verifyComplete();
+  }
+
+  @Test
+  void lookupKeyIsEmptyWithoutRoute() {
+    StepVerifier.create(routingConnectionFactory.determineCurrentLookupKey())
+            .verifyComplete();
+  }
+}
@@ -0,0 +1,106 @@
+package co.com.pragma.r2dbc.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserIndexVerifierTest {
+
+    @Test
+    void missingIndexes_ShouldBeEmpty_WhenAllExpectedIndexesExist() {
+        // Arrange
+        List<String> existing = List.of("users_pkey", "ux_users_correo_electronico", "ux_users_numero_documento");
+
+        // Act
+        List<String> missing = UserIndexVerifier.missingIndexes(existing);
+
+        // Assert
+        assertTrue(missing.isEmpty());
+    }
+
+    @Test
+    void missingIndexes_ShouldReportOnlyAbsentIndexes() {
+        // Act
+        List<String> missing = UserIndexVerifier.missingIndexes(List.of("users_pkey", "ux_users_correo_electronico"));
+
+        // Assert
+        assertEquals(List.of("ux_users_numero_documento"), missing);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_ShouldEmitMissingIndexesReadFromCatalog() {
+        // Arrange
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec executeSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<String> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+        when(executeSpec.map(any(Function.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(Flux.just("users_pkey", "ux_users_numero_documento"));
+
+        UserIndexVerifier verifier = new UserIndexVerifier(databaseClient);
+
+        // Act & Assert
+        StepVerifier.create(verifier.verify())
+                .expectNext(List.of("ux_users_correo_electronico"))
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verify_ShouldCompleteEmpty_WhenCatalogQueryFails() {
+        // Arrange
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec executeSpec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<String> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(executeSpec);
+        when(executeSpec.map(any(Function.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(Flux.error(new IllegalStateException("sin conexión")));
+
+        UserIndexVerifier verifier = new UserIndexVerifier(databaseClient);
+
+        // Act & Assert
+        StepVerifier.create(verifier.verify())
+                .verifyComplete();
+    }
+
+    @Test
+    void usesDocumentIndex_ShouldDetectIndexScanInPlan() {
+        // Act & Assert
+        assertTrue(UserIndexVerifier.usesDocumentIndex(List.of(
+                "Index Scan using ux_users_numero_documento on users  (cost=0.15..8.17 rows=1 width=180)",
+                "  Index Cond: (numero_documento = '1'::numeric)")));
+        assertFalse(UserIndexVerifier.usesDocumentIndex(List.of(
+                "Seq Scan on users  (cost=10000000000.00..10000000012.50 rows=1 width=180)",
+                "  Filter: ((numero_documento)::text = '1'::text)")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void verifyDocumentLookupPlan_ShouldEmitFalse_WhenPlanIsSequentialScan() {
+        // Arrange
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        when(databaseClient.inConnectionMany(any(Function.class)))
+                .thenReturn(Flux.just("Seq Scan on users", "  Filter: ((numero_documento)::text = '1'::text)"));
+
+        UserIndexVerifier verifier = new UserIndexVerifier(databaseClient);
+
+        // Act & Assert
+        StepVerifier.create(verifier.verifyDocumentLookupPlan())
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
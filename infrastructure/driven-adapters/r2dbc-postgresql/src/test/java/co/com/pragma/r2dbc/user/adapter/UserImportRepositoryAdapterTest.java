@@ -0,0 +1,69 @@
+package co.com.pragma.r2dbc.user.adapter;
+
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.r2dbc.exceptions.RepositoryException;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class UserImportRepositoryAdapterTest {
+
+    @Test
+    void toCopyLine_ShouldQuoteTextAndLeaveNullsUnquoted() {
+        // Arrange
+        UserParameters user = UserParameters.builder()
+                .nombres("Juan \"JJ\"")
+                .apellidos("Pérez, Gómez")
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .correoElectronico("juan@example.com")
+                .salarioBase(new BigDecimal("2500000.50"))
+                .numeroDocumento(new BigDecimal("1E+3"))
+                .build();
+
+        // Act
+        String line = UserImportRepositoryAdapter.toCopyLine(user);
+
+        // Assert
+        assertEquals("\"Juan \"\"JJ\"\"\",\"Pérez, Gómez\",1990-01-01,,,\"juan@example.com\",2500000.50,1000,USER\n", line);
+    }
+
+    @Test
+    void unwrap_ShouldReachPostgresqlConnectionThroughPoolWrapper() {
+        // Arrange
+        PostgresqlConnection postgresqlConnection = mock(PostgresqlConnection.class);
+        Connection pooled = mock(Connection.class, withSettings().extraInterfaces(Wrapped.class));
+        when(((Wrapped<?>) pooled).unwrap()).thenAnswer(invocation -> postgresqlConnection);
+
+        // Act & Assert
+        assertSame(postgresqlConnection, UserImportRepositoryAdapter.unwrap(pooled));
+    }
+
+    @Test
+    void copyUsers_ShouldWrapErrorsInRepositoryException() {
+        // Arrange
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.create()).thenAnswer(invocation -> Mono.error(new IllegalStateException("pool agotado")));
+        UserImportRepositoryAdapter adapter = new UserImportRepositoryAdapter(connectionFactory);
+
+        // Act & Assert
+        StepVerifier.create(adapter.copyUsers(List.of(new UserParameters())))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(RepositoryException.class, error);
+                    assertTrue(error.getMessage().contains("pool agotado"));
+                })
+                .verify();
+    }
+}
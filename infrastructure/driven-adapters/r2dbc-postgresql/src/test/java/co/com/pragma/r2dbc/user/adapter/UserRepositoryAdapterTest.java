@@ -1,10 +1,21 @@
 package co.com.pragma.r2dbc.user.adapter;
 
+import co.com.pragma.model.user.user.UserCreationResult;
 import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.r2dbc.coalescing.UserLookupCoalescer;
+import co.com.pragma.r2dbc.config.UserCacheProperties;
 import co.com.pragma.r2dbc.exceptions.DataIntegrityViolationException;
 import co.com.pragma.r2dbc.exceptions.RepositoryException;
+import co.com.pragma.r2dbc.routing.DataSourceRoute;
+import co.com.pragma.r2dbc.routing.ReadYourWritesTracker;
+import co.com.pragma.r2dbc.user.cache.UserDocumentCache;
 import co.com.pragma.r2dbc.user.entity.User;
+import co.com.pragma.r2dbc.user.entity.UserCredentialsData;
 import co.com.pragma.r2dbc.user.mapper.UserMapper;
+import co.com.pragma.r2dbc.user.repository.UserBatchQueries;
+import co.com.pragma.r2dbc.user.repository.UserInsertBatcher;
+import co.com.pragma.r2dbc.user.repository.UserKeysetQueries;
+import co.com.pragma.r2dbc.user.repository.UserProjectionQueries;
 import co.com.pragma.r2dbc.user.repository.UserRepository;
 import co.com.pragma.r2dbc.utils.Constants;
 import jakarta.validation.ConstraintViolation;
@@ -15,16 +26,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +55,27 @@ class UserRepositoryAdapterTest {
     @Mock
     private Validator validator;
 
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private UserKeysetQueries userKeysetQueries;
+
+    @Mock
+    private UserBatchQueries userBatchQueries;
+
+    @Mock
+    private UserProjectionQueries userProjectionQueries;
+
+    @Mock
+    private UserInsertBatcher userInsertBatcher;
+
+    @Spy
+    private UserDocumentCache userDocumentCache = new UserDocumentCache(new UserCacheProperties(false, null, null));
+
+    @Spy
+    private UserLookupCoalescer userLookupCoalescer = new UserLookupCoalescer();
+
     @InjectMocks
     private UserRepositoryAdapter adapter;
 
@@ -146,18 +183,90 @@ class UserRepositoryAdapterTest {
     }
 
     @Test
-    void existsByCorreoElectronico_EmailExists() {
+    void createUserIfAbsent_Inserted() {
         // Arrange
-        String email = "existing@example.com";
-        when(userRepository.existsByCorreoElectronico(email)).thenReturn(Mono.just(true));
+        userEntity.setCorreoElectronico("test@example.com");
+        when(validator.validate(userParameters)).thenReturn(new HashSet<>());
+        when(userMapper.toEntity(userParameters)).thenReturn(userEntity);
+        when(userRepository.insertIfAbsent(any(), any(), any(), any(), any(), eq("test@example.com"), any(), any(), eq(Constants.ROLE_USER), any()))
+                .thenReturn(Mono.just(userEntity));
+        when(userMapper.toDto(userEntity)).thenReturn(userParameters);
 
         // Act & Assert
-        StepVerifier.create(adapter.existsByCorreoElectronico(email))
+        StepVerifier.create(adapter.createUserIfAbsent(userParameters))
+                .assertNext(result -> {
+                    assertTrue(result.isCreated());
+                    assertSame(userParameters, result.getUser());
+                })
+                .verifyComplete();
+
+        verify(userRepository, never()).existsByCorreoElectronico(any());
+        verify(userRepository, never()).save(any());
+        verify(userDocumentCache).invalidate(userParameters.getNumeroDocumento());
+    }
+
+    @Test
+    void createUserIfAbsent_UsesBatcherWhenEnabled() {
+        // Arrange
+        when(validator.validate(userParameters)).thenReturn(new HashSet<>());
+        when(userMapper.toEntity(userParameters)).thenReturn(userEntity);
+        when(userInsertBatcher.isEnabled()).thenReturn(true);
+        when(userInsertBatcher.insertIfAbsent(userEntity)).thenReturn(Mono.just(userEntity));
+        when(userMapper.toDto(userEntity)).thenReturn(userParameters);
+
+        // Act & Assert
+        StepVerifier.create(adapter.createUserIfAbsent(userParameters))
+                .assertNext(result -> assertTrue(result.isCreated()))
+                .verifyComplete();
+
+        verify(userRepository, never()).insertIfAbsent(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void createUserIfAbsent_EmailAlreadyExists() {
+        // Arrange
+        when(validator.validate(userParameters)).thenReturn(new HashSet<>());
+        when(userMapper.toEntity(userParameters)).thenReturn(userEntity);
+        when(userRepository.insertIfAbsent(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.createUserIfAbsent(userParameters))
+                .expectNext(UserCreationResult.alreadyExists())
+                .verifyComplete();
+
+        verify(userMapper, never()).toDto(any());
+    }
+
+    @Test
+    void createUserIfAbsent_UnexpectedException() {
+        // Arrange
+        RuntimeException exception = new RuntimeException("Unexpected error");
+        when(validator.validate(userParameters)).thenReturn(new HashSet<>());
+        when(userMapper.toEntity(userParameters)).thenReturn(userEntity);
+        when(userRepository.insertIfAbsent(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.error(exception));
+
+        // Act & Assert
+        StepVerifier.create(adapter.createUserIfAbsent(userParameters))
                 .expectErrorSatisfies(throwable -> {
                     assertTrue(throwable instanceof RepositoryException);
-                    assertEquals(Constants.EMAIL_ALREADY_IN_USE, throwable.getMessage());
+                    assertEquals(Constants.UNEXPECTED_ERROR_MESSAGE, throwable.getMessage());
+                    assertSame(exception, throwable.getCause());
                 })
                 .verify();
+    }
+
+    @Test
+    void existsByCorreoElectronico_EmailExists() {
+        // Arrange
+        String email = "existing@example.com";
+        when(userRepository.existsByCorreoElectronico(email)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(adapter.existsByCorreoElectronico(email))
+                .expectNext(true)
+                .verifyComplete();
 
         verify(userRepository).existsByCorreoElectronico(email);
     }
@@ -179,7 +288,7 @@ class UserRepositoryAdapterTest {
     @Test
     void findByDocumentNumber_WhenEmpty_ShouldExecuteDeferredLogging() {
         // Given
-        String documentNumber = "12345678";
+        BigDecimal documentNumber = new BigDecimal("12345678");
         when(userRepository.findByNumeroDocumento(documentNumber))
                 .thenReturn(Mono.empty());
 
@@ -195,7 +304,7 @@ class UserRepositoryAdapterTest {
     @Test
     void findByDocumentNumber_UserExists() {
         // Arrange
-        String documentNumber = "123456789";
+        BigDecimal documentNumber = new BigDecimal("123456789");
         User userEntity = new User();
         userEntity.setNumeroDocumento(new BigDecimal(123456789));
 
@@ -214,7 +323,7 @@ class UserRepositoryAdapterTest {
     @Test
     void findByDocumentNumber_UserNotFound() {
         // Arrange
-        String documentNumber = "nonexistent123";
+        BigDecimal documentNumber = new BigDecimal("99999999");
         when(userRepository.findByNumeroDocumento(documentNumber)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -228,7 +337,7 @@ class UserRepositoryAdapterTest {
     @Test
     void findByDocumentNumber_ErrorOccurs() {
         // Arrange
-        String documentNumber = "123456789";
+        BigDecimal documentNumber = new BigDecimal("123456789");
         RuntimeException exception = new RuntimeException("Error al buscar usuario");
         when(userRepository.findByNumeroDocumento(documentNumber)).thenReturn(Mono.error(exception));
 
@@ -245,6 +354,107 @@ class UserRepositoryAdapterTest {
         verify(userMapper, never()).toDto(any());
     }
 
+    @Test
+    void findByDocumentNumber_RoutesToReadReplica() {
+        // Arrange
+        BigDecimal documentNumber = new BigDecimal("123456789");
+        when(userRepository.findByNumeroDocumento(documentNumber)).thenReturn(routedEntity());
+        when(userMapper.toDto(any())).thenAnswer(invocation -> {
+            User routed = invocation.getArgument(0);
+            return UserParameters.builder().nombres(routed.getNombres()).build();
+        });
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByDocumentNumber(documentNumber))
+                .assertNext(user -> assertEquals(DataSourceRoute.READ_REPLICA.name(), user.getNombres()))
+                .verifyComplete();
+
+        verify(readYourWritesTracker).isRecentlyWritten(Constants.DOCUMENT_ROUTING_KEY + "123456789");
+    }
+
+    @Test
+    void findByCorreoElectronico_RecentlyWritten_RoutesToPrimary() {
+        // Arrange
+        String email = "recent@example.com";
+        when(readYourWritesTracker.isRecentlyWritten(Constants.EMAIL_ROUTING_KEY + email)).thenReturn(true);
+        when(userRepository.findByCorreoElectronico(email)).thenReturn(routedEntity());
+        when(userMapper.toDto(any())).thenAnswer(invocation -> {
+            User routed = invocation.getArgument(0);
+            return UserParameters.builder().nombres(routed.getNombres()).build();
+        });
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByCorreoElectronico(email))
+                .assertNext(user -> assertEquals(DataSourceRoute.PRIMARY.name(), user.getNombres()))
+                .verifyComplete();
+    }
+
+    @Test
+    void createUserIfAbsent_MarksKeysAsRecentlyWritten() {
+        // Arrange
+        UserParameters created = UserParameters.builder()
+                .correoElectronico("test@example.com")
+                .numeroDocumento(new BigDecimal("123"))
+                .build();
+        when(validator.validate(userParameters)).thenReturn(new HashSet<>());
+        when(userMapper.toEntity(userParameters)).thenReturn(userEntity);
+        when(userRepository.insertIfAbsent(any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(userEntity));
+        when(userMapper.toDto(userEntity)).thenReturn(created);
+
+        // Act & Assert
+        StepVerifier.create(adapter.createUserIfAbsent(userParameters))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(readYourWritesTracker).markWritten(
+                Constants.EMAIL_ROUTING_KEY + "test@example.com",
+                Constants.DOCUMENT_ROUTING_KEY + "123");
+    }
+
+    @Test
+    void updatePassword_ShouldEvictCachedUserAndRouteNextReadToPrimary() {
+        // Arrange
+        BigDecimal documentNumber = new BigDecimal("123");
+        when(userRepository.updatePassword(7L, "hash")).thenReturn(Mono.just(documentNumber));
+
+        // Act & Assert
+        StepVerifier.create(adapter.updatePassword(7L, "hash"))
+                .verifyComplete();
+
+        verify(userDocumentCache).invalidate(documentNumber);
+        verify(readYourWritesTracker).markWritten(Constants.DOCUMENT_ROUTING_KEY + "123");
+    }
+
+    private static Mono<User> routedEntity() {
+        return Mono.deferContextual(context -> {
+            User routed = new User();
+            routed.setNombres(context.<DataSourceRoute>get(DataSourceRoute.CONTEXT_KEY).name());
+            return Mono.just(routed);
+        });
+    }
+
+    @Test
+    void findByCorreoElectronico_ConcurrentLookupsShareOneQuery() {
+        // Arrange
+        String email = "hot@example.com";
+        Sinks.One<User> pendingQuery = Sinks.one();
+        when(userRepository.findByCorreoElectronico(email)).thenReturn(pendingQuery.asMono());
+        when(userMapper.toDto(userEntity)).thenReturn(userParameters);
+
+        // Act
+        Mono<List<UserParameters>> both = Flux.merge(adapter.findByCorreoElectronico(email), adapter.findByCorreoElectronico(email))
+                .collectList();
+
+        // Assert
+        StepVerifier.create(both)
+                .then(() -> pendingQuery.tryEmitValue(userEntity))
+                .assertNext(users -> assertEquals(2, users.size()))
+                .verifyComplete();
+
+        verify(userRepository, times(1)).findByCorreoElectronico(email);
+    }
+
     @Test
     void findByCorreoElectronico_UserExists() {
         // Arrange
@@ -297,4 +507,100 @@ class UserRepositoryAdapterTest {
         verify(userRepository).findByCorreoElectronico(email);
         verify(userMapper, never()).toDto(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPageAfterId_MapsRowsFromReadReplica() {
+        // Arrange
+        when(userKeysetQueries.findPageAfterId(10L, 2)).thenReturn(Flux.from(routedEntity()));
+        when(userMapper.toDto(any())).thenAnswer(invocation -> {
+            User routed = invocation.getArgument(0);
+            return UserParameters.builder().nombres(routed.getNombres()).build();
+        });
+
+        // Act & Assert
+        StepVerifier.create(adapter.findPageAfterId(10L, 2))
+                .assertNext(user -> assertEquals(DataSourceRoute.READ_REPLICA.name(), user.getNombres()))
+                .verifyComplete();
+    }
+
+    @Test
+    void findAllByDocumentNumbersOrEmails_MapsRowsFromReadReplica() {
+        // Arrange
+        List<BigDecimal> documents = List.of(new BigDecimal("123"));
+        List<String> emails = List.of("a@example.com");
+        when(userBatchQueries.findByDocumentNumbersOrEmails(documents, emails)).thenReturn(Flux.from(routedEntity()));
+        when(userMapper.toDto(any())).thenAnswer(invocation -> {
+            User routed = invocation.getArgument(0);
+            return UserParameters.builder().nombres(routed.getNombres()).build();
+        });
+
+        // Act & Assert
+        StepVerifier.create(adapter.findAllByDocumentNumbersOrEmails(documents, emails))
+                .assertNext(user -> assertEquals(DataSourceRoute.READ_REPLICA.name(), user.getNombres()))
+                .verifyComplete();
+    }
+
+    @Test
+    void findProjectionByDocumentNumber_WrapsErrors() {
+        // Arrange
+        BigDecimal documentNumber = new BigDecimal("123");
+        RuntimeException exception = new RuntimeException("Projection error");
+        when(userProjectionQueries.findByDocumentNumber(documentNumber, Set.of("nombres"))).thenReturn(Mono.error(exception));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findProjectionByDocumentNumber(documentNumber, Set.of("nombres")))
+                .expectErrorSatisfies(throwable -> {
+                    assertTrue(throwable instanceof RepositoryException);
+                    assertSame(exception, throwable.getCause());
+                })
+                .verify();
+    }
+
+    @Test
+    void streamAfterId_WrapsErrors() {
+        // Arrange
+        RuntimeException exception = new RuntimeException("Stream error");
+        when(userKeysetQueries.streamAfterId(0L)).thenReturn(Flux.error(exception));
+
+        // Act & Assert
+        StepVerifier.create(adapter.streamAfterId(0L))
+                .expectErrorSatisfies(throwable -> {
+                    assertTrue(throwable instanceof RepositoryException);
+                    assertSame(exception, throwable.getCause());
+                })
+                .verify();
+    }
+
+    @Test
+    void findCredentialsByCorreoElectronico_MapsProjectionWithoutFullEntity() {
+        // Arrange
+        String email = "login@example.com";
+        when(userRepository.findCredentialsByCorreoElectronico(email))
+                .thenReturn(Mono.just(new UserCredentialsData(5L, email, "secret", "ADMIN", 2500.5)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findCredentialsByCorreoElectronico(email))
+                .assertNext(credentials -> {
+                    assertEquals(5L, credentials.id());
+                    assertEquals(email, credentials.correoElectronico());
+                    assertEquals("secret", credentials.password());
+                    assertEquals("ADMIN", credentials.role());
+                    assertEquals(new BigDecimal("2500.5"), credentials.salarioBase());
+                })
+                .verifyComplete();
+
+        verify(userRepository, never()).findByCorreoElectronico(any());
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    void findCredentialsByCorreoElectronico_UserNotFound() {
+        // Arrange
+        String email = "missing@example.com";
+        when(userRepository.findCredentialsByCorreoElectronico(email)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.findCredentialsByCorreoElectronico(email))
+                .verifyComplete();
+    }
+}
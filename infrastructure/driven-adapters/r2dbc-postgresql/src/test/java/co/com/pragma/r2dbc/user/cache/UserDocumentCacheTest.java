@@ -0,0 +1,81 @@
+package co.com.pragma.r2dbc.user.cache;
+
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.r2dbc.config.UserCacheProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class UserDocumentCacheTest {
+
+    private static final BigDecimal DOCUMENT = new BigDecimal("123456");
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<BigDecimal, Mono<UserParameters>> loader = document -> Mono.fromSupplier(() -> {
+        loads.incrementAndGet();
+        return UserParameters.builder().numeroDocumento(document).nombres("Juan").build();
+    });
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromCache() {
+        // Arrange
+        UserDocumentCache cache = new UserDocumentCache(new UserCacheProperties(true, 100L, Duration.ofMinutes(1)));
+
+        // Act
+        UserParameters first = cache.get(DOCUMENT, loader).block();
+        UserParameters second = cache.get(DOCUMENT, loader).block();
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1, cache.nativeCache().synchronous().stats().hitCount());
+    }
+
+    @Test
+    void invalidate_ShouldForceReload() {
+        // Arrange
+        UserDocumentCache cache = new UserDocumentCache(new UserCacheProperties(true, 100L, Duration.ofMinutes(1)));
+        cache.get(DOCUMENT, loader).block();
+
+        // Act
+        cache.invalidate(DOCUMENT);
+        cache.get(DOCUMENT, loader).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheEmptyResults() {
+        // Arrange
+        UserDocumentCache cache = new UserDocumentCache(new UserCacheProperties(true, 100L, Duration.ofMinutes(1)));
+        Function<BigDecimal, Mono<UserParameters>> emptyLoader = document -> Mono.fromRunnable(loads::incrementAndGet);
+
+        // Act & Assert
+        StepVerifier.create(cache.get(DOCUMENT, emptyLoader)).verifyComplete();
+        StepVerifier.create(cache.get(DOCUMENT, emptyLoader)).verifyComplete();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldDelegateToLoader_WhenDisabled() {
+        // Arrange
+        UserDocumentCache cache = new UserDocumentCache(new UserCacheProperties(false, null, null));
+
+        // Act
+        cache.get(DOCUMENT, loader).block();
+        cache.get(DOCUMENT, loader).block();
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,222 @@
+package co.com.pragma.r2dbc.user.repository;
+
+import co.com.pragma.r2dbc.config.UserInsertBatchProperties;
+import co.com.pragma.r2dbc.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserInsertBatcherTest {
+
+    private final List<List<User>> executedBatches = new CopyOnWriteArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+    private UserInsertBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.destroy();
+        }
+    }
+
+    @Test
+    void insertIfAbsent_ShouldFlushConcurrentInsertsAsSingleStatement() {
+        // Arrange
+        batcher = new UserInsertBatcher(properties(2, Duration.ofSeconds(5)), insertAll());
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(batcher.insertIfAbsent(user("a@test.com", "1")),
+                        batcher.insertIfAbsent(user("b@test.com", "2"))))
+                .assertNext(results -> {
+                    assertEquals("a@test.com", results.getT1().getCorreoElectronico());
+                    assertEquals("b@test.com", results.getT2().getCorreoElectronico());
+                    assertTrue(results.getT1().getId() != null && results.getT2().getId() != null);
+                })
+                .verifyComplete();
+
+        assertEquals(1, executedBatches.size());
+        assertEquals(2, executedBatches.get(0).size());
+    }
+
+    @Test
+    void insertIfAbsent_ShouldFlushPartialBatchAfterMaxWait() {
+        // Arrange
+        batcher = new UserInsertBatcher(properties(50, Duration.ofMillis(10)), insertAll());
+
+        // Act & Assert
+        StepVerifier.create(batcher.insertIfAbsent(user("a@test.com", "1")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, executedBatches.size());
+    }
+
+    @Test
+    void insertIfAbsent_ShouldCompleteEmpty_WhenRowWasNotReturned() {
+        // Arrange
+        batcher = new UserInsertBatcher(properties(2, Duration.ofSeconds(5)),
+                users -> Flux.fromIterable(users).filter(u -> !u.getCorreoElectronico().equals("dup@test.com")));
+
+        // Act
+        Mono<Boolean> duplicated = batcher.insertIfAbsent(user("dup@test.com", "1")).hasElement();
+        Mono<Boolean> inserted = batcher.insertIfAbsent(user("new@test.com", "2")).hasElement();
+
+        // Assert
+        StepVerifier.create(Mono.zip(duplicated, inserted))
+                .assertNext(results -> {
+                    assertFalse(results.getT1());
+                    assertTrue(results.getT2());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void insertIfAbsent_ShouldOnlyFailOffendingCaller_WhenBatchStatementFails() {
+        // Arrange
+        batcher = new UserInsertBatcher(properties(2, Duration.ofSeconds(5)), users -> {
+            executedBatches.add(users);
+            boolean containsBadRow = users.stream().anyMatch(u -> u.getCorreoElectronico().equals("bad@test.com"));
+            return containsBadRow ? Flux.error(new IllegalStateException("duplicate numero_documento")) : Flux.fromIterable(users);
+        });
+
+        // Act
+        Mono<String> bad = batcher.insertIfAbsent(user("bad@test.com", "1"))
+                .map(User::getCorreoElectronico)
+                .onErrorResume(error -> Mono.just(error.getMessage()));
+        Mono<String> good = batcher.insertIfAbsent(user("good@test.com", "2"))
+                .map(User::getCorreoElectronico);
+
+        // Assert
+        StepVerifier.create(Mono.zip(bad, good))
+                .assertNext(results -> {
+                    assertEquals("duplicate numero_documento", results.getT1());
+                    assertEquals("good@test.com", results.getT2());
+                })
+                .verifyComplete();
+
+        assertEquals(3, executedBatches.size());
+    }
+
+    @Test
+    void insertIfAbsent_ShouldKeepPipelineAlive_WhenExecutorThrows() {
+        // Arrange
+        AtomicLong calls = new AtomicLong();
+        batcher = new UserInsertBatcher(properties(1, Duration.ofMillis(10)), users -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("binding failed");
+            }
+            return insertAll().apply(users);
+        });
+
+        // Act & Assert
+        StepVerifier.create(batcher.insertIfAbsent(user("a@test.com", "1")))
+                .expectErrorMessage("binding failed")
+                .verify();
+        StepVerifier.create(batcher.insertIfAbsent(user("b@test.com", "2")))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void insertIfAbsent_ShouldNotOverflow_WhenAllFlushesAreInFlight() {
+        // Arrange: one flush slot held for longer than several maxWait periods
+        batcher = new UserInsertBatcher(new UserInsertBatchProperties(true, 1, Duration.ofMillis(1), 1),
+                users -> insertAll().apply(users).delaySubscription(Duration.ofMillis(20)));
+
+        // Act & Assert
+        StepVerifier.create(Flux.range(0, 20)
+                        .flatMap(i -> batcher.insertIfAbsent(user(i + "@test.com", String.valueOf(i)))))
+                .expectNextCount(20)
+                .verifyComplete();
+    }
+
+    @Test
+    void insertIfAbsent_ShouldAcceptEveryCaller_WhenEmittingFromManyThreads() {
+        // Arrange: slow flushes keep the sink busy while other threads keep offering
+        batcher = new UserInsertBatcher(properties(8, Duration.ofMillis(1)),
+                users -> insertAll().apply(users).delaySubscription(Duration.ofMillis(5)));
+
+        // Act & Assert
+        StepVerifier.create(Flux.range(0, 500)
+                        .parallel(8)
+                        .runOn(Schedulers.parallel())
+                        .flatMap(i -> batcher.insertIfAbsent(user(i + "@test.com", String.valueOf(i))))
+                        .sequential())
+                .expectNextCount(500)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void destroy_ShouldFailCallersStillWaiting() {
+        // Arrange
+        batcher = new UserInsertBatcher(properties(1, Duration.ofMillis(1)), users -> Flux.never(),
+                Duration.ofMillis(50));
+        Mono<User> pending = batcher.insertIfAbsent(user("a@test.com", "1")).cache();
+        pending.subscribe(ignored -> { }, ignored -> { });
+
+        // Act
+        batcher.destroy();
+
+        // Assert
+        StepVerifier.create(pending)
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+        StepVerifier.create(batcher.insertIfAbsent(user("b@test.com", "2")))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void buildInsertSql_ShouldContainOneValuesGroupPerRow() {
+        // Act
+        String sql = UserInsertBatcher.buildInsertSql(3);
+
+        // Assert
+        assertTrue(sql.contains(":correoElectronico0"));
+        assertTrue(sql.contains(":correoElectronico2"));
+        assertFalse(sql.contains(":correoElectronico3"));
+        assertTrue(sql.endsWith("ON CONFLICT (correo_electronico) DO NOTHING RETURNING *"));
+    }
+
+    @Test
+    void isEnabled_ShouldReflectProperties() {
+        // Arrange
+        batcher = new UserInsertBatcher(new UserInsertBatchProperties(false, null, null, null), insertAll());
+
+        // Assert
+        assertFalse(batcher.isEnabled());
+    }
+
+    private Function<List<User>, Flux<User>> insertAll() {
+        return users -> {
+            executedBatches.add(users);
+            return Flux.fromIterable(users).doOnNext(u -> u.setId(ids.incrementAndGet()));
+        };
+    }
+
+    private static UserInsertBatchProperties properties(int maxSize, Duration maxWait) {
+        return new UserInsertBatchProperties(true, maxSize, maxWait, 2);
+    }
+
+    private static User user(String email, String document) {
+        User user = new User();
+        user.setCorreoElectronico(email);
+        user.setNumeroDocumento(new BigDecimal(document));
+        return user;
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.pragma.r2dbc.user.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserProjectionQueriesTest {
+
+    @Test
+    void buildSelect_ShouldListOnlyRequestedColumnsInStableOrder() {
+        // Act
+        String sql = UserProjectionQueries.buildSelect(Set.of("salarioBase", "correoElectronico"));
+
+        // Assert
+        assertEquals("SELECT correo_electronico, salario_base FROM users WHERE numero_documento = :documentNumber", sql);
+    }
+
+    @Test
+    void buildSelect_ShouldRejectFieldsOutsideTheWhitelist() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> UserProjectionQueries.buildSelect(Set.of("nombres", "password")));
+        assertThrows(IllegalArgumentException.class,
+                () -> UserProjectionQueries.buildSelect(Set.of("id; DROP TABLE users")));
+    }
+}
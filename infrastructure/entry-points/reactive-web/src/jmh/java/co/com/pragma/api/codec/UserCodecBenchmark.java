@@ -0,0 +1,77 @@
+package co.com.pragma.api.codec;
+
+import co.com.pragma.api.config.BinaryCodecsConfig;
+import co.com.pragma.api.response.UserResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Tiempo de codificación/decodificación y tamaño en bytes de usuarios en JSON, CBOR y Smile,
+ * para un usuario y para un lote como el de {@code POST /api/v1/usuarios/batch}.
+ * El tamaño en bytes de cada formato se verifica en {@code BinaryCodecsConfigTest}.
+ * Ejecutar con {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserCodecBenchmark {
+
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  @Param({"1", "500"})
+  private int users;
+
+  private ObjectWriter writer;
+  private ObjectReader reader;
+  private List<UserResponse> payload;
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws Exception {
+    ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    ObjectMapper mapper = switch (format) {
+      case "cbor" -> BinaryCodecsConfig.cbor(json);
+      case "smile" -> BinaryCodecsConfig.smile(json);
+      default -> json;
+    };
+    JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, UserResponse.class);
+    writer = mapper.writerFor(type);
+    reader = mapper.readerFor(type);
+    payload = LongStream.rangeClosed(1, users).mapToObj(UserCodecBenchmark::user).toList();
+    encoded = writer.writeValueAsBytes(payload);
+  }
+
+  @Benchmark
+  public byte[] encode() throws Exception {
+    return writer.writeValueAsBytes(payload);
+  }
+
+  @Benchmark
+  public List<UserResponse> decode() throws Exception {
+    return reader.readValue(encoded);
+  }
+
+  private static UserResponse user(long id) {
+    return new UserResponse(id, "Nombre " + id, "Apellido " + id, LocalDate.of(1990, 1, 1).plusDays(id),
+            "Calle " + id + " # 10-20", "300" + id, "usuario" + id + "@example.com",
+            new BigDecimal("2500000.00"), BigDecimal.valueOf(1_000_000_000L + id));
+  }
+}
@@ -0,0 +1,69 @@
+package co.com.pragma.api.errors;
+
+import co.com.pragma.api.response.ErrorResponseWriter;
+import co.com.pragma.usecase.exceptions.BusinessErrors;
+import co.com.pragma.usecase.exceptions.BusinessException;
+import co.com.pragma.usecase.exceptions.ErrorResponse;
+import co.com.pragma.usecase.exceptions.ExceptionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Costo de una búsqueda sin resultado hasta obtener el cuerpo de la respuesta 404: la ruta
+ * anterior (excepción nueva con stack trace y cuerpo serializado en cada petición) frente a la
+ * actual (excepción compartida sin stack trace y cuerpo pre-serializado).
+ * {@code stackDepth} simula los marcos de Reactor y Netty presentes en un servidor real.
+ * Ejecutar con {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotFoundPathBenchmark {
+
+  @Param({"0", "128"})
+  private int stackDepth;
+
+  private ObjectMapper objectMapper;
+  private ErrorResponseWriter errorResponseWriter;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    errorResponseWriter = new ErrorResponseWriter(objectMapper);
+  }
+
+  @Benchmark
+  public byte[] freshExceptionAndSerialization() {
+    return atDepth(stackDepth, () -> Mono.<byte[]>empty()
+            .switchIfEmpty(Mono.error(() -> new BusinessException(ExceptionType.NOT_FOUND,
+                    new ErrorResponse("USER_NOT_FOUND", "Usuario no encontrado", 404))))
+            .onErrorResume(BusinessException.class, error -> Mono.fromCallable(() ->
+                    objectMapper.writeValueAsBytes(error.getErrorResponse())))
+            .block());
+  }
+
+  @Benchmark
+  public byte[] cachedExceptionAndBody() {
+    return atDepth(stackDepth, () -> Mono.<byte[]>empty()
+            .switchIfEmpty(Mono.error(BusinessErrors.USER_NOT_FOUND))
+            .onErrorResume(BusinessException.class, error ->
+                    Mono.just(errorResponseWriter.body(error.getErrorResponse())))
+            .block());
+  }
+
+  private static byte[] atDepth(int depth, Supplier<byte[]> action) {
+    return depth == 0 ? action.get() : atDepth(depth - 1, action);
+  }
+}
@@ -1,59 +1,158 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.config.UserListingProperties;
+import co.com.pragma.api.response.ErrorResponseWriter;
+import co.com.pragma.api.response.UserPageResponse;
+import co.com.pragma.api.response.UserResponse;
+import co.com.pragma.api.response.UserResponseWriter;
 import co.com.pragma.api.utils.Constants;
+import co.com.pragma.model.user.user.UserBatchRequest;
 import co.com.pragma.model.user.user.UserParameters;
 import co.com.pragma.usecase.exceptions.BusinessException;
 import co.com.pragma.usecase.exceptions.ErrorResponse;
 import co.com.pragma.usecase.user.UserUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
 @Component
 @RequiredArgsConstructor
 @Log
 public class Handler {
 
+  private static final Pattern DOCUMENT_NUMBER_PATTERN = Pattern.compile(Constants.DOCUMENT_NUMBER_REGEX);
+
   private final UserUseCase userUseCase;
+  private final UserListingProperties listingProperties;
+  private final UserResponseWriter userResponseWriter;
+  private final ErrorResponseWriter errorResponseWriter;
 
   public Mono<ServerResponse> createUser(ServerRequest serverRequest) {
-    log.info(Constants.LOG_CREATE_USER);
+    log.fine(Constants.LOG_CREATE_USER);
     return serverRequest.bodyToMono(UserParameters.class)
             .flatMap(userUseCase::createUser)
-            .flatMap(user -> ServerResponse.ok().bodyValue(user))
-            .onErrorResume(error -> {
-              if (error instanceof BusinessException businessException) {
-                log.warning(Constants.LOG_BUSINESS_ERROR + businessException.getMessage());
-                return ServerResponse.status(businessException.getErrorResponse().getStatus())
-                        .bodyValue(businessException.getErrorResponse());
-              }
-
-              log.severe(Constants.LOG_UNEXPECTED_ERROR + error);
-              return ServerResponse.status(500)
-                      .bodyValue(new ErrorResponse(Constants.INTERNAL_SERVER_ERROR, Constants.UNEXPECTED_ERROR_MESSAGE, 500));
-            });
+            .flatMap(user -> ServerResponse.ok().bodyValue(UserResponse.from(user)))
+            .onErrorResume(BusinessException.class, error -> businessError(serverRequest, error))
+            .onErrorResume(error -> unexpectedError(serverRequest, error));
   }
 
   public Mono<ServerResponse> getUserByDocumentNumber(ServerRequest serverRequest) {
-    log.info(Constants.LOG_FIND_USER);
-    String documentNumber = serverRequest.queryParam(Constants.DOCUMENT_NUMBER_PARAM)
-            .orElse(serverRequest.pathVariable(Constants.DOCUMENT_NUMBER_PARAM));
-
-    return userUseCase.findByDocumentNumber(documentNumber)
-            .flatMap(user -> ServerResponse.ok().bodyValue(user))
-            .onErrorResume(error -> {
-              if (error instanceof BusinessException businessException) {
-                log.warning(Constants.LOG_BUSINESS_ERROR + businessException.getMessage());
-                return ServerResponse.status(businessException.getErrorResponse().getStatus())
-                        .bodyValue(businessException.getErrorResponse());
+    log.fine(Constants.LOG_FIND_USER);
+    BigDecimal documentNumber = parseDocumentNumber(serverRequest.queryParam(Constants.DOCUMENT_NUMBER_PARAM)
+            .orElse(serverRequest.pathVariable(Constants.DOCUMENT_NUMBER_PARAM)));
+    if (documentNumber == null) {
+      return badRequest(serverRequest, Constants.INVALID_DOCUMENT_NUMBER_CODE, Constants.INVALID_DOCUMENT_NUMBER_MESSAGE);
+    }
+    Set<String> fields = userResponseWriter.parseFields(serverRequest.queryParam(Constants.FIELDS_PARAM).orElse(null));
+    if (fields == null) {
+      return badRequest(serverRequest, Constants.INVALID_FIELDS_CODE, Constants.INVALID_FIELDS_MESSAGE + UserResponse.FIELDS);
+    }
+
+    MediaType mediaType = userResponseWriter.negotiate(serverRequest.headers().accept());
+
+    return userUseCase.findByDocumentNumber(documentNumber, fields)
+            .flatMap(user -> ServerResponse.ok()
+                    .contentType(mediaType)
+                    .bodyValue(userResponseWriter.write(UserResponse.from(user), fields, mediaType)))
+            .onErrorResume(BusinessException.class, error -> businessError(serverRequest, error))
+            .onErrorResume(error -> unexpectedError(serverRequest, error));
+  }
+
+  public Mono<ServerResponse> listUsers(ServerRequest serverRequest) {
+    log.fine(Constants.LOG_LIST_USERS);
+    Long afterId = parsePositiveLong(serverRequest.queryParam(Constants.AFTER_ID_PARAM).orElse("0"));
+    if (afterId == null) {
+      return badRequest(serverRequest, Constants.INVALID_CURSOR_CODE, Constants.INVALID_CURSOR_MESSAGE);
+    }
+
+    if (acceptsNdjson(serverRequest)) {
+      return ServerResponse.ok()
+              .contentType(MediaType.APPLICATION_NDJSON)
+              .body(userUseCase.streamUsers(afterId).map(UserResponse::from), UserResponse.class);
+    }
+
+    Long pageSize = parsePositiveLong(serverRequest.queryParam(Constants.PAGE_SIZE_PARAM)
+            .orElse(String.valueOf(listingProperties.defaultPageSize())));
+    if (pageSize == null || pageSize < 1 || pageSize > listingProperties.maxPageSize()) {
+      return badRequest(serverRequest, Constants.INVALID_PAGE_SIZE_CODE, Constants.INVALID_PAGE_SIZE_MESSAGE + listingProperties.maxPageSize());
+    }
+
+    return userUseCase.listUsers(afterId, pageSize.intValue())
+            .flatMap(page -> ServerResponse.ok().bodyValue(UserPageResponse.from(page)))
+            .onErrorResume(error -> unexpectedError(serverRequest, error));
+  }
+
+  public Mono<ServerResponse> findUsersInBatch(ServerRequest serverRequest) {
+    log.fine(Constants.LOG_BATCH_USERS);
+    return serverRequest.bodyToMono(UserBatchRequest.class)
+            .flatMap(batch -> {
+              int keys = sizeOf(batch.getDocumentNumbers()) + sizeOf(batch.getCorreosElectronicos());
+              if (keys == 0 || keys > listingProperties.maxBatchSize()) {
+                return badRequest(serverRequest, Constants.INVALID_BATCH_SIZE_CODE, Constants.INVALID_BATCH_SIZE_MESSAGE + listingProperties.maxBatchSize());
+              }
+              MediaType mediaType = acceptsNdjson(serverRequest)
+                      ? MediaType.APPLICATION_NDJSON
+                      : userResponseWriter.negotiate(serverRequest.headers().accept());
+              Flux<UserResponse> users = userUseCase.findUsersInBatch(batch.getDocumentNumbers(), batch.getCorreosElectronicos())
+                      .map(UserResponse::from);
+              if (!MediaType.APPLICATION_JSON.equals(mediaType) && !MediaType.APPLICATION_NDJSON.equals(mediaType)) {
+                // Jackson's binary encoders cannot stream a Flux; the batch is bounded, so collect it
+                return users.collectList()
+                        .flatMap(list -> ServerResponse.ok().contentType(mediaType).bodyValue(list));
               }
+              // Rows are written as they are decoded, the result set is never collected
+              return ServerResponse.ok().contentType(mediaType).body(users, UserResponse.class);
+            })
+            .switchIfEmpty(Mono.defer(() ->
+                    badRequest(serverRequest, Constants.INVALID_BATCH_SIZE_CODE, Constants.INVALID_BATCH_SIZE_MESSAGE + listingProperties.maxBatchSize())));
+  }
+
+  private static int sizeOf(List<?> values) {
+    return values != null ? values.size() : 0;
+  }
+
+  private boolean acceptsNdjson(ServerRequest serverRequest) {
+    return serverRequest.headers().accept().stream()
+            .anyMatch(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON) && !mediaType.isWildcardType());
+  }
+
+  private BigDecimal parseDocumentNumber(String value) {
+    if (value == null || !DOCUMENT_NUMBER_PATTERN.matcher(value).matches()) {
+      return null;
+    }
+    return new BigDecimal(value);
+  }
+
+  private Long parsePositiveLong(String value) {
+    try {
+      long parsed = Long.parseLong(value);
+      return parsed < 0 ? null : parsed;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private Mono<ServerResponse> businessError(ServerRequest serverRequest, BusinessException error) {
+    log.fine(() -> Constants.LOG_BUSINESS_ERROR + error.getMessage());
+    return errorResponseWriter.write(error.getErrorResponse(), serverRequest.headers().accept());
+  }
+
+  private Mono<ServerResponse> unexpectedError(ServerRequest serverRequest, Throwable error) {
+    log.severe(Constants.LOG_UNEXPECTED_ERROR + error);
+    return errorResponseWriter.write(ErrorResponseWriter.INTERNAL_ERROR, serverRequest.headers().accept());
+  }
 
-              log.severe(Constants.LOG_UNEXPECTED_ERROR + error);
-              return ServerResponse.status(500)
-                      .bodyValue(new ErrorResponse(Constants.INTERNAL_SERVER_ERROR, Constants.UNEXPECTED_ERROR_MESSAGE, 500));
-            });
+  private Mono<ServerResponse> badRequest(ServerRequest serverRequest, String code, String message) {
+    return errorResponseWriter.write(new ErrorResponse(code, message, 400), serverRequest.headers().accept());
   }
 }
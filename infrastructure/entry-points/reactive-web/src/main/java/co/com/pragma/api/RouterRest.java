@@ -1,8 +1,18 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.auth.AuthHandler;
+import co.com.pragma.api.auth.JwksHandler;
+import co.com.pragma.api.importer.UserImportHandler;
+import co.com.pragma.api.response.UserPageResponse;
+import co.com.pragma.api.response.UserResponse;
+import co.com.pragma.model.user.user.RefreshTokenRequest;
+import co.com.pragma.model.user.user.TokenPair;
+import co.com.pragma.model.user.user.UserBatchRequest;
+import co.com.pragma.model.user.user.UserImportReport;
 import co.com.pragma.model.user.user.UserParameters;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -49,7 +59,7 @@ public class RouterRest {
                                     @ApiResponse(
                                             responseCode = "201",
                                             description = "Usuario creado exitosamente",
-                                            content = @Content(schema = @Schema(implementation = UserParameters.class))
+                                            content = @Content(schema = @Schema(implementation = UserResponse.class))
                                     ),
                                     @ApiResponse(
                                             responseCode = "400",
@@ -64,12 +74,15 @@ public class RouterRest {
                     operation = @Operation(
                             operationId = "getUserByDocumentNumber",
                             summary = "Obtener usuario por número de documento",
-                            description = "Obtiene la información de un usuario a partir de su número de documento",
+                            description = "Obtiene la información de un usuario a partir de su número de documento. Con fields se devuelven y consultan solo esas propiedades",
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "fields", description = "Propiedades separadas por coma, p. ej. salarioBase,correoElectronico")
+                            },
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "Usuario encontrado exitosamente",
-                                            content = @Content(schema = @Schema(implementation = UserParameters.class))
+                                            content = @Content(schema = @Schema(implementation = UserResponse.class))
                                     ),
                                     @ApiResponse(
                                             responseCode = "404",
@@ -82,6 +95,77 @@ public class RouterRest {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios",
+                    method = RequestMethod.GET,
+                    operation = @Operation(
+                            operationId = "listUsers",
+                            summary = "Listar usuarios",
+                            description = "Lista usuarios paginando por id (keyset). Con Accept: application/x-ndjson transmite todos los usuarios posteriores a afterId",
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "afterId", description = "Último id recibido, 0 para iniciar"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "size", description = "Tamaño de página")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Página de usuarios y cursor siguiente",
+                                            content = @Content(schema = @Schema(implementation = UserPageResponse.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Cursor o tamaño de página inválido"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/batch",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "findUsersInBatch",
+                            summary = "Buscar usuarios en lote",
+                            description = "Devuelve los usuarios cuyos números de documento o correos estén en la lista, en una sola consulta. Con Accept: application/x-ndjson se transmite un usuario por línea",
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(schema = @Schema(
+                                            implementation = UserBatchRequest.class,
+                                            example = "{\n" +
+                                                    "  \"documentNumbers\": [1234567890, 9876543210],\n" +
+                                                    "  \"correosElectronicos\": [\"juan1.perez@example.com\"]\n" +
+                                                    "}"
+                                    ))
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Usuarios encontrados; las claves sin coincidencia se omiten",
+                                            content = @Content(schema = @Schema(implementation = UserResponse.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "400",
+                                            description = "Lista vacía o mayor al máximo permitido"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/import",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "importUsers",
+                            summary = "Importar usuarios desde CSV",
+                            description = "Carga masiva de usuarios desde un CSV (text/csv o multipart con la parte 'file'). "
+                                    + "Columnas: nombres, apellidos, fechaNacimiento, direccion, telefono, correoElectronico, salarioBase, numeroDocumento",
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Resumen de la importación con los errores por fila",
+                                            content = @Content(schema = @Schema(implementation = UserImportReport.class))
+                                    )
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/api/v1/login",
                     method = RequestMethod.POST,
@@ -102,7 +186,7 @@ public class RouterRest {
                                     @ApiResponse(
                                             responseCode = "200",
                                             description = "Autenticación exitosa",
-                                            content = @Content(schema = @Schema(example = "{ \"token\": \"eyJhbGciOiJIUzI1NiJ9...\" }"))
+                                            content = @Content(schema = @Schema(implementation = TokenPair.class))
                                     ),
                                     @ApiResponse(
                                             responseCode = "401",
@@ -110,13 +194,83 @@ public class RouterRest {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/token/refresh",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "refreshToken",
+                            summary = "Renovar el token de acceso",
+                            description = "Consume el refresh token y devuelve un nuevo token de acceso junto con un nuevo refresh token. "
+                                    + "Reutilizar un refresh token ya consumido revoca toda la sesión",
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(schema = @Schema(implementation = RefreshTokenRequest.class))
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Tokens renovados",
+                                            content = @Content(schema = @Schema(implementation = TokenPair.class))
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "Refresh token inválido, expirado o revocado"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/logout",
+                    method = RequestMethod.POST,
+                    operation = @Operation(
+                            operationId = "logout",
+                            summary = "Cerrar sesión",
+                            description = "Revoca el token de acceso enviado en Authorization; deja de ser aceptado en todos los nodos",
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "204",
+                                            description = "Token revocado"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "401",
+                                            description = "No autorizado, token inválido, expirado o ya revocado"
+                                    )
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/.well-known/jwks.json",
+                    method = RequestMethod.GET,
+                    operation = @Operation(
+                            operationId = "getJwks",
+                            summary = "Claves públicas de firma (JWKS)",
+                            description = "Conjunto de claves públicas para verificar localmente los tokens emitidos, identificadas por kid",
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "JWK Set con las claves vigentes"
+                                    ),
+                                    @ApiResponse(
+                                            responseCode = "304",
+                                            description = "El JWK Set no ha cambiado (If-None-Match)"
+                                    )
+                            }
+                    )
             )
     })
     @Bean
-    public RouterFunction<ServerResponse> routerFunction(Handler handler, AuthHandler authHandler) {
+    public RouterFunction<ServerResponse> routerFunction(Handler handler, AuthHandler authHandler,
+                                                         UserImportHandler userImportHandler, JwksHandler jwksHandler) {
         return route(POST("/api/v1/usuarios"), handler::createUser)
+                .andRoute(POST("/api/v1/usuarios/import"), userImportHandler::importUsers)
+                .andRoute(POST("/api/v1/usuarios/batch"), handler::findUsersInBatch)
+                .andRoute(GET("/api/v1/usuarios"), handler::listUsers)
                 .andRoute(GET("/api/v1/usuarios/{documentNumber}"), handler::getUserByDocumentNumber)
-                .andRoute(POST("/api/v1/login"), authHandler::login);
+                .andRoute(POST("/api/v1/login"), authHandler::login)
+                .andRoute(POST("/api/v1/token/refresh"), authHandler::refresh)
+                .andRoute(POST("/api/v1/logout"), authHandler::logout)
+                .andRoute(GET("/.well-known/jwks.json"), jwksHandler::getJwks);
     }
 
 }
@@ -1,27 +1,78 @@
 package co.com.pragma.api.auth;
 
 import co.com.pragma.model.user.user.LoginRequest;
+import co.com.pragma.model.user.user.RefreshTokenRequest;
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.api.security.LoginThrottle;
 import co.com.pragma.usecase.auth.LoginServiceUseCase;
+import co.com.pragma.usecase.auth.TokenRevocationUseCase;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 import co.com.pragma.api.utils.Constants;
 
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Component
 @AllArgsConstructor
 public class AuthHandler {
 
   private final LoginServiceUseCase loginServiceUseCase;
+  private final TokenRevocationUseCase tokenRevocationUseCase;
+  private final LoginThrottle loginThrottle;
 
   public Mono<ServerResponse> login(ServerRequest request) {
     return request.bodyToMono(LoginRequest.class)
-            .flatMap(dto -> loginServiceUseCase.login(dto.getCorreoElectronico(), dto.getPassword())
-                    .flatMap(token -> ServerResponse.ok().bodyValue(Map.of(Constants.TOKEN_KEY, token)))
-                    .onErrorResume(e -> ServerResponse.status(Constants.FORBIDDEN_STATUS).bodyValue(Map.of(Constants.ERROR_KEY, e.getMessage()))));
+            .flatMap(dto -> {
+              Duration retryAfter = loginThrottle.acquire(dto.getCorreoElectronico(), clientIp(request));
+              if (!retryAfter.isZero()) {
+                return tooManyAttempts(retryAfter);
+              }
+              return loginServiceUseCase.login(dto.getCorreoElectronico(), dto.getPassword())
+                      .flatMap(tokens -> ServerResponse.ok().bodyValue(tokens))
+                      .onErrorResume(RejectedExecutionException.class, e -> ServerResponse.status(Constants.SERVICE_UNAVAILABLE_STATUS)
+                              .bodyValue(Map.of(Constants.ERROR_KEY, Constants.LOGIN_OVERLOADED)))
+                      .onErrorResume(e -> ServerResponse.status(Constants.FORBIDDEN_STATUS).bodyValue(Map.of(Constants.ERROR_KEY, e.getMessage())));
+            });
   }
 
+  public Mono<ServerResponse> refresh(ServerRequest request) {
+    return request.bodyToMono(RefreshTokenRequest.class)
+            .flatMap(dto -> loginServiceUseCase.refresh(dto.getRefreshToken())
+                    .flatMap(tokens -> ServerResponse.ok().bodyValue(tokens))
+                    .onErrorResume(e -> ServerResponse.status(Constants.UNAUTHORIZED_STATUS).bodyValue(Map.of(Constants.ERROR_KEY, e.getMessage()))));
+  }
+
+  public Mono<ServerResponse> logout(ServerRequest request) {
+    return request.principal()
+            .cast(Authentication.class)
+            .map(Authentication::getDetails)
+            .cast(TokenPrincipal.class)
+            .flatMap(principal -> tokenRevocationUseCase.revoke(principal)
+                    .then(ServerResponse.noContent().build())
+                    .onErrorResume(e -> ServerResponse.badRequest().bodyValue(Map.of(Constants.ERROR_KEY, e.getMessage()))))
+            .switchIfEmpty(ServerResponse.status(Constants.UNAUTHORIZED_STATUS).build());
+  }
+
+  private static Mono<ServerResponse> tooManyAttempts(Duration retryAfter) {
+    long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    return ServerResponse.status(Constants.TOO_MANY_REQUESTS_STATUS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+            .bodyValue(Map.of(Constants.ERROR_KEY, Constants.LOGIN_THROTTLED));
+  }
+
+  private static String clientIp(ServerRequest request) {
+    return request.remoteAddress()
+            .map(InetSocketAddress::getAddress)
+            .map(InetAddress::getHostAddress)
+            .orElse(null);
+  }
 }
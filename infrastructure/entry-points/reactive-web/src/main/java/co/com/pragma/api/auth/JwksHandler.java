@@ -0,0 +1,39 @@
+package co.com.pragma.api.auth;
+
+import co.com.pragma.api.utils.Constants;
+import co.com.pragma.model.user.user.gateways.JwtProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the public verification keys so other services can validate our tokens locally.
+ * The key set only changes on redeploy, so the body and its ETag are built once.
+ */
+@Component
+public class JwksHandler {
+
+  private final Map<String, List<Map<String, Object>>> jwks;
+  private final String etag;
+
+  public JwksHandler(JwtProvider jwtProvider) {
+    List<Map<String, Object>> keys = jwtProvider.getPublicJwks();
+    this.jwks = Map.of(Constants.JWKS_KEYS, keys);
+    this.etag = "\"" + Integer.toHexString(keys.hashCode()) + "\"";
+  }
+
+  public Mono<ServerResponse> getJwks(ServerRequest request) {
+    return request.checkNotModified(etag)
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.maxAge(Constants.JWKS_MAX_AGE).cachePublic())
+                    .eTag(etag)
+                    .bodyValue(jwks)));
+  }
+}
@@ -0,0 +1,42 @@
+package co.com.pragma.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Adds CBOR and Smile next to JSON for every route. The binary mappers are copies of the
+ * application ObjectMapper, so modules and naming settings stay identical across formats.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryCodecsConfig implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper cborMapper = cbor(objectMapper);
+        ObjectMapper smileMapper = smile(objectMapper);
+        configurer.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+    }
+
+    public static ObjectMapper cbor(ObjectMapper jsonMapper) {
+        return jsonMapper.copyWith(new CBORFactory());
+    }
+
+    public static ObjectMapper smile(ObjectMapper jsonMapper) {
+        return jsonMapper.copyWith(new SmileFactory());
+    }
+}
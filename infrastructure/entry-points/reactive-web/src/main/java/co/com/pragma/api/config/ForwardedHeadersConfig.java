@@ -0,0 +1,23 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.security.TrustedProxyForwardedHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With {@code server.forward-headers-strategy=native} Reactor Netty would trust forwarded headers
+ * from any peer; this replaces its handler with one that only honours trusted proxies.
+ */
+// $JACOCO-OFF$
+@Configuration
+@ConditionalOnProperty(name = "server.forward-headers-strategy", havingValue = "native")
+public class ForwardedHeadersConfig {
+
+    @Bean
+    NettyServerCustomizer trustedProxyForwardedCustomizer(ForwardedHeadersProperties properties) {
+        TrustedProxyForwardedHandler handler = new TrustedProxyForwardedHandler(properties.trustedProxies());
+        return httpServer -> httpServer.forwarded(handler);
+    }
+}
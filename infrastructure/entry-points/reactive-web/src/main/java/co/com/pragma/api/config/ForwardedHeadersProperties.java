@@ -0,0 +1,17 @@
+package co.com.pragma.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Addresses or CIDR ranges of the proxies allowed to set {@code X-Forwarded-For}. With an empty
+ * list the header is ignored and the client is always the TCP peer.
+ */
+@ConfigurationProperties(prefix = "security.forwarded-headers")
+public record ForwardedHeadersProperties(List<String> trustedProxies) {
+
+    public ForwardedHeadersProperties {
+        trustedProxies = trustedProxies != null ? List.copyOf(trustedProxies) : List.of();
+    }
+}
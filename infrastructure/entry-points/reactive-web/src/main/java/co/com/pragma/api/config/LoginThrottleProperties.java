@@ -0,0 +1,34 @@
+package co.com.pragma.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "security.login-throttle")
+public record LoginThrottleProperties(
+        boolean enabled,
+        Integer emailCapacity,
+        Duration emailRefillInterval,
+        Integer ipCapacity,
+        Duration ipRefillInterval,
+        Long maximumKeys,
+        Duration idleTimeout) {
+
+    public static final int DEFAULT_EMAIL_CAPACITY = 5;
+    public static final Duration DEFAULT_EMAIL_REFILL_INTERVAL = Duration.ofSeconds(30);
+    public static final int DEFAULT_IP_CAPACITY = 20;
+    public static final Duration DEFAULT_IP_REFILL_INTERVAL = Duration.ofSeconds(1);
+    public static final long DEFAULT_MAXIMUM_KEYS = 100_000;
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    public LoginThrottleProperties {
+        emailCapacity = emailCapacity != null && emailCapacity > 0 ? emailCapacity : DEFAULT_EMAIL_CAPACITY;
+        emailRefillInterval = emailRefillInterval != null && emailRefillInterval.isPositive()
+                ? emailRefillInterval : DEFAULT_EMAIL_REFILL_INTERVAL;
+        ipCapacity = ipCapacity != null && ipCapacity > 0 ? ipCapacity : DEFAULT_IP_CAPACITY;
+        ipRefillInterval = ipRefillInterval != null && ipRefillInterval.isPositive()
+                ? ipRefillInterval : DEFAULT_IP_REFILL_INTERVAL;
+        maximumKeys = maximumKeys != null && maximumKeys > 0 ? maximumKeys : DEFAULT_MAXIMUM_KEYS;
+        idleTimeout = idleTimeout != null && idleTimeout.isPositive() ? idleTimeout : DEFAULT_IDLE_TIMEOUT;
+    }
+}
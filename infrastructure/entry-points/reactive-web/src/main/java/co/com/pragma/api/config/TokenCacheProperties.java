@@ -0,0 +1,17 @@
+package co.com.pragma.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "security.token-cache")
+public record TokenCacheProperties(boolean enabled, Long maximumSize, Duration maxTtl) {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofHours(1);
+
+    public TokenCacheProperties {
+        maximumSize = maximumSize != null ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+        maxTtl = maxTtl != null ? maxTtl : DEFAULT_MAX_TTL;
+    }
+}
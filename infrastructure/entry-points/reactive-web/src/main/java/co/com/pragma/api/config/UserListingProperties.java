@@ -0,0 +1,17 @@
+package co.com.pragma.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "users.listing")
+public record UserListingProperties(Integer defaultPageSize, Integer maxPageSize, Integer maxBatchSize) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 2000;
+
+    public UserListingProperties {
+        defaultPageSize = defaultPageSize != null ? defaultPageSize : DEFAULT_PAGE_SIZE;
+        maxPageSize = maxPageSize != null ? maxPageSize : MAX_PAGE_SIZE;
+        maxBatchSize = maxBatchSize != null ? maxBatchSize : MAX_BATCH_SIZE;
+    }
+}
@@ -0,0 +1,85 @@
+package co.com.pragma.api.importer;
+
+import co.com.pragma.api.utils.Constants;
+import co.com.pragma.model.user.user.UserImportRow;
+import co.com.pragma.model.user.user.UserParameters;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class UserCsvParser {
+
+  static final List<String> HEADER = List.of("nombres", "apellidos", "fechaNacimiento", "direccion",
+          "telefono", "correoElectronico", "salarioBase", "numeroDocumento");
+
+  private UserCsvParser() {
+  }
+
+  public static Flux<UserImportRow> parse(Flux<String> lines) {
+    return lines.index()
+            .filter(line -> !line.getT2().isBlank())
+            .filter(line -> line.getT1() > 0 || !isHeader(line.getT2()))
+            .map(line -> parseLine(line.getT1() + 1, line.getT2()));
+  }
+
+  static UserImportRow parseLine(long lineNumber, String line) {
+    List<String> fields = split(line);
+    if (fields.size() != HEADER.size()) {
+      return UserImportRow.malformed(lineNumber, Constants.CSV_WRONG_COLUMN_COUNT + HEADER.size());
+    }
+    if (!fields.get(7).matches(Constants.DOCUMENT_NUMBER_REGEX)) {
+      return UserImportRow.malformed(lineNumber, Constants.INVALID_DOCUMENT_NUMBER_MESSAGE);
+    }
+    try {
+      UserParameters user = UserParameters.builder()
+              .nombres(fields.get(0))
+              .apellidos(fields.get(1))
+              .fechaNacimiento(fields.get(2).isEmpty() ? null : LocalDate.parse(fields.get(2)))
+              .direccion(fields.get(3))
+              .telefono(fields.get(4))
+              .correoElectronico(fields.get(5))
+              .salarioBase(fields.get(6).isEmpty() ? null : new BigDecimal(fields.get(6)))
+              .numeroDocumento(new BigDecimal(fields.get(7)))
+              .build();
+      return UserImportRow.valid(lineNumber, user);
+    } catch (DateTimeParseException | NumberFormatException e) {
+      return UserImportRow.malformed(lineNumber, Constants.CSV_INVALID_VALUE + e.getMessage());
+    }
+  }
+
+  static List<String> split(String line) {
+    List<String> fields = new ArrayList<>(HEADER.size());
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          current.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(current.toString().trim());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    fields.add(current.toString().trim());
+    return fields;
+  }
+
+  private static boolean isHeader(String line) {
+    return split(line).equals(HEADER);
+  }
+}
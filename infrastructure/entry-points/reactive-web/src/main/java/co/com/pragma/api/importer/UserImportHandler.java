@@ -0,0 +1,56 @@
+package co.com.pragma.api.importer;
+
+import co.com.pragma.api.utils.Constants;
+import co.com.pragma.usecase.exceptions.ErrorResponse;
+import co.com.pragma.usecase.user.UserImportUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+@Component
+@RequiredArgsConstructor
+@Log
+public class UserImportHandler {
+
+  private static final StringDecoder LINE_DECODER = StringDecoder.allMimeTypes();
+  private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+
+  private final UserImportUseCase userImportUseCase;
+
+  public Mono<ServerResponse> importUsers(ServerRequest serverRequest) {
+    log.fine(Constants.LOG_IMPORT_USERS);
+    Flux<String> lines = LINE_DECODER.decode(csvContent(serverRequest), STRING_TYPE, null, Collections.emptyMap());
+
+    return userImportUseCase.importUsers(UserCsvParser.parse(lines))
+            .flatMap(report -> ServerResponse.ok().bodyValue(report))
+            .onErrorResume(error -> {
+              log.severe(Constants.LOG_UNEXPECTED_ERROR + error);
+              return ServerResponse.status(500)
+                      .bodyValue(new ErrorResponse(Constants.INTERNAL_SERVER_ERROR, Constants.UNEXPECTED_ERROR_MESSAGE, 500));
+            });
+  }
+
+  private Flux<DataBuffer> csvContent(ServerRequest serverRequest) {
+    boolean multipart = serverRequest.headers().contentType()
+            .map(MediaType.MULTIPART_FORM_DATA::isCompatibleWith)
+            .orElse(false);
+    if (!multipart) {
+      return serverRequest.bodyToFlux(DataBuffer.class);
+    }
+    return serverRequest.bodyToFlux(Part.class)
+            .filter(part -> Constants.IMPORT_FILE_PART.equals(part.name()))
+            .next()
+            .flatMapMany(Part::content);
+  }
+}
@@ -0,0 +1,33 @@
+package co.com.pragma.api.response;
+
+import org.springframework.http.MediaType;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Accept header matching shared by the response writers.
+ */
+final class ContentNegotiation {
+
+  private ContentNegotiation() {
+  }
+
+  /**
+   * Picks the first supported format in the client's Accept order, JSON when there is
+   * none or only wildcards.
+   */
+  static MediaType negotiate(List<MediaType> accept, Collection<MediaType> supported) {
+    for (MediaType requested : accept) {
+      if (requested.isWildcardType() || requested.isWildcardSubtype()) {
+        continue;
+      }
+      for (MediaType candidate : supported) {
+        if (candidate.isCompatibleWith(requested)) {
+          return candidate;
+        }
+      }
+    }
+    return MediaType.APPLICATION_JSON;
+  }
+}
@@ -0,0 +1,68 @@
+package co.com.pragma.api.response;
+
+import co.com.pragma.api.config.BinaryCodecsConfig;
+import co.com.pragma.api.utils.Constants;
+import co.com.pragma.usecase.exceptions.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes {@link ErrorResponse} bodies from bytes serialized once per distinct error and format.
+ * The format follows the Accept header like successful responses do, so a CBOR or Smile client
+ * can decode its errors too. Error bodies come from a small set of constants, so each format's
+ * cache is bounded by {@link Constants#MAX_CACHED_ERROR_BODIES} only as a guard against
+ * unexpected messages.
+ */
+@Component
+public class ErrorResponseWriter {
+
+  public static final ErrorResponse INTERNAL_ERROR =
+          new ErrorResponse(Constants.INTERNAL_SERVER_ERROR, Constants.UNEXPECTED_ERROR_MESSAGE, 500);
+
+  private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+  private final Map<MediaType, Map<ErrorResponse, byte[]>> bodies = new LinkedHashMap<>();
+
+  public ErrorResponseWriter(ObjectMapper objectMapper) {
+    mappers.put(MediaType.APPLICATION_JSON, objectMapper);
+    mappers.put(MediaType.APPLICATION_CBOR, BinaryCodecsConfig.cbor(objectMapper));
+    mappers.put(MediaType.valueOf(Constants.SMILE_MEDIA_TYPE), BinaryCodecsConfig.smile(objectMapper));
+    mappers.keySet().forEach(mediaType -> bodies.put(mediaType, new ConcurrentHashMap<>()));
+  }
+
+  public Mono<ServerResponse> write(ErrorResponse error, List<MediaType> accept) {
+    MediaType mediaType = ContentNegotiation.negotiate(accept, mappers.keySet());
+    return ServerResponse.status(error.getStatus())
+            .contentType(mediaType)
+            .bodyValue(body(error, mediaType));
+  }
+
+  public byte[] body(ErrorResponse error, MediaType mediaType) {
+    Map<ErrorResponse, byte[]> cache = bodies.get(mediaType);
+    byte[] cached = cache.get(error);
+    if (cached != null) {
+      return cached;
+    }
+    byte[] serialized = serialize(error, mappers.get(mediaType));
+    if (cache.size() < Constants.MAX_CACHED_ERROR_BODIES) {
+      cache.putIfAbsent(error, serialized);
+    }
+    return serialized;
+  }
+
+  private static byte[] serialize(ErrorResponse error, ObjectMapper mapper) {
+    try {
+      return mapper.writeValueAsBytes(error);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(Constants.ERROR_SERIALIZATION_FAILED, e);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.api.response;
+
+import co.com.pragma.model.user.user.UserPage;
+
+import java.util.List;
+
+/**
+ * Keyset page as returned to clients: items are {@link UserResponse}, never the domain user.
+ */
+public record UserPageResponse(List<UserResponse> items, Long nextCursor) {
+
+  public static UserPageResponse from(UserPage page) {
+    return new UserPageResponse(page.getItems().stream().map(UserResponse::from).toList(), page.getNextCursor());
+  }
+}
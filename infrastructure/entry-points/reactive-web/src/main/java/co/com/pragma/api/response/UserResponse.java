@@ -0,0 +1,39 @@
+package co.com.pragma.api.response;
+
+import co.com.pragma.model.user.user.UserParameters;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Public view of a user. Credentials and role never leave the service.
+ */
+public record UserResponse(
+        Long id,
+        String nombres,
+        String apellidos,
+        LocalDate fechaNacimiento,
+        String direccion,
+        String telefono,
+        String correoElectronico,
+        BigDecimal salarioBase,
+        BigDecimal numeroDocumento) {
+
+  public static final Set<String> FIELDS = Set.of(
+          "id", "nombres", "apellidos", "fechaNacimiento", "direccion",
+          "telefono", "correoElectronico", "salarioBase", "numeroDocumento");
+
+  public static UserResponse from(UserParameters user) {
+    return new UserResponse(
+            user.getId(),
+            user.getNombres(),
+            user.getApellidos(),
+            user.getFechaNacimiento(),
+            user.getDireccion(),
+            user.getTelefono(),
+            user.getCorreoElectronico(),
+            user.getSalarioBase(),
+            user.getNumeroDocumento());
+  }
+}
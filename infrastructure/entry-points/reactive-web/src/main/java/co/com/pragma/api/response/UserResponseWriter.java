@@ -0,0 +1,103 @@
+package co.com.pragma.api.response;
+
+import co.com.pragma.api.config.BinaryCodecsConfig;
+import co.com.pragma.api.utils.Constants;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes {@link UserResponse} restricted to a {@code ?fields=} selection, as JSON, CBOR
+ * or Smile. Each distinct format and selection gets one {@link ObjectWriter}, built on first
+ * use and reused afterwards; since selections are subsets of {@link UserResponse#FIELDS}
+ * the map stays small.
+ */
+@Component
+public class UserResponseWriter {
+
+  private static final String FILTER_ID = "userResponseFields";
+
+  private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+  private final Map<Selection, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  public UserResponseWriter(ObjectMapper objectMapper) {
+    // The filter lives on private copies so UserResponse serializes normally everywhere else
+    mappers.put(MediaType.APPLICATION_JSON, withFieldFilter(objectMapper.copy()));
+    mappers.put(MediaType.APPLICATION_CBOR, withFieldFilter(BinaryCodecsConfig.cbor(objectMapper)));
+    mappers.put(MediaType.valueOf(Constants.SMILE_MEDIA_TYPE), withFieldFilter(BinaryCodecsConfig.smile(objectMapper)));
+  }
+
+  /**
+   * Picks the first supported format in the client's Accept order, JSON when there is
+   * none or only wildcards.
+   */
+  public MediaType negotiate(List<MediaType> accept) {
+    return ContentNegotiation.negotiate(accept, mappers.keySet());
+  }
+
+  /**
+   * Returns the selected fields, an empty set when every field is wanted, or {@code null}
+   * when the selection names an unknown field.
+   */
+  public Set<String> parseFields(String fieldsParam) {
+    if (fieldsParam == null || fieldsParam.isBlank()) {
+      return Set.of();
+    }
+    Set<String> fields = new HashSet<>();
+    for (String field : fieldsParam.split(",")) {
+      String name = field.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      if (!UserResponse.FIELDS.contains(name)) {
+        return null;
+      }
+      fields.add(name);
+    }
+    return fields.equals(UserResponse.FIELDS) ? Set.of() : Set.copyOf(fields);
+  }
+
+  public byte[] write(UserResponse user, Set<String> fields, MediaType mediaType) {
+    try {
+      return writers.computeIfAbsent(new Selection(mediaType, fields), this::newWriter).writeValueAsBytes(user);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(Constants.USER_SERIALIZATION_FAILED, e);
+    }
+  }
+
+  private ObjectWriter newWriter(Selection selection) {
+    ObjectMapper mapper = mappers.get(selection.mediaType());
+    if (mapper == null) {
+      throw new IllegalArgumentException(Constants.UNSUPPORTED_MEDIA_TYPE + selection.mediaType());
+    }
+    PropertyFilter filter = selection.fields().isEmpty()
+            ? SimpleBeanPropertyFilter.serializeAll()
+            : SimpleBeanPropertyFilter.filterOutAllExcept(selection.fields());
+    return mapper.writerFor(UserResponse.class)
+            .with(new SimpleFilterProvider().addFilter(FILTER_ID, filter));
+  }
+
+  private static ObjectMapper withFieldFilter(ObjectMapper mapper) {
+    return mapper.addMixIn(UserResponse.class, FieldFilter.class);
+  }
+
+  private record Selection(MediaType mediaType, Set<String> fields) {
+  }
+
+  @JsonFilter(FILTER_ID)
+  private interface FieldFilter {
+  }
+}
@@ -0,0 +1,125 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.api.config.LoginThrottleProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-IP and per-email token buckets for the login endpoint. Each bucket is a single
+ * {@link AtomicLong} holding the theoretical arrival time of the next request (GCRA), so a
+ * check is one CAS with no locking. Keys live in size-bounded caches and are dropped once
+ * idle; a dropped bucket is equivalent to a full one.
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+  private static final String METRIC_PREFIX = "auth.login-throttle.";
+
+  private final boolean enabled;
+  private final LongSupplier nanoTime;
+  private final Limit emailLimit;
+  private final Limit ipLimit;
+  private final Cache<String, AtomicLong> emailBuckets;
+  private final Cache<String, AtomicLong> ipBuckets;
+  private final LongAdder emailRejections = new LongAdder();
+  private final LongAdder ipRejections = new LongAdder();
+
+  @Autowired
+  public LoginThrottle(LoginThrottleProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  LoginThrottle(LoginThrottleProperties properties, LongSupplier nanoTime) {
+    this.enabled = properties.enabled();
+    this.nanoTime = nanoTime;
+    this.emailLimit = new Limit(properties.emailCapacity(), properties.emailRefillInterval());
+    this.ipLimit = new Limit(properties.ipCapacity(), properties.ipRefillInterval());
+    this.emailBuckets = newBucketCache(properties);
+    this.ipBuckets = newBucketCache(properties);
+  }
+
+  /**
+   * Takes one token from the client's IP bucket and then from the email's bucket.
+   * Returns {@link Duration#ZERO} when the attempt may proceed, otherwise how long the
+   * caller should wait.
+   */
+  public Duration acquire(String email, String clientIp) {
+    if (!enabled) {
+      return Duration.ZERO;
+    }
+    long now = nanoTime.getAsLong();
+    if (clientIp != null) {
+      long wait = take(ipBuckets, clientIp, ipLimit, now);
+      if (wait > 0) {
+        ipRejections.increment();
+        return Duration.ofNanos(wait);
+      }
+    }
+    long wait = take(emailBuckets, normalize(email), emailLimit, now);
+    if (wait > 0) {
+      emailRejections.increment();
+      return Duration.ofNanos(wait);
+    }
+    return Duration.ZERO;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(METRIC_PREFIX + "rejected", emailRejections, LongAdder::sum)
+            .tag("key", "email")
+            .register(registry);
+    FunctionCounter.builder(METRIC_PREFIX + "rejected", ipRejections, LongAdder::sum)
+            .tag("key", "ip")
+            .register(registry);
+    Gauge.builder(METRIC_PREFIX + "keys", emailBuckets, Cache::estimatedSize)
+            .tag("key", "email")
+            .register(registry);
+    Gauge.builder(METRIC_PREFIX + "keys", ipBuckets, Cache::estimatedSize)
+            .tag("key", "ip")
+            .register(registry);
+  }
+
+  private static long take(Cache<String, AtomicLong> buckets, String key, Limit limit, long now) {
+    AtomicLong arrival = buckets.get(key, ignored -> new AtomicLong(now));
+    while (true) {
+      long current = arrival.get();
+      long base = Math.max(current, now);
+      long wait = base - limit.burstTolerance() - now;
+      if (wait > 0) {
+        return wait;
+      }
+      if (arrival.compareAndSet(current, base + limit.intervalNanos())) {
+        return 0;
+      }
+    }
+  }
+
+  private static String normalize(String email) {
+    return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static Cache<String, AtomicLong> newBucketCache(LoginThrottleProperties properties) {
+    return Caffeine.newBuilder()
+            .maximumSize(properties.maximumKeys())
+            .expireAfterAccess(properties.idleTimeout())
+            .build();
+  }
+
+  private record Limit(long intervalNanos, long burstTolerance) {
+    Limit(int capacity, Duration refillInterval) {
+      this(refillInterval.toNanos(), (capacity - 1) * refillInterval.toNanos());
+    }
+  }
+}
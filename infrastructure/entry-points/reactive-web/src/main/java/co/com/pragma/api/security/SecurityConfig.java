@@ -1,7 +1,9 @@
 package co.com.pragma.api.security;
 
 import co.com.pragma.api.utils.Constants;
+import co.com.pragma.model.user.user.TokenPrincipal;
 import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
 import lombok.AllArgsConstructor;
 import lombok.extern.java.Log;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +22,7 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Configuration
@@ -29,6 +32,8 @@ import java.util.stream.Collectors;
 public class SecurityConfig {
 
   private final JwtProvider jwtProvider;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final TokenRevocationGateway tokenRevocationGateway;
 
   @Bean
   public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
@@ -36,8 +41,13 @@ public class SecurityConfig {
             .csrf(ServerHttpSecurity.CsrfSpec::disable)
             .authorizeExchange(exchanges -> exchanges
                     .pathMatchers(HttpMethod.POST, Constants.LOGIN_PATH).permitAll()
+                    .pathMatchers(HttpMethod.POST, Constants.TOKEN_REFRESH_PATH).permitAll()
+                    .pathMatchers(HttpMethod.GET, Constants.JWKS_PATH).permitAll()
                     .pathMatchers(HttpMethod.GET, Constants.REQUESTS_PATH_users).permitAll()
+                    .pathMatchers(HttpMethod.POST, Constants.USERS_IMPORT_PATH).hasRole(Constants.ROLE_ADMIN)
+                    .pathMatchers(HttpMethod.POST, Constants.USERS_BATCH_PATH).hasAnyRole(Constants.ROLE_ADMIN, Constants.ROLE_ADVISOR)
                     .pathMatchers(HttpMethod.POST, Constants.USERS_PATH).hasAnyRole(Constants.ROLE_ADMIN, Constants.ROLE_ADVISOR)
+                    .pathMatchers(HttpMethod.GET, Constants.USERS_PATH).hasRole(Constants.ROLE_ADMIN)
                     .pathMatchers(HttpMethod.GET, Constants.USERS_PATH_WILDCARD).hasAnyRole(Constants.ROLE_ADMIN, Constants.ROLE_USER, Constants.ROLE_CLIENT)
                     .pathMatchers(HttpMethod.POST, Constants.REQUESTS_PATH_WILDCARD).hasRole(Constants.ROLE_CLIENT)
                     .pathMatchers(Constants.WEBJARS_PATH).permitAll()
@@ -61,21 +71,28 @@ public class SecurityConfig {
     String authHeader = exchange.getRequest().getHeaders().getFirst(Constants.AUTHORIZATION_HEADER);
     if (authHeader != null && authHeader.startsWith(Constants.BEARER_PREFIX)) {
       String token = authHeader.substring(Constants.BEARER_PREFIX.length());
-      if (jwtProvider.validateToken(token)) {
-        String userId = jwtProvider.getUserIdFromToken(token);
-        List<String> roles = jwtProvider.getRoleFromToken(token);
-        var authorities = roles.stream()
-                .map(role -> new SimpleGrantedAuthority(Constants.ROLE_PREFIX + role.trim()))
-                .collect(Collectors.toList());
-        var authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
-        return Mono.just(authentication);
-      } else {
+      Optional<TokenPrincipal> principal = verifiedTokenCache.get(token, jwtProvider::parseToken);
+      if (principal.isEmpty()) {
         log.info(Constants.TOKEN_ERROR);
+      } else if (tokenRevocationGateway.isRevoked(principal.get().tokenId(), principal.get().expiresAt())) {
+        log.info(Constants.TOKEN_REVOKED);
+      } else {
+        return Mono.just(toAuthentication(principal.get()));
       }
     }
     return Mono.empty();
   }
 
+  private static Authentication toAuthentication(TokenPrincipal principal) {
+    List<SimpleGrantedAuthority> authorities = principal.roles().stream()
+            .map(role -> new SimpleGrantedAuthority(Constants.ROLE_PREFIX + role.trim()))
+            .collect(Collectors.toList());
+    UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(principal.subject(), null, authorities);
+    authentication.setDetails(principal);
+    return authentication;
+  }
+
   @Bean
   public ReactiveAuthenticationManager reactiveAuthenticationManager() {
     return Mono::just;
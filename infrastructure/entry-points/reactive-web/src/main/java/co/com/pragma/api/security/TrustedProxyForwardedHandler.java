@@ -0,0 +1,101 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.api.utils.Constants;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.util.NetUtil;
+import reactor.netty.http.server.ConnectionInfo;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Resolves the client address from {@code X-Forwarded-For} only when the connection comes from a
+ * trusted proxy. The header is read right to left, skipping trusted hops, so the first untrusted
+ * address is the client; entries a client prepends itself are never reached.
+ */
+public class TrustedProxyForwardedHandler implements BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> {
+
+  static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+  private final List<Cidr> trustedProxies;
+
+  public TrustedProxyForwardedHandler(List<String> trustedProxies) {
+    this.trustedProxies = trustedProxies.stream()
+            .filter(value -> !value.isBlank())
+            .map(Cidr::parse)
+            .toList();
+  }
+
+  @Override
+  public ConnectionInfo apply(ConnectionInfo connectionInfo, HttpRequest request) {
+    InetSocketAddress peer = connectionInfo.getRemoteAddress();
+    String forwardedFor = request.headers().get(X_FORWARDED_FOR);
+    if (peer == null || forwardedFor == null || !isTrusted(peer.getAddress())) {
+      return connectionInfo;
+    }
+    InetAddress client = resolveClient(forwardedFor.split(","));
+    return client != null
+            ? connectionInfo.withRemoteAddress(new InetSocketAddress(client, peer.getPort()))
+            : connectionInfo;
+  }
+
+  private InetAddress resolveClient(String[] hops) {
+    InetAddress client = null;
+    for (int i = hops.length - 1; i >= 0; i--) {
+      InetAddress hop = NetUtil.createInetAddressFromIpAddressString(hops[i].trim());
+      if (hop == null) {
+        break;
+      }
+      client = hop;
+      if (!isTrusted(hop)) {
+        break;
+      }
+    }
+    return client;
+  }
+
+  boolean isTrusted(InetAddress address) {
+    return address != null && trustedProxies.stream().anyMatch(cidr -> cidr.contains(address));
+  }
+
+  private record Cidr(byte[] network, int prefixLength) {
+
+    static Cidr parse(String value) {
+      String[] parts = value.trim().split("/", 2);
+      byte[] address = NetUtil.createByteArrayFromIpAddressString(parts[0]);
+      if (address == null) {
+        throw new IllegalStateException(Constants.INVALID_TRUSTED_PROXY + value);
+      }
+      try {
+        int prefixLength = parts.length == 2 ? Integer.parseInt(parts[1]) : address.length * 8;
+        if (prefixLength < 0 || prefixLength > address.length * 8) {
+          throw new IllegalStateException(Constants.INVALID_TRUSTED_PROXY + value);
+        }
+        return new Cidr(address, prefixLength);
+      } catch (NumberFormatException e) {
+        throw new IllegalStateException(Constants.INVALID_TRUSTED_PROXY + value, e);
+      }
+    }
+
+    boolean contains(InetAddress address) {
+      byte[] candidate = address.getAddress();
+      if (candidate.length != network.length) {
+        return false;
+      }
+      int fullBytes = prefixLength / 8;
+      for (int i = 0; i < fullBytes; i++) {
+        if (candidate[i] != network[i]) {
+          return false;
+        }
+      }
+      int remainingBits = prefixLength % 8;
+      if (remainingBits == 0) {
+        return true;
+      }
+      int mask = 0xFF << (8 - remainingBits);
+      return (candidate[fullBytes] & mask) == (network[fullBytes] & mask);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.api.config.TokenCacheProperties;
+import co.com.pragma.model.user.user.TokenPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of already verified bearer tokens. Keys are the SHA-256 digest of the
+ * compact token, so the raw token is never retained, and every entry expires no later
+ * than the token's own {@code exp}.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+  public static final String CACHE_NAME = "auth.verified-tokens";
+
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+  private final boolean enabled;
+  private final Clock clock;
+  private final Cache<ByteBuffer, TokenPrincipal> cache;
+
+  public VerifiedTokenCache(TokenCacheProperties properties) {
+    this(properties, Clock.systemUTC());
+  }
+
+  VerifiedTokenCache(TokenCacheProperties properties, Clock clock) {
+    this.enabled = properties.enabled();
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfter(new UntilTokenExpiry(properties.maxTtl(), clock))
+            .recordStats()
+            .build();
+  }
+
+  public Optional<TokenPrincipal> get(String token, Function<String, Optional<TokenPrincipal>> verifier) {
+    if (!enabled) {
+      return verifier.apply(token);
+    }
+    // A null mapping is not stored, so invalid or already expired tokens are never cached
+    return Optional.ofNullable(cache.get(digest(token), key -> verifier.apply(token)
+            .filter(this::notExpired)
+            .orElse(null)));
+  }
+
+  public void invalidate(String token) {
+    if (enabled) {
+      cache.invalidate(digest(token));
+    }
+  }
+
+  public Cache<ByteBuffer, TokenPrincipal> nativeCache() {
+    return cache;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    new CaffeineCacheMetrics<>(cache, CACHE_NAME, Tags.empty()).bindTo(registry);
+  }
+
+  private boolean notExpired(TokenPrincipal principal) {
+    return principal.expiresAt() != null && principal.expiresAt().isAfter(clock.instant());
+  }
+
+  static ByteBuffer digest(String token) {
+    return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record UntilTokenExpiry(Duration maxTtl, Clock clock) implements Expiry<ByteBuffer, TokenPrincipal> {
+
+    @Override
+    public long expireAfterCreate(ByteBuffer key, TokenPrincipal principal, long currentTime) {
+      Duration untilExpiry = Duration.between(clock.instant(), principal.expiresAt());
+      Duration ttl = untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+      return Math.max(0, ttl.toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(ByteBuffer key, TokenPrincipal principal, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, principal, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(ByteBuffer key, TokenPrincipal principal, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,17 +1,32 @@
 package co.com.pragma.api.utils;
 
+import java.time.Duration;
+
 public class Constants {
   //authHandlers
   public static final int FORBIDDEN_STATUS = 403;
+  public static final int UNAUTHORIZED_STATUS = 401;
+  public static final int SERVICE_UNAVAILABLE_STATUS = 503;
+  public static final int TOO_MANY_REQUESTS_STATUS = 429;
+  public static final String LOGIN_THROTTLED = "Demasiados intentos de inicio de sesión, intente más tarde";
+  public static final String INVALID_TRUSTED_PROXY = "Dirección o rango de proxy confiable inválido en security.forwarded-headers.trusted-proxies: ";
+  public static final String LOGIN_OVERLOADED = "Servicio de autenticación saturado, intente nuevamente";
   public static final String TOKEN_KEY = "token";
   public static final String ERROR_KEY = "error";
 
   public static final String API_BASE_PATH = "/api/v1";
   public static final String LOGIN_PATH = API_BASE_PATH + "/login";
+  public static final String TOKEN_REFRESH_PATH = API_BASE_PATH + "/token/refresh";
+  public static final String LOGOUT_PATH = API_BASE_PATH + "/logout";
   public static final String USERS_PATH = API_BASE_PATH + "/usuarios";
   public static final String USERS_PATH_WILDCARD = USERS_PATH + "/**";
+  public static final String USERS_IMPORT_PATH = USERS_PATH + "/import";
+  public static final String USERS_BATCH_PATH = USERS_PATH + "/batch";
   public static final String REQUESTS_PATH_WILDCARD = API_BASE_PATH + "/solicitudes/**";
   public static final String REQUESTS_PATH_users = API_BASE_PATH + "/usuarios/{documentNumber}";
+  public static final String JWKS_PATH = "/.well-known/jwks.json";
+  public static final String JWKS_KEYS = "keys";
+  public static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
   // Roles
   public static final String ROLE_ADMIN = "ADMIN";
   public static final String ROLE_ADVISOR = "ASESOR";
@@ -27,6 +42,7 @@ public class Constants {
   public static final String SWAGGER_RESOURCES_PATH = "/swagger-resources/**";
   public static final String[] API_DOCS_PATHS = {"/v3/api-docs/**", "/v2/api-docs/**"};
   public static final String TOKEN_ERROR = "Token inválido";
+  public static final String TOKEN_REVOKED = "Token revocado";
 
   public static final String LOG_CREATE_USER = "Iniciando creación de usuario";
   public static final String LOG_BUSINESS_ERROR = "Error de negocio: ";
@@ -35,4 +51,35 @@ public class Constants {
   public static final String INTERNAL_SERVER_ERROR = "INTERNAL_SERVER_ERROR";
   public static final String UNEXPECTED_ERROR_MESSAGE = "Ocurrió un error inesperado";
   public static final String DOCUMENT_NUMBER_PARAM = "documentNumber";
+  public static final String DOCUMENT_NUMBER_REGEX = "\\d{1,20}";
+  public static final String INVALID_DOCUMENT_NUMBER_CODE = "INVALID_DOCUMENT_NUMBER";
+  public static final String INVALID_DOCUMENT_NUMBER_MESSAGE = "El número de documento debe contener solo dígitos (máximo 20)";
+  public static final String FIELDS_PARAM = "fields";
+  public static final String INVALID_FIELDS_CODE = "INVALID_FIELDS";
+  public static final String INVALID_FIELDS_MESSAGE = "El parámetro fields solo admite: ";
+  public static final String USER_SERIALIZATION_FAILED = "No fue posible serializar el usuario";
+  public static final String ERROR_SERIALIZATION_FAILED = "No fue posible serializar la respuesta de error";
+  public static final int MAX_CACHED_ERROR_BODIES = 256;
+  public static final String UNSUPPORTED_MEDIA_TYPE = "Formato de respuesta no soportado: ";
+  public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+
+  // Listado de usuarios
+  public static final String LOG_LIST_USERS = "Iniciando listado de usuarios";
+  public static final String AFTER_ID_PARAM = "afterId";
+  public static final String PAGE_SIZE_PARAM = "size";
+  public static final String INVALID_CURSOR_CODE = "INVALID_CURSOR";
+  public static final String INVALID_CURSOR_MESSAGE = "El parámetro afterId debe ser un número entero positivo";
+  public static final String INVALID_PAGE_SIZE_CODE = "INVALID_PAGE_SIZE";
+  public static final String INVALID_PAGE_SIZE_MESSAGE = "El parámetro size debe estar entre 1 y ";
+
+  // Búsqueda de usuarios en lote
+  public static final String LOG_BATCH_USERS = "Iniciando búsqueda de usuarios en lote";
+  public static final String INVALID_BATCH_SIZE_CODE = "INVALID_BATCH_SIZE";
+  public static final String INVALID_BATCH_SIZE_MESSAGE = "La cantidad de documentos y correos debe estar entre 1 y ";
+
+  // Importación masiva de usuarios
+  public static final String LOG_IMPORT_USERS = "Iniciando importación masiva de usuarios desde CSV";
+  public static final String IMPORT_FILE_PART = "file";
+  public static final String CSV_WRONG_COLUMN_COUNT = "La fila no tiene el número de columnas esperado: ";
+  public static final String CSV_INVALID_VALUE = "Valor inválido en la fila: ";
 }
@@ -1,23 +1,44 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.config.UserListingProperties;
+import co.com.pragma.api.response.ErrorResponseWriter;
+import co.com.pragma.api.response.UserPageResponse;
+import co.com.pragma.api.response.UserResponseWriter;
+import co.com.pragma.model.user.user.UserBatchRequest;
+import co.com.pragma.model.user.user.UserPage;
 import co.com.pragma.model.user.user.UserParameters;
 import co.com.pragma.usecase.exceptions.BusinessException;
 import co.com.pragma.usecase.exceptions.ErrorResponse;
 import co.com.pragma.usecase.user.UserUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.mock.web.reactive.function.server.MockServerRequest;
 import org.springframework.web.reactive.function.server.EntityResponse;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HandlerTest {
@@ -28,7 +49,9 @@ class HandlerTest {
   @BeforeEach
   void setUp() {
     userUseCase = mock(UserUseCase.class);
-    handler = new Handler(userUseCase);
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    handler = new Handler(userUseCase, new UserListingProperties(20, 100, 3),
+            new UserResponseWriter(objectMapper), new ErrorResponseWriter(objectMapper));
   }
 
   @Test
@@ -105,7 +128,7 @@ class HandlerTest {
   void getUserByDocumentNumber_shouldReturnUser_whenFound() {
     // Arrange
     UserParameters user = UserParameters.builder().nombres("Maria").build();
-    when(userUseCase.findByDocumentNumber("123")).thenReturn(Mono.just(user));
+    when(userUseCase.findByDocumentNumber(new BigDecimal("123"), Set.of())).thenReturn(Mono.just(user));
 
     MockServerRequest request = MockServerRequest.builder()
             .pathVariable("documentNumber", "123")
@@ -122,18 +145,61 @@ class HandlerTest {
     StepVerifier.create(responseMono.flatMap(res ->
                     Mono.just(((EntityResponse<?>) res).entity())))
             .expectNextMatches(entity ->
-                    entity instanceof UserParameters &&
-                            "Maria".equals(((UserParameters) entity).getNombres()))
+                    entity instanceof byte[] bytes &&
+                            new String(bytes, StandardCharsets.UTF_8).contains("\"nombres\":\"Maria\""))
             .verifyComplete();
   }
 
+  @Test
+  void getUserByDocumentNumber_shouldReturnOnlySelectedFields() {
+    // Arrange
+    Set<String> fields = Set.of("salarioBase", "correoElectronico");
+    UserParameters user = UserParameters.builder()
+            .correoElectronico("maria@example.com")
+            .salarioBase(new BigDecimal("1000"))
+            .build();
+    when(userUseCase.findByDocumentNumber(new BigDecimal("123"), fields)).thenReturn(Mono.just(user));
+
+    MockServerRequest request = MockServerRequest.builder()
+            .pathVariable("documentNumber", "123")
+            .queryParam("fields", "salarioBase, correoElectronico")
+            .build();
+
+    // Act & Assert
+    StepVerifier.create(handler.getUserByDocumentNumber(request))
+            .assertNext(res -> {
+              String body = new String((byte[]) ((EntityResponse<?>) res).entity(), StandardCharsets.UTF_8);
+              assertEquals(200, res.statusCode().value());
+              assertTrue(body.contains("\"correoElectronico\":\"maria@example.com\""));
+              assertFalse(body.contains("nombres"));
+              assertFalse(body.contains("password"));
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  void getUserByDocumentNumber_shouldReturnBadRequest_whenFieldIsUnknown() {
+    // Arrange
+    MockServerRequest request = MockServerRequest.builder()
+            .pathVariable("documentNumber", "123")
+            .queryParam("fields", "nombres,password")
+            .build();
+
+    // Act & Assert
+    StepVerifier.create(handler.getUserByDocumentNumber(request))
+            .assertNext(res -> assertEquals(400, res.statusCode().value()))
+            .verifyComplete();
+
+    verify(userUseCase, never()).findByDocumentNumber(any(), any());
+  }
+
   @Test
   void getUserByDocumentNumber_shouldReturnBusinessError_whenUseCaseThrowsBusinessException() {
     // Arrange
     ErrorResponse errorResponse = new ErrorResponse("", "USER_EXISTS", 403);
     BusinessException businessException = new BusinessException(null, errorResponse);
 
-    when(userUseCase.findByDocumentNumber("123")).thenReturn(Mono.error(businessException));
+    when(userUseCase.findByDocumentNumber(new BigDecimal("123"), Set.of())).thenReturn(Mono.error(businessException));
 
     MockServerRequest request = MockServerRequest.builder()
             .pathVariable("documentNumber", "123")
@@ -154,7 +220,7 @@ class HandlerTest {
   @Test
   void getUserByDocumentNumber_shouldReturn500_whenUnexpectedError() {
     // Arrange
-    when(userUseCase.findByDocumentNumber("123")).thenReturn(Mono.error(new RuntimeException("DB timeout")));
+    when(userUseCase.findByDocumentNumber(new BigDecimal("123"), Set.of())).thenReturn(Mono.error(new RuntimeException("DB timeout")));
 
     MockServerRequest request = MockServerRequest.builder()
             .pathVariable("documentNumber", "123")
@@ -170,4 +236,147 @@ class HandlerTest {
             })
             .verifyComplete();
   }
+
+  @Test
+  void getUserByDocumentNumber_shouldReturn400_whenDocumentNumberIsNotNumeric() {
+    // Arrange
+    MockServerRequest request = MockServerRequest.builder()
+            .pathVariable("documentNumber", "12a45")
+            .build();
+
+    // Act
+    Mono<ServerResponse> responseMono = handler.getUserByDocumentNumber(request);
+
+    // Assert
+    StepVerifier.create(responseMono)
+            .assertNext(res -> assertEquals(400, res.statusCode().value()))
+            .verifyComplete();
+
+    verify(userUseCase, never()).findByDocumentNumber(any(), any());
+  }
+
+  @Test
+  void listUsers_shouldReturnPage_withDefaultPageSize() {
+    // Arrange
+    UserPage page = new UserPage(List.of(UserParameters.builder().id(7L).password("hash").role("ADMIN").build()), null);
+    when(userUseCase.listUsers(0L, 20)).thenReturn(Mono.just(page));
+
+    MockServerRequest request = MockServerRequest.builder().build();
+
+    // Act & Assert
+    StepVerifier.create(handler.listUsers(request))
+            .assertNext(res -> {
+              assertEquals(200, res.statusCode().value());
+              UserPageResponse body = (UserPageResponse) ((EntityResponse<?>) res).entity();
+              assertEquals(7L, body.items().get(0).id());
+              assertNull(body.nextCursor());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  void listUsers_shouldUseCursorAndSize() {
+    // Arrange
+    when(userUseCase.listUsers(40L, 10)).thenReturn(Mono.just(new UserPage(List.of(), null)));
+
+    MockServerRequest request = MockServerRequest.builder()
+            .queryParam("afterId", "40")
+            .queryParam("size", "10")
+            .build();
+
+    // Act & Assert
+    StepVerifier.create(handler.listUsers(request))
+            .expectNextMatches(res -> res.statusCode().value() == 200)
+            .verifyComplete();
+
+    verify(userUseCase).listUsers(40L, 10);
+  }
+
+  @Test
+  void listUsers_shouldReturn400_whenPageSizeExceedsMaximum() {
+    // Arrange
+    MockServerRequest request = MockServerRequest.builder()
+            .queryParam("size", "101")
+            .build();
+
+    // Act & Assert
+    StepVerifier.create(handler.listUsers(request))
+            .expectNextMatches(res -> res.statusCode().value() == 400)
+            .verifyComplete();
+
+    verify(userUseCase, never()).listUsers(anyLong(), anyInt());
+  }
+
+  @Test
+  void listUsers_shouldReturn400_whenCursorIsInvalid() {
+    // Arrange
+    MockServerRequest request = MockServerRequest.builder()
+            .queryParam("afterId", "abc")
+            .build();
+
+    // Act & Assert
+    StepVerifier.create(handler.listUsers(request))
+            .expectNextMatches(res -> res.statusCode().value() == 400)
+            .verifyComplete();
+  }
+
+  @Test
+  void listUsers_shouldStreamNdjson_whenRequested() {
+    // Arrange
+    when(userUseCase.streamUsers(5L)).thenReturn(Flux.just(UserParameters.builder().id(6L).build()));
+
+    MockServerRequest request = MockServerRequest.builder()
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+            .queryParam("afterId", "5")
+            .build();
+
+    // Act & Assert
+    StepVerifier.create(handler.listUsers(request))
+            .assertNext(res -> {
+              assertEquals(200, res.statusCode().value());
+              assertEquals(MediaType.APPLICATION_NDJSON, res.headers().getContentType());
+            })
+            .verifyComplete();
+
+    verify(userUseCase).streamUsers(5L);
+    verify(userUseCase, never()).listUsers(anyLong(), anyInt());
+  }
+
+  @Test
+  void findUsersInBatch_shouldStreamMatchingUsers() {
+    // Arrange
+    UserBatchRequest batch = new UserBatchRequest();
+    batch.setDocumentNumbers(List.of(new BigDecimal("1"), new BigDecimal("2")));
+    when(userUseCase.findUsersInBatch(batch.getDocumentNumbers(), null))
+            .thenReturn(Flux.just(UserParameters.builder().id(1L).build()));
+
+    MockServerRequest request = MockServerRequest.builder()
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+            .body(Mono.just(batch));
+
+    // Act & Assert
+    StepVerifier.create(handler.findUsersInBatch(request))
+            .assertNext(res -> {
+              assertEquals(200, res.statusCode().value());
+              assertEquals(MediaType.APPLICATION_NDJSON, res.headers().getContentType());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  void findUsersInBatch_shouldReturnBadRequest_whenBatchExceedsMaximum() {
+    // Arrange
+    UserBatchRequest batch = new UserBatchRequest();
+    batch.setDocumentNumbers(List.of(new BigDecimal("1"), new BigDecimal("2")));
+    batch.setCorreosElectronicos(List.of("a@example.com", "b@example.com"));
+
+    MockServerRequest request = MockServerRequest.builder().body(Mono.just(batch));
+
+    // Act & Assert
+    StepVerifier.create(handler.findUsersInBatch(request))
+            .assertNext(res -> assertEquals(400, res.statusCode().value()))
+            .verifyComplete();
+
+    verify(userUseCase, never()).findUsersInBatch(any(), any());
+  }
 }
@@ -1,9 +1,15 @@
 package co.com.pragma.api;
 
 import co.com.pragma.api.auth.AuthHandler;
+import co.com.pragma.api.auth.JwksHandler;
+import co.com.pragma.api.config.TokenCacheProperties;
+import co.com.pragma.api.importer.UserImportHandler;
 import co.com.pragma.api.security.SecurityConfig;
+import co.com.pragma.api.security.VerifiedTokenCache;
+import co.com.pragma.model.user.user.TokenPrincipal;
 import co.com.pragma.model.user.user.UserParameters;
 import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -20,8 +26,10 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.mockito.Mockito.when;
 
@@ -55,10 +63,30 @@ class RouterRestTest {
       return Mockito.mock(AuthHandler.class);
     }
 
+    @Bean
+    public UserImportHandler userImportHandler() {
+      return Mockito.mock(UserImportHandler.class);
+    }
+
+    @Bean
+    public JwksHandler jwksHandler() {
+      return Mockito.mock(JwksHandler.class);
+    }
+
     @Bean
     public JwtProvider jwtProvider() {
       return Mockito.mock(JwtProvider.class);
     }
+
+    @Bean
+    public TokenRevocationGateway tokenRevocationGateway() {
+      return Mockito.mock(TokenRevocationGateway.class);
+    }
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache() {
+      return new VerifiedTokenCache(new TokenCacheProperties(false, null, null));
+    }
   }
 
   @Nested
@@ -77,8 +105,8 @@ class RouterRestTest {
               .salarioBase(BigDecimal.valueOf(50000.00))
               .build();
 
-      when(jwtProvider.validateToken(Mockito.anyString())).thenReturn(Boolean.TRUE);
-      when(jwtProvider.getRoleFromToken(Mockito.anyString())).thenReturn(Collections.singletonList("ADMIN"));
+      when(jwtProvider.parseToken(Mockito.anyString()))
+              .thenReturn(Optional.of(new TokenPrincipal("1", "jti-1", Collections.singletonList("ADMIN"), Instant.now().plusSeconds(60))));
 
       when(handler.createUser(Mockito.any()))
               .thenAnswer(invocation ->
@@ -116,8 +144,8 @@ class RouterRestTest {
                               .bodyValue(userParameters)
               );
 
-      when(jwtProvider.validateToken(Mockito.anyString())).thenReturn(Boolean.TRUE);
-      when(jwtProvider.getRoleFromToken(Mockito.anyString())).thenReturn(Collections.singletonList("ADMIN"));
+      when(jwtProvider.parseToken(Mockito.anyString()))
+              .thenReturn(Optional.of(new TokenPrincipal("1", "jti-1", Collections.singletonList("ADMIN"), Instant.now().plusSeconds(60))));
 
       // When & Then
       webTestClient.get()
@@ -1,7 +1,12 @@
 package co.com.pragma.api.auth;
 
+import co.com.pragma.api.security.LoginThrottle;
 import co.com.pragma.model.user.user.LoginRequest;
+import co.com.pragma.model.user.user.RefreshTokenRequest;
+import co.com.pragma.model.user.user.TokenPair;
+import co.com.pragma.model.user.user.TokenPrincipal;
 import co.com.pragma.usecase.auth.LoginServiceUseCase;
+import co.com.pragma.usecase.auth.TokenRevocationUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,14 +14,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class AuthHandlerTest {
@@ -24,6 +37,12 @@ class AuthHandlerTest {
   @Mock
   private LoginServiceUseCase loginServiceUseCase;
 
+  @Mock
+  private TokenRevocationUseCase tokenRevocationUseCase;
+
+  @Mock
+  private LoginThrottle loginThrottle;
+
   @Mock
   private ServerRequest serverRequest;
 
@@ -45,8 +64,10 @@ class AuthHandlerTest {
     String expectedToken = "jwt-token-123";
     when(serverRequest.bodyToMono(LoginRequest.class))
             .thenReturn(Mono.just(loginRequest));
+    when(loginThrottle.acquire("test@example.com", null))
+            .thenReturn(Duration.ZERO);
     when(loginServiceUseCase.login(anyString(), anyString()))
-            .thenReturn(Mono.just(expectedToken));
+            .thenReturn(Mono.just(new TokenPair(expectedToken, "refresh-token-123")));
 
     // When
     Mono<ServerResponse> response = authHandler.login(serverRequest);
@@ -67,6 +88,8 @@ class AuthHandlerTest {
     // Given
     when(serverRequest.bodyToMono(LoginRequest.class))
             .thenReturn(Mono.just(loginRequest));
+    when(loginThrottle.acquire("test@example.com", null))
+            .thenReturn(Duration.ZERO);
     when(loginServiceUseCase.login(anyString(), anyString()))
             .thenReturn(Mono.error(new RuntimeException("Usuario no encontrado")));
 
@@ -84,6 +107,45 @@ class AuthHandlerTest {
     verify(loginServiceUseCase).login("test@example.com", "password123");
   }
 
+  @Test
+  void login_WhenHashingPoolIsSaturated_ShouldReturn503() {
+    // Given
+    when(serverRequest.bodyToMono(LoginRequest.class))
+            .thenReturn(Mono.just(loginRequest));
+    when(loginThrottle.acquire("test@example.com", null))
+            .thenReturn(Duration.ZERO);
+    when(loginServiceUseCase.login(anyString(), anyString()))
+            .thenReturn(Mono.error(new RejectedExecutionException("queue full")));
+
+    // When
+    Mono<ServerResponse> response = authHandler.login(serverRequest);
+
+    // Then
+    StepVerifier.create(response)
+            .expectNextMatches(serverResponse -> serverResponse.statusCode().value() == 503)
+            .verifyComplete();
+  }
+
+  @Test
+  void login_WhenThrottled_ShouldReturn429WithoutCallingUseCase() {
+    // Given
+    when(serverRequest.bodyToMono(LoginRequest.class))
+            .thenReturn(Mono.just(loginRequest));
+    when(loginThrottle.acquire("test@example.com", null))
+            .thenReturn(Duration.ofMillis(1500));
+
+    // When
+    Mono<ServerResponse> response = authHandler.login(serverRequest);
+
+    // Then
+    StepVerifier.create(response)
+            .expectNextMatches(serverResponse -> serverResponse.statusCode().value() == 429
+                    && "2".equals(serverResponse.headers().getFirst("Retry-After")))
+            .verifyComplete();
+
+    verifyNoInteractions(loginServiceUseCase);
+  }
+
   @Test
   void login_WhenInvalidRequestBody_ShouldHandleError() {
     // Given
@@ -98,5 +160,76 @@ class AuthHandlerTest {
             .expectError(RuntimeException.class)
             .verify();
   }
-}
 
+  @Test
+  void refresh_WhenValidRefreshToken_ShouldReturnOkWithNewTokens() {
+    // Given
+    RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+    refreshRequest.setRefreshToken("refresh-token-123");
+    when(serverRequest.bodyToMono(RefreshTokenRequest.class))
+            .thenReturn(Mono.just(refreshRequest));
+    when(loginServiceUseCase.refresh("refresh-token-123"))
+            .thenReturn(Mono.just(new TokenPair("jwt-token-456", "refresh-token-456")));
+
+    // When
+    Mono<ServerResponse> response = authHandler.refresh(serverRequest);
+
+    // Then
+    StepVerifier.create(response)
+            .expectNextMatches(serverResponse -> serverResponse.statusCode().value() == 200)
+            .verifyComplete();
+  }
+
+  @Test
+  void refresh_WhenRefreshTokenRejected_ShouldReturn401() {
+    // Given
+    RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+    refreshRequest.setRefreshToken("refresh-token-reused");
+    when(serverRequest.bodyToMono(RefreshTokenRequest.class))
+            .thenReturn(Mono.just(refreshRequest));
+    when(loginServiceUseCase.refresh("refresh-token-reused"))
+            .thenReturn(Mono.error(new RuntimeException("Refresh token inválido o expirado")));
+
+    // When
+    Mono<ServerResponse> response = authHandler.refresh(serverRequest);
+
+    // Then
+    StepVerifier.create(response)
+            .expectNextMatches(serverResponse -> serverResponse.statusCode().value() == 401)
+            .verifyComplete();
+  }
+
+  @Test
+  void logout_WhenAuthenticated_ShouldRevokeTokenAndReturn204() {
+    // Given
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), Instant.now().plusSeconds(600));
+    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken("1", null, List.of());
+    authentication.setDetails(principal);
+    doReturn(Mono.just(authentication)).when(serverRequest).principal();
+    when(tokenRevocationUseCase.revoke(principal)).thenReturn(Mono.empty());
+
+    // When
+    Mono<ServerResponse> response = authHandler.logout(serverRequest);
+
+    // Then
+    StepVerifier.create(response)
+            .expectNextMatches(serverResponse -> serverResponse.statusCode().value() == 204)
+            .verifyComplete();
+
+    verify(tokenRevocationUseCase).revoke(principal);
+  }
+
+  @Test
+  void logout_WhenNotAuthenticated_ShouldReturn401() {
+    // Given
+    doReturn(Mono.empty()).when(serverRequest).principal();
+
+    // When
+    Mono<ServerResponse> response = authHandler.logout(serverRequest);
+
+    // Then
+    StepVerifier.create(response)
+            .expectNextMatches(serverResponse -> serverResponse.statusCode().value() == 401)
+            .verifyComplete();
+  }
+}
@@ -0,0 +1,65 @@
+package co.com.pragma.api.auth;
+
+import co.com.pragma.api.utils.Constants;
+import co.com.pragma.model.user.user.gateways.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.CacheControl;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@ExtendWith(MockitoExtension.class)
+class JwksHandlerTest {
+
+  @Mock
+  private JwtProvider jwtProvider;
+
+  private WebTestClient webTestClient;
+
+  @BeforeEach
+  void setUp() {
+    when(jwtProvider.getPublicJwks()).thenReturn(List.of(Map.of("kid", "k1", "kty", "RSA", "n", "abc", "e", "AQAB")));
+    JwksHandler jwksHandler = new JwksHandler(jwtProvider);
+    webTestClient = WebTestClient.bindToRouterFunction(route(GET(Constants.JWKS_PATH), jwksHandler::getJwks)).build();
+  }
+
+  @Test
+  void getJwks_ShouldReturnCacheableKeySet() {
+    // When & Then
+    webTestClient.get()
+            .uri(Constants.JWKS_PATH)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().cacheControl(CacheControl.maxAge(Constants.JWKS_MAX_AGE).cachePublic())
+            .expectHeader().exists("ETag")
+            .expectBody()
+            .jsonPath("$.keys[0].kid").isEqualTo("k1");
+  }
+
+  @Test
+  void getJwks_WhenEtagMatches_ShouldReturnNotModified() {
+    // Given
+    String etag = webTestClient.get()
+            .uri(Constants.JWKS_PATH)
+            .exchange()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+
+    // When & Then
+    webTestClient.get()
+            .uri(Constants.JWKS_PATH)
+            .header("If-None-Match", etag)
+            .exchange()
+            .expectStatus().isNotModified();
+  }
+}
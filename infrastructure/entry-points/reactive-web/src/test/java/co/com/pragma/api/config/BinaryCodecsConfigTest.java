@@ -0,0 +1,50 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.response.UserResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryCodecsConfigTest {
+
+  // Mismo lote que UserCodecBenchmark mide en tiempo
+  private static final int BATCH_SIZE = 500;
+
+  private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+
+  private static UserResponse user(long id) {
+    return new UserResponse(id, "Nombre " + id, "Apellido " + id, LocalDate.of(1990, 1, 1).plusDays(id),
+            "Calle " + id + " # 10-20", "300" + id, "usuario" + id + "@example.com",
+            new BigDecimal("2500000.00"), BigDecimal.valueOf(1_000_000_000L + id));
+  }
+
+  @Test
+  void binaryFormatsShrinkABatchAndRoundTrip() throws Exception {
+    // Arrange
+    List<UserResponse> batch = LongStream.rangeClosed(1, BATCH_SIZE).mapToObj(BinaryCodecsConfigTest::user).toList();
+    ObjectMapper cbor = BinaryCodecsConfig.cbor(json);
+    ObjectMapper smile = BinaryCodecsConfig.smile(json);
+    JavaType type = json.getTypeFactory().constructCollectionType(List.class, UserResponse.class);
+
+    // Act
+    byte[] jsonBytes = json.writerFor(type).writeValueAsBytes(batch);
+    byte[] cborBytes = cbor.writerFor(type).writeValueAsBytes(batch);
+    byte[] smileBytes = smile.writerFor(type).writeValueAsBytes(batch);
+
+    // Assert
+    assertTrue(cborBytes.length < jsonBytes.length);
+    // Smile referencia los nombres de propiedad repetidos en lugar de reescribirlos
+    assertTrue(smileBytes.length < cborBytes.length);
+    assertEquals(batch, cbor.readerFor(type).readValue(cborBytes));
+    assertEquals(batch, smile.readerFor(type).readValue(smileBytes));
+  }
+}
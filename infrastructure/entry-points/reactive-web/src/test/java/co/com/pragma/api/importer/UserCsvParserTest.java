@@ -0,0 +1,62 @@
+package co.com.pragma.api.importer;
+
+import co.com.pragma.model.user.user.UserImportRow;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCsvParserTest {
+
+  @Test
+  void parse_shouldSkipHeaderAndKeepPhysicalLineNumbers() {
+    // Arrange
+    Flux<String> lines = Flux.just(
+            "nombres,apellidos,fechaNacimiento,direccion,telefono,correoElectronico,salarioBase,numeroDocumento",
+            "Juan,Pérez,1990-01-01,Calle 1,300,juan@example.com,2000000,123",
+            "",
+            "Ana,Gómez,1991-02-02,Calle 2,301,ana@example.com,2500000,456");
+
+    // Act & Assert
+    StepVerifier.create(UserCsvParser.parse(lines))
+            .assertNext(row -> {
+              assertEquals(2, row.lineNumber());
+              assertEquals("juan@example.com", row.user().getCorreoElectronico());
+              assertEquals(LocalDate.of(1990, 1, 1), row.user().getFechaNacimiento());
+              assertEquals(new BigDecimal("123"), row.user().getNumeroDocumento());
+            })
+            .assertNext(row -> assertEquals(4, row.lineNumber()))
+            .verifyComplete();
+  }
+
+  @Test
+  void parseLine_shouldHandleQuotedFields() {
+    // Act
+    UserImportRow row = UserCsvParser.parseLine(7,
+            "\"Juan \"\"JJ\"\"\",\"Pérez, Gómez\",1990-01-01,\"Calle 1, apto 2\",300,juan@example.com,2000000,123");
+
+    // Assert
+    assertFalse(row.isMalformed());
+    assertEquals("Juan \"JJ\"", row.user().getNombres());
+    assertEquals("Pérez, Gómez", row.user().getApellidos());
+    assertEquals("Calle 1, apto 2", row.user().getDireccion());
+  }
+
+  @Test
+  void parseLine_shouldReportMalformedRows() {
+    // Act
+    List<UserImportRow> rows = List.of(
+            UserCsvParser.parseLine(2, "Juan,Pérez"),
+            UserCsvParser.parseLine(3, "Juan,Pérez,1990-13-01,Calle 1,300,juan@example.com,2000000,123"),
+            UserCsvParser.parseLine(4, "Juan,Pérez,1990-01-01,Calle 1,300,juan@example.com,2000000,12a"));
+
+    // Assert
+    assertTrue(rows.stream().allMatch(UserImportRow::isMalformed));
+    assertEquals(3, rows.get(1).lineNumber());
+  }
+}
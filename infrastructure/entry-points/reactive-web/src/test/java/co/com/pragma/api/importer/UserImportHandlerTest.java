@@ -0,0 +1,76 @@
+package co.com.pragma.api.importer;
+
+import co.com.pragma.model.user.user.UserImportReport;
+import co.com.pragma.model.user.user.UserImportRow;
+import co.com.pragma.usecase.user.UserImportUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserImportHandlerTest {
+
+  private UserImportUseCase userImportUseCase;
+  private UserImportHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    userImportUseCase = mock(UserImportUseCase.class);
+    handler = new UserImportHandler(userImportUseCase);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void importUsers_shouldParseCsvSplitAcrossBuffersAndReturnReport() {
+    // Arrange
+    when(userImportUseCase.importUsers(any())).thenAnswer(invocation ->
+            ((Flux<UserImportRow>) invocation.getArgument(0)).count()
+                    .map(count -> new UserImportReport(count, count, 0, List.of(), false)));
+
+    MockServerRequest request = MockServerRequest.builder()
+            .body(Flux.just(buffer("Juan,Pérez,1990-01-01,Calle 1,300,jua"),
+                    buffer("n@example.com,2000000,123\nAna,Gómez,1991-02-02,Calle 2,301,ana@example.com,2500000,456\n")));
+
+    // Act
+    Mono<ServerResponse> responseMono = handler.importUsers(request);
+
+    // Assert
+    StepVerifier.create(responseMono)
+            .assertNext(res -> {
+              assertEquals(200, res.statusCode().value());
+              assertEquals(2L, ((UserImportReport) ((EntityResponse<?>) res).entity()).importedRows());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  void importUsers_shouldReturn500_whenUseCaseFails() {
+    // Arrange
+    when(userImportUseCase.importUsers(any())).thenReturn(Mono.error(new RuntimeException("fallo")));
+    MockServerRequest request = MockServerRequest.builder()
+            .body(Flux.just(buffer("x\n")));
+
+    // Act & Assert
+    StepVerifier.create(handler.importUsers(request))
+            .assertNext(res -> assertEquals(500, res.statusCode().value()))
+            .verifyComplete();
+  }
+
+  private static DataBuffer buffer(String value) {
+    return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
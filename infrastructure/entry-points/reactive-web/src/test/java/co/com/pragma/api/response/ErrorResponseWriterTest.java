@@ -0,0 +1,91 @@
+package co.com.pragma.api.response;
+
+import co.com.pragma.api.config.BinaryCodecsConfig;
+import co.com.pragma.usecase.exceptions.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ErrorResponseWriterTest {
+
+  private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+
+  @Test
+  void body_ShouldSerializeEachDistinctErrorOnce() throws Exception {
+    // Arrange
+    ErrorResponse notFound = new ErrorResponse("USER_NOT_FOUND", "Usuario no encontrado", 404);
+
+    // Act
+    byte[] first = writer.body(notFound, MediaType.APPLICATION_JSON);
+    byte[] second = writer.body(new ErrorResponse("USER_NOT_FOUND", "Usuario no encontrado", 404), MediaType.APPLICATION_JSON);
+    byte[] other = writer.body(ErrorResponseWriter.INTERNAL_ERROR, MediaType.APPLICATION_JSON);
+
+    // Assert
+    assertSame(first, second);
+    assertNotSame(first, other);
+    JsonNode json = objectMapper.readTree(first);
+    assertEquals("USER_NOT_FOUND", json.get("code").asText());
+    assertEquals(404, json.get("status").asInt());
+  }
+
+  @Test
+  void body_ShouldCacheEachFormatSeparately() throws Exception {
+    // Arrange
+    ErrorResponse notFound = new ErrorResponse("USER_NOT_FOUND", "Usuario no encontrado", 404);
+
+    // Act
+    byte[] json = writer.body(notFound, MediaType.APPLICATION_JSON);
+    byte[] cbor = writer.body(notFound, MediaType.APPLICATION_CBOR);
+    byte[] smile = writer.body(notFound, SMILE);
+
+    // Assert
+    assertSame(cbor, writer.body(notFound, MediaType.APPLICATION_CBOR));
+    assertSame(smile, writer.body(notFound, SMILE));
+    assertNotSame(json, cbor);
+    assertEquals(objectMapper.readTree(json), BinaryCodecsConfig.cbor(objectMapper).readTree(cbor));
+    assertEquals(objectMapper.readTree(json), BinaryCodecsConfig.smile(objectMapper).readTree(smile));
+  }
+
+  @Test
+  void write_ShouldUseErrorStatusAndJsonContentType() {
+    // Arrange
+    ErrorResponse conflict = new ErrorResponse("USER_EXISTS", "El usuario ya existe", 409);
+
+    // Act & Assert
+    StepVerifier.create(writer.write(conflict, List.of(MediaType.ALL)))
+            .assertNext(response -> {
+              assertEquals(409, response.statusCode().value());
+              assertEquals(MediaType.APPLICATION_JSON, response.headers().getContentType());
+              assertSame(writer.body(conflict, MediaType.APPLICATION_JSON), ((EntityResponse<?>) response).entity());
+            })
+            .verifyComplete();
+  }
+
+  @Test
+  void write_ShouldFollowAcceptForBinaryClients() {
+    // Arrange
+    ErrorResponse conflict = new ErrorResponse("USER_EXISTS", "El usuario ya existe", 409);
+
+    // Act & Assert
+    StepVerifier.create(writer.write(conflict, List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)))
+            .assertNext(response -> {
+              assertEquals(409, response.statusCode().value());
+              assertEquals(MediaType.APPLICATION_CBOR, response.headers().getContentType());
+              assertSame(writer.body(conflict, MediaType.APPLICATION_CBOR), ((EntityResponse<?>) response).entity());
+            })
+            .verifyComplete();
+  }
+}
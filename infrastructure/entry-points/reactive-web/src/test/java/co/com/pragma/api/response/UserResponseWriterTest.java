@@ -0,0 +1,73 @@
+package co.com.pragma.api.response;
+
+import co.com.pragma.api.config.BinaryCodecsConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserResponseWriterTest {
+
+  private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final UserResponseWriter writer = new UserResponseWriter(objectMapper);
+  private final UserResponse user = new UserResponse(1L, "Maria", "Lopez", LocalDate.of(1990, 1, 1),
+          "Calle 1", "300", "maria@example.com", new BigDecimal("2500000"), new BigDecimal("123"));
+
+  @Test
+  void parseFields_ShouldTrimAndRejectUnknownNames() {
+    // Act & Assert
+    assertEquals(Set.of("nombres", "salarioBase"), writer.parseFields(" nombres, salarioBase ,"));
+    assertEquals(Set.of(), writer.parseFields(null));
+    assertEquals(Set.of(), writer.parseFields(String.join(",", UserResponse.FIELDS)));
+    assertNull(writer.parseFields("nombres,password"));
+  }
+
+  @Test
+  void write_ShouldKeepOnlySelectedFieldsInJson() {
+    // Act
+    String json = new String(writer.write(user, Set.of("correoElectronico"), MediaType.APPLICATION_JSON), StandardCharsets.UTF_8);
+
+    // Assert
+    assertEquals("{\"correoElectronico\":\"maria@example.com\"}", json);
+  }
+
+  @Test
+  void write_ShouldProduceSmallerBinaryPayloadsThatRoundTrip() throws Exception {
+    // Act
+    byte[] json = writer.write(user, Set.of(), MediaType.APPLICATION_JSON);
+    byte[] cbor = writer.write(user, Set.of(), MediaType.APPLICATION_CBOR);
+    byte[] smile = writer.write(user, Set.of(), SMILE);
+
+    // Assert
+    assertTrue(cbor.length < json.length);
+    assertTrue(smile.length < json.length);
+    JsonNode decoded = BinaryCodecsConfig.cbor(objectMapper).readTree(cbor);
+    assertEquals("maria@example.com", decoded.get("correoElectronico").asText());
+    assertFalse(decoded.has("password"));
+    assertEquals(user, BinaryCodecsConfig.smile(objectMapper).readValue(smile, UserResponse.class));
+  }
+
+  @Test
+  void negotiate_ShouldFollowAcceptOrderAndDefaultToJson() {
+    // Act & Assert
+    assertEquals(MediaType.APPLICATION_CBOR, writer.negotiate(List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)));
+    assertEquals(SMILE, writer.negotiate(List.of(SMILE)));
+    assertEquals(MediaType.APPLICATION_JSON, writer.negotiate(List.of(MediaType.ALL)));
+    assertEquals(MediaType.APPLICATION_JSON, writer.negotiate(List.of(MediaType.valueOf("application/x-protobuf"))));
+    assertEquals(MediaType.APPLICATION_JSON, writer.negotiate(List.of()));
+  }
+}
@@ -0,0 +1,82 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.api.config.LoginThrottleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginThrottleTest {
+
+  private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+  private LoginThrottle throttle(boolean enabled) {
+    LoginThrottleProperties properties = new LoginThrottleProperties(
+            enabled, 3, Duration.ofSeconds(10), 5, Duration.ofSeconds(1), 100L, Duration.ofMinutes(1));
+    return new LoginThrottle(properties, now::get);
+  }
+
+  @Test
+  void acquire_ShouldAllowBurstThenRejectPerEmail() {
+    // Arrange
+    LoginThrottle throttle = throttle(true);
+
+    // Act & Assert
+    for (int i = 0; i < 3; i++) {
+      assertEquals(Duration.ZERO, throttle.acquire("user@example.com", null));
+    }
+    Duration wait = throttle.acquire("USER@example.com ", null);
+    assertEquals(Duration.ofSeconds(10), wait);
+    assertEquals(Duration.ZERO, throttle.acquire("other@example.com", null));
+  }
+
+  @Test
+  void acquire_ShouldRefillOverTime() {
+    // Arrange
+    LoginThrottle throttle = throttle(true);
+    for (int i = 0; i < 3; i++) {
+      throttle.acquire("user@example.com", null);
+    }
+
+    // Act
+    now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    // Assert
+    assertEquals(Duration.ZERO, throttle.acquire("user@example.com", null));
+    assertTrue(throttle.acquire("user@example.com", null).isPositive());
+  }
+
+  @Test
+  void acquire_ShouldRejectByIpAcrossDifferentEmails() {
+    // Arrange
+    LoginThrottle throttle = throttle(true);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    throttle.bindTo(registry);
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      assertEquals(Duration.ZERO, throttle.acquire("user" + i + "@example.com", "10.0.0.1"));
+    }
+    Duration wait = throttle.acquire("fresh@example.com", "10.0.0.1");
+
+    // Assert
+    assertEquals(Duration.ofSeconds(1), wait);
+    assertEquals(Duration.ZERO, throttle.acquire("fresh@example.com", "10.0.0.2"));
+    assertEquals(1.0, registry.get("auth.login-throttle.rejected").tag("key", "ip").functionCounter().count());
+  }
+
+  @Test
+  void acquire_WhenDisabled_ShouldNeverReject() {
+    // Arrange
+    LoginThrottle throttle = throttle(false);
+
+    // Act & Assert
+    for (int i = 0; i < 10; i++) {
+      assertEquals(Duration.ZERO, throttle.acquire("user@example.com", "10.0.0.1"));
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package co.com.pragma.api.security;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrustedProxyForwardedHandlerTest {
+
+  private static String clientSeenBehind(TrustedProxyForwardedHandler handler, String forwardedFor) {
+    DisposableServer server = HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .forwarded(handler)
+            .handle((request, response) -> response.sendString(
+                    Mono.just(request.remoteAddress().getAddress().getHostAddress())))
+            .bindNow();
+    try {
+      return HttpClient.create()
+              .headers(headers -> headers.set(TrustedProxyForwardedHandler.X_FORWARDED_FOR, forwardedFor))
+              .get()
+              .uri("http://127.0.0.1:" + server.port() + "/")
+              .responseContent()
+              .aggregate()
+              .asString()
+              .block();
+    } finally {
+      server.disposeNow();
+    }
+  }
+
+  @Test
+  void usesForwardedClientWhenPeerIsTrustedProxy() {
+    // Arrange
+    TrustedProxyForwardedHandler handler = new TrustedProxyForwardedHandler(List.of("127.0.0.0/8", "10.0.0.0/8"));
+
+    // Act
+    String client = clientSeenBehind(handler, "198.51.100.1, 203.0.113.7, 10.1.2.3");
+
+    // Assert
+    assertEquals("203.0.113.7", client);
+  }
+
+  @Test
+  void ignoresForwardedHeaderFromUntrustedPeer() {
+    // Arrange
+    TrustedProxyForwardedHandler handler = new TrustedProxyForwardedHandler(List.of("10.0.0.0/8"));
+
+    // Act
+    String client = clientSeenBehind(handler, "203.0.113.7");
+
+    // Assert
+    assertEquals("127.0.0.1", client);
+  }
+
+  @Test
+  void stopsAtMalformedHop() {
+    // Arrange
+    TrustedProxyForwardedHandler handler = new TrustedProxyForwardedHandler(List.of("127.0.0.1"));
+
+    // Act
+    String client = clientSeenBehind(handler, "203.0.113.7, no-es-ip, 127.0.0.1");
+
+    // Assert
+    assertEquals("127.0.0.1", client);
+  }
+
+  @Test
+  void matchesCidrRangesAndRejectsInvalidEntries() throws Exception {
+    // Arrange
+    TrustedProxyForwardedHandler handler = new TrustedProxyForwardedHandler(List.of("192.168.4.0/22", "2001:db8::/32", ""));
+
+    // Act & Assert
+    assertTrue(handler.isTrusted(InetAddress.getByName("192.168.7.255")));
+    assertFalse(handler.isTrusted(InetAddress.getByName("192.168.8.1")));
+    assertTrue(handler.isTrusted(InetAddress.getByName("2001:db8::1")));
+    assertThrows(IllegalStateException.class, () -> new TrustedProxyForwardedHandler(List.of("proxy.local")));
+    assertThrows(IllegalStateException.class, () -> new TrustedProxyForwardedHandler(List.of("10.0.0.0/33")));
+  }
+}
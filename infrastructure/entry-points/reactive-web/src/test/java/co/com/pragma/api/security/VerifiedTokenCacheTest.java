@@ -0,0 +1,131 @@
+package co.com.pragma.api.security;
+
+import co.com.pragma.api.config.TokenCacheProperties;
+import co.com.pragma.model.user.user.TokenPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedTokenCacheTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  private Function<String, Optional<TokenPrincipal>> verifier(Optional<TokenPrincipal> result) {
+    return token -> {
+      verifications.incrementAndGet();
+      return result;
+    };
+  }
+
+  @Test
+  void verifiesEachTokenOnlyOnce() {
+    // Arrange
+    VerifiedTokenCache cache = new VerifiedTokenCache(new TokenCacheProperties(true, 100L, Duration.ofHours(1)), CLOCK);
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), NOW.plusSeconds(600));
+
+    // Act
+    Optional<TokenPrincipal> first = cache.get("token", verifier(Optional.of(principal)));
+    Optional<TokenPrincipal> second = cache.get("token", verifier(Optional.of(principal)));
+
+    // Assert
+    assertEquals(Optional.of(principal), first);
+    assertEquals(Optional.of(principal), second);
+    assertEquals(1, verifications.get());
+  }
+
+  @Test
+  void doesNotCacheInvalidOrExpiredTokens() {
+    // Arrange
+    VerifiedTokenCache cache = new VerifiedTokenCache(new TokenCacheProperties(true, 100L, Duration.ofHours(1)), CLOCK);
+    TokenPrincipal expired = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), NOW.minusSeconds(1));
+
+    // Act
+    cache.get("invalid", verifier(Optional.empty()));
+    cache.get("invalid", verifier(Optional.empty()));
+    Optional<TokenPrincipal> result = cache.get("expired", verifier(Optional.of(expired)));
+
+    // Assert
+    assertTrue(result.isEmpty());
+    assertEquals(3, verifications.get());
+    assertEquals(0, cache.nativeCache().estimatedSize());
+  }
+
+  @Test
+  void nonAsciiTokensDoNotShareAnEntry() {
+    // Arrange
+    VerifiedTokenCache cache = new VerifiedTokenCache(new TokenCacheProperties(true, 100L, Duration.ofHours(1)), CLOCK);
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), NOW.plusSeconds(600));
+
+    // Act
+    cache.get("token-\u00e9", verifier(Optional.of(principal)));
+    Optional<TokenPrincipal> other = cache.get("token-\u00f1", verifier(Optional.empty()));
+
+    // Assert
+    assertNotEquals(VerifiedTokenCache.digest("token-\u00e9"), VerifiedTokenCache.digest("token-\u00f1"));
+    assertTrue(other.isEmpty());
+    assertEquals(2, verifications.get());
+  }
+
+  @Test
+  void entryLivesNoLongerThanTokenExpiry() {
+    // Arrange
+    VerifiedTokenCache cache = new VerifiedTokenCache(new TokenCacheProperties(true, 100L, Duration.ofHours(1)), CLOCK);
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), NOW.plusSeconds(30));
+
+    // Act
+    cache.get("token", verifier(Optional.of(principal)));
+
+    // Assert
+    Duration ttl = cache.nativeCache().policy().expireVariably().orElseThrow()
+            .getExpiresAfter(VerifiedTokenCache.digest("token")).orElseThrow();
+    assertTrue(ttl.compareTo(Duration.ofSeconds(30)) <= 0);
+  }
+
+  @Test
+  void invalidateForcesVerification() {
+    // Arrange
+    VerifiedTokenCache cache = new VerifiedTokenCache(new TokenCacheProperties(true, 100L, Duration.ofHours(1)), CLOCK);
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), NOW.plusSeconds(600));
+    cache.get("token", verifier(Optional.of(principal)));
+
+    // Act
+    cache.invalidate("token");
+    cache.get("token", verifier(Optional.of(principal)));
+
+    // Assert
+    assertEquals(2, verifications.get());
+  }
+
+  @Test
+  void disabledCacheAlwaysVerifiesAndExposesMetrics() {
+    // Arrange
+    VerifiedTokenCache cache = new VerifiedTokenCache(new TokenCacheProperties(false, null, null), CLOCK);
+    TokenPrincipal principal = new TokenPrincipal("1", "jti-1", List.of("ADMIN"), NOW.plusSeconds(600));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // Act
+    cache.bindTo(registry);
+    cache.get("token", verifier(Optional.of(principal)));
+    cache.get("token", verifier(Optional.of(principal)));
+
+    // Assert
+    assertEquals(2, verifications.get());
+    assertNotNull(registry.find("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).meter());
+  }
+}
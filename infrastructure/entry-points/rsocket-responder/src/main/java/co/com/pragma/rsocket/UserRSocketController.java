@@ -0,0 +1,74 @@
+package co.com.pragma.rsocket;
+
+import co.com.pragma.model.user.user.UserBatchRequest;
+import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
+import co.com.pragma.rsocket.config.RSocketBatchProperties;
+import co.com.pragma.rsocket.dto.TokenValidation;
+import co.com.pragma.rsocket.dto.UserMessage;
+import co.com.pragma.rsocket.utils.Constants;
+import co.com.pragma.usecase.exceptions.BusinessException;
+import co.com.pragma.usecase.user.UserUseCase;
+import io.rsocket.exceptions.ApplicationErrorException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Internal lookups over a single multiplexed RSocket connection: request-response for one
+ * user or one token, request-stream for batches. Business errors reach the caller as an
+ * application error whose message is the error code. Callers must authenticate, see
+ * {@link co.com.pragma.rsocket.security.RSocketSecurityConfig}.
+ */
+@Log
+@Controller
+@RequiredArgsConstructor
+public class UserRSocketController {
+
+  private final UserUseCase userUseCase;
+  private final JwtProvider jwtProvider;
+  private final TokenRevocationGateway tokenRevocationGateway;
+  private final RSocketBatchProperties batchProperties;
+
+  @MessageMapping(Constants.USER_BY_DOCUMENT_ROUTE)
+  public Mono<UserMessage> findByDocumentNumber(BigDecimal documentNumber) {
+    log.fine(() -> Constants.LOG_FIND_USER + documentNumber);
+    return userUseCase.findByDocumentNumber(documentNumber)
+            .map(UserMessage::from)
+            .onErrorMap(BusinessException.class, UserRSocketController::toApplicationError);
+  }
+
+  @MessageMapping(Constants.USERS_BATCH_ROUTE)
+  public Flux<UserMessage> findUsersInBatch(UserBatchRequest batch) {
+    int keys = sizeOf(batch.getDocumentNumbers()) + sizeOf(batch.getCorreosElectronicos());
+    log.fine(() -> Constants.LOG_BATCH_USERS + keys);
+    if (keys == 0 || keys > batchProperties.maxBatchSize()) {
+      return Flux.error(new ApplicationErrorException(Constants.INVALID_BATCH_SIZE_CODE));
+    }
+    return userUseCase.findUsersInBatch(batch.getDocumentNumbers(), batch.getCorreosElectronicos())
+            .map(UserMessage::from)
+            .onErrorMap(BusinessException.class, UserRSocketController::toApplicationError);
+  }
+
+  @MessageMapping(Constants.TOKEN_VALIDATION_ROUTE)
+  public Mono<TokenValidation> validateToken(String token) {
+    return Mono.fromSupplier(() -> jwtProvider.parseToken(token)
+            .filter(principal -> !tokenRevocationGateway.isRevoked(principal.tokenId(), principal.expiresAt()))
+            .map(TokenValidation::of)
+            .orElse(TokenValidation.INVALID));
+  }
+
+  private static int sizeOf(List<?> values) {
+    return values != null ? values.size() : 0;
+  }
+
+  private static Throwable toApplicationError(BusinessException exception) {
+    return new ApplicationErrorException(exception.getErrorResponse().getCode());
+  }
+}
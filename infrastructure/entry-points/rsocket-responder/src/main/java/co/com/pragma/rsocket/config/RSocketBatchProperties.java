@@ -0,0 +1,17 @@
+package co.com.pragma.rsocket.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Reads the same {@code users.listing.max-batch-size} as the HTTP batch endpoint, so both entry
+ * points accept the same number of keys per batch.
+ */
+@ConfigurationProperties(prefix = "users.listing")
+public record RSocketBatchProperties(Integer maxBatchSize) {
+
+    public static final int MAX_BATCH_SIZE = 2000;
+
+    public RSocketBatchProperties {
+        maxBatchSize = maxBatchSize != null ? maxBatchSize : MAX_BATCH_SIZE;
+    }
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.rsocket.dto;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TokenValidation(boolean valid, String subject, List<String> roles, Instant expiresAt) {
+
+  public static final TokenValidation INVALID = new TokenValidation(false, null, List.of(), null);
+
+  public static TokenValidation of(TokenPrincipal principal) {
+    return new TokenValidation(true, principal.subject(), principal.roles(), principal.expiresAt());
+  }
+}
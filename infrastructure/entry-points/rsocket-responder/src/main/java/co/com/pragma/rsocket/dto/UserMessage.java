@@ -0,0 +1,31 @@
+package co.com.pragma.rsocket.dto;
+
+import co.com.pragma.model.user.user.UserParameters;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record UserMessage(
+        Long id,
+        String nombres,
+        String apellidos,
+        LocalDate fechaNacimiento,
+        String direccion,
+        String telefono,
+        String correoElectronico,
+        BigDecimal salarioBase,
+        BigDecimal numeroDocumento) {
+
+  public static UserMessage from(UserParameters user) {
+    return new UserMessage(
+            user.getId(),
+            user.getNombres(),
+            user.getApellidos(),
+            user.getFechaNacimiento(),
+            user.getDireccion(),
+            user.getTelefono(),
+            user.getCorreoElectronico(),
+            user.getSalarioBase(),
+            user.getNumeroDocumento());
+  }
+}
@@ -0,0 +1,76 @@
+package co.com.pragma.rsocket.security;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
+import co.com.pragma.rsocket.utils.Constants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.java.Log;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.rsocket.EnableRSocketSecurity;
+import org.springframework.security.config.annotation.rsocket.RSocketSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.rsocket.core.PayloadSocketAcceptorInterceptor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Bearer JWT authentication for the RSocket responder. The token may be sent once in the setup
+ * frame, covering every request on the connection, or in the metadata of each request using the
+ * {@code message/x.rsocket.authentication.v0} extension. Routes follow the same roles as their
+ * HTTP counterparts.
+ */
+@Log
+@Configuration
+@EnableRSocketSecurity
+@RequiredArgsConstructor
+public class RSocketSecurityConfig {
+
+  private final JwtProvider jwtProvider;
+  private final TokenRevocationGateway tokenRevocationGateway;
+
+  @Bean
+  public PayloadSocketAcceptorInterceptor rsocketSecurityInterceptor(RSocketSecurity rsocket) {
+    return rsocket
+            .authorizePayload(authorize -> authorize
+                    .route(Constants.USER_BY_DOCUMENT_ROUTE)
+                    .hasAnyRole(Constants.ROLE_ADMIN, Constants.ROLE_USER, Constants.ROLE_CLIENT)
+                    .route(Constants.USERS_BATCH_ROUTE).hasAnyRole(Constants.ROLE_ADMIN, Constants.ROLE_ADVISOR)
+                    .anyRequest().authenticated()
+                    .anyExchange().permitAll())
+            .jwt(jwt -> jwt.authenticationManager(bearerAuthenticationManager()))
+            .build();
+  }
+
+  ReactiveAuthenticationManager bearerAuthenticationManager() {
+    return authentication -> Mono.justOrEmpty(authentication)
+            .ofType(BearerTokenAuthenticationToken.class)
+            .flatMap(bearer -> Mono.justOrEmpty(jwtProvider.parseToken(bearer.getToken())))
+            .filter(principal -> {
+              boolean revoked = tokenRevocationGateway.isRevoked(principal.tokenId(), principal.expiresAt());
+              if (revoked) {
+                log.info(Constants.TOKEN_REVOKED);
+              }
+              return !revoked;
+            })
+            .map(RSocketSecurityConfig::toAuthentication)
+            .switchIfEmpty(Mono.error(() -> new BadCredentialsException(Constants.TOKEN_ERROR)));
+  }
+
+  private static Authentication toAuthentication(TokenPrincipal principal) {
+    List<SimpleGrantedAuthority> authorities = principal.roles().stream()
+            .map(role -> new SimpleGrantedAuthority(Constants.ROLE_PREFIX + role.trim()))
+            .toList();
+    UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(principal.subject(), null, authorities);
+    authentication.setDetails(principal);
+    return authentication;
+  }
+}
@@ -0,0 +1,23 @@
+package co.com.pragma.rsocket.utils;
+
+public class Constants {
+  // Rutas RSocket
+  public static final String USER_BY_DOCUMENT_ROUTE = "usuarios.documento";
+  public static final String USERS_BATCH_ROUTE = "usuarios.lote";
+  public static final String TOKEN_VALIDATION_ROUTE = "token.validar";
+
+  public static final String LOG_FIND_USER = "RSocket: búsqueda de usuario por número de documento: ";
+  public static final String LOG_BATCH_USERS = "RSocket: búsqueda de usuarios en lote, claves: ";
+
+  // Seguridad: mismos roles que las rutas HTTP equivalentes
+  public static final String ROLE_ADMIN = "ADMIN";
+  public static final String ROLE_ADVISOR = "ASESOR";
+  public static final String ROLE_USER = "USER";
+  public static final String ROLE_CLIENT = "CLIENTE";
+  public static final String ROLE_PREFIX = "ROLE_";
+  public static final String TOKEN_ERROR = "Token inválido";
+  public static final String TOKEN_REVOKED = "Token revocado";
+
+  // Mismo código de error que el lote HTTP
+  public static final String INVALID_BATCH_SIZE_CODE = "INVALID_BATCH_SIZE";
+}
@@ -0,0 +1,209 @@
+package co.com.pragma.rsocket;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.UserBatchRequest;
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
+import co.com.pragma.rsocket.config.RSocketBatchProperties;
+import co.com.pragma.rsocket.dto.TokenValidation;
+import co.com.pragma.rsocket.dto.UserMessage;
+import co.com.pragma.rsocket.utils.Constants;
+import co.com.pragma.usecase.exceptions.BusinessException;
+import co.com.pragma.usecase.exceptions.ErrorResponse;
+import co.com.pragma.usecase.exceptions.ExceptionType;
+import co.com.pragma.usecase.user.UserUseCase;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserRSocketControllerTest {
+
+  private UserUseCase userUseCase;
+  private JwtProvider jwtProvider;
+  private TokenRevocationGateway tokenRevocationGateway;
+  private CloseableChannel server;
+  private RSocketRequester requester;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    userUseCase = mock(UserUseCase.class);
+    jwtProvider = mock(JwtProvider.class);
+    tokenRevocationGateway = mock(TokenRevocationGateway.class);
+
+    RSocketStrategies strategies = RSocketStrategies.builder()
+            .encoders(encoders -> encoders.add(new Jackson2CborEncoder()))
+            .decoders(decoders -> decoders.add(new Jackson2CborDecoder()))
+            .build();
+
+    RSocketMessageHandler messageHandler = new RSocketMessageHandler();
+    messageHandler.setRSocketStrategies(strategies);
+    messageHandler.setHandlers(List.of(new UserRSocketController(userUseCase, jwtProvider, tokenRevocationGateway,
+            new RSocketBatchProperties(2))));
+    messageHandler.afterPropertiesSet();
+
+    server = RSocketServer.create(messageHandler.responder())
+            .bind(TcpServerTransport.create("localhost", 0))
+            .block();
+
+    requester = RSocketRequester.builder()
+            .rsocketStrategies(strategies)
+            .dataMimeType(MimeTypeUtils.parseMimeType("application/cbor"))
+            .tcp("localhost", server.address().getPort());
+  }
+
+  @AfterEach
+  void tearDown() {
+    requester.dispose();
+    server.dispose();
+  }
+
+  @Test
+  void findByDocumentNumber_shouldReturnUser_overRequestResponse() {
+    // Arrange
+    BigDecimal documentNumber = BigDecimal.valueOf(123456789);
+    when(userUseCase.findByDocumentNumber(documentNumber))
+            .thenReturn(Mono.just(user(1L, documentNumber, "juan@example.com")));
+
+    // Act
+    Mono<UserMessage> result = requester.route(Constants.USER_BY_DOCUMENT_ROUTE)
+            .data(documentNumber)
+            .retrieveMono(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(result)
+            .expectNextMatches(user -> user.id() == 1L && "juan@example.com".equals(user.correoElectronico()))
+            .verifyComplete();
+  }
+
+  @Test
+  void findByDocumentNumber_shouldReturnErrorCode_whenUserNotFound() {
+    // Arrange
+    BigDecimal documentNumber = BigDecimal.valueOf(999);
+    when(userUseCase.findByDocumentNumber(documentNumber)).thenReturn(Mono.error(
+            new BusinessException(ExceptionType.NOT_FOUND, new ErrorResponse("USER_NOT_FOUND", "No existe", 404))));
+
+    // Act
+    Mono<UserMessage> result = requester.route(Constants.USER_BY_DOCUMENT_ROUTE)
+            .data(documentNumber)
+            .retrieveMono(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(result)
+            .expectErrorMatches(error -> error instanceof ApplicationErrorException
+                    && "USER_NOT_FOUND".equals(error.getMessage()))
+            .verify();
+  }
+
+  @Test
+  void findUsersInBatch_shouldStreamUsers_overRequestStream() {
+    // Arrange
+    UserBatchRequest batch = new UserBatchRequest();
+    batch.setDocumentNumbers(List.of(BigDecimal.ONE, BigDecimal.TEN));
+    batch.setCorreosElectronicos(List.of());
+    when(userUseCase.findUsersInBatch(anyList(), anyList())).thenReturn(Flux.just(
+            user(1L, BigDecimal.ONE, "uno@example.com"),
+            user(2L, BigDecimal.TEN, "diez@example.com")));
+
+    // Act
+    Flux<UserMessage> result = requester.route(Constants.USERS_BATCH_ROUTE)
+            .data(batch)
+            .retrieveFlux(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(result.map(UserMessage::id))
+            .expectNext(1L, 2L)
+            .verifyComplete();
+  }
+
+  @Test
+  void findUsersInBatch_shouldRejectBatchAboveLimit_withoutQuerying() {
+    // Arrange
+    UserBatchRequest batch = new UserBatchRequest();
+    batch.setDocumentNumbers(List.of(BigDecimal.ONE, BigDecimal.TEN));
+    batch.setCorreosElectronicos(List.of("uno@example.com"));
+
+    // Act
+    Flux<UserMessage> result = requester.route(Constants.USERS_BATCH_ROUTE)
+            .data(batch)
+            .retrieveFlux(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(result)
+            .expectErrorMatches(error -> error instanceof ApplicationErrorException
+                    && Constants.INVALID_BATCH_SIZE_CODE.equals(error.getMessage()))
+            .verify();
+    verifyNoInteractions(userUseCase);
+  }
+
+  @Test
+  void validateToken_shouldReturnPrincipal_whenTokenIsValidAndNotRevoked() {
+    // Arrange
+    Instant expiresAt = Instant.parse("2030-01-01T00:00:00Z");
+    when(jwtProvider.parseToken("token"))
+            .thenReturn(Optional.of(new TokenPrincipal("1", "jti", List.of("ADMIN"), expiresAt)));
+    when(tokenRevocationGateway.isRevoked("jti", expiresAt)).thenReturn(false);
+
+    // Act
+    Mono<TokenValidation> result = requester.route(Constants.TOKEN_VALIDATION_ROUTE)
+            .data("token")
+            .retrieveMono(TokenValidation.class);
+
+    // Assert
+    StepVerifier.create(result)
+            .expectNextMatches(validation -> validation.valid()
+                    && "1".equals(validation.subject())
+                    && validation.roles().equals(List.of("ADMIN")))
+            .verifyComplete();
+  }
+
+  @Test
+  void validateToken_shouldReturnInvalid_whenTokenIsRevoked() {
+    // Arrange
+    Instant expiresAt = Instant.parse("2030-01-01T00:00:00Z");
+    when(jwtProvider.parseToken("token"))
+            .thenReturn(Optional.of(new TokenPrincipal("1", "jti", List.of("ADMIN"), expiresAt)));
+    when(tokenRevocationGateway.isRevoked("jti", expiresAt)).thenReturn(true);
+
+    // Act
+    Mono<TokenValidation> result = requester.route(Constants.TOKEN_VALIDATION_ROUTE)
+            .data("token")
+            .retrieveMono(TokenValidation.class);
+
+    // Assert
+    StepVerifier.create(result)
+            .expectNextMatches(validation -> !validation.valid())
+            .verifyComplete();
+  }
+
+  private static UserParameters user(Long id, BigDecimal documentNumber, String email) {
+    return UserParameters.builder()
+            .id(id)
+            .numeroDocumento(documentNumber)
+            .correoElectronico(email)
+            .build();
+  }
+}
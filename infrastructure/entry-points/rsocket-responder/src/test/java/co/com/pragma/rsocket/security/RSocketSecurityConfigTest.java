@@ -0,0 +1,184 @@
+package co.com.pragma.rsocket.security;
+
+import co.com.pragma.model.user.user.TokenPrincipal;
+import co.com.pragma.model.user.user.UserBatchRequest;
+import co.com.pragma.model.user.user.UserParameters;
+import co.com.pragma.model.user.user.gateways.JwtProvider;
+import co.com.pragma.model.user.user.gateways.TokenRevocationGateway;
+import co.com.pragma.rsocket.UserRSocketController;
+import co.com.pragma.rsocket.config.RSocketBatchProperties;
+import co.com.pragma.rsocket.dto.UserMessage;
+import co.com.pragma.rsocket.utils.Constants;
+import co.com.pragma.usecase.user.UserUseCase;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import org.springframework.security.rsocket.core.PayloadSocketAcceptorInterceptor;
+import org.springframework.security.rsocket.metadata.BearerTokenAuthenticationEncoder;
+import org.springframework.security.rsocket.metadata.BearerTokenMetadata;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RSocketSecurityConfigTest {
+
+  private static final MimeType AUTHENTICATION =
+          MimeTypeUtils.parseMimeType(WellKnownMimeType.MESSAGE_RSOCKET_AUTHENTICATION.getString());
+  private static final Instant EXPIRES_AT = Instant.parse("2030-01-01T00:00:00Z");
+
+  private UserUseCase userUseCase;
+  private TokenRevocationGateway tokenRevocationGateway;
+  private AnnotationConfigApplicationContext context;
+  private RSocketStrategies strategies;
+  private CloseableChannel server;
+  private final List<RSocketRequester> requesters = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    userUseCase = mock(UserUseCase.class);
+    JwtProvider jwtProvider = mock(JwtProvider.class);
+    tokenRevocationGateway = mock(TokenRevocationGateway.class);
+    when(jwtProvider.parseToken(anyString())).thenReturn(Optional.empty());
+    when(jwtProvider.parseToken("asesor"))
+            .thenReturn(Optional.of(new TokenPrincipal("1", "jti-asesor", List.of("ASESOR"), EXPIRES_AT)));
+    when(jwtProvider.parseToken("revocado"))
+            .thenReturn(Optional.of(new TokenPrincipal("2", "jti-revocado", List.of("ADMIN"), EXPIRES_AT)));
+    when(tokenRevocationGateway.isRevoked("jti-revocado", EXPIRES_AT)).thenReturn(true);
+    when(userUseCase.findUsersInBatch(anyList(), anyList()))
+            .thenReturn(Flux.just(UserParameters.builder().id(1L).build()));
+
+    strategies = RSocketStrategies.builder()
+            .encoders(encoders -> {
+              encoders.add(new Jackson2CborEncoder());
+              encoders.add(new BearerTokenAuthenticationEncoder());
+            })
+            .decoders(decoders -> decoders.add(new Jackson2CborDecoder()))
+            .build();
+    RSocketMessageHandler messageHandler = new RSocketMessageHandler();
+    messageHandler.setRSocketStrategies(strategies);
+    messageHandler.setHandlers(List.of(new UserRSocketController(userUseCase, jwtProvider, tokenRevocationGateway,
+            new RSocketBatchProperties(null))));
+
+    context = new AnnotationConfigApplicationContext();
+    context.registerBean(JwtProvider.class, () -> jwtProvider);
+    context.registerBean(TokenRevocationGateway.class, () -> tokenRevocationGateway);
+    context.registerBean(RSocketMessageHandler.class, () -> messageHandler);
+    context.register(RSocketSecurityConfig.class);
+    context.refresh();
+
+    PayloadSocketAcceptorInterceptor interceptor = context.getBean(PayloadSocketAcceptorInterceptor.class);
+    server = RSocketServer.create(messageHandler.responder())
+            .interceptors(registry -> registry.forSocketAcceptor(interceptor))
+            .bind(TcpServerTransport.create("localhost", 0))
+            .block();
+  }
+
+  @AfterEach
+  void tearDown() {
+    requesters.forEach(RSocketRequester::dispose);
+    server.dispose();
+    context.close();
+  }
+
+  private RSocketRequester requester(String setupToken) {
+    RSocketRequester.Builder builder = RSocketRequester.builder()
+            .rsocketStrategies(strategies)
+            .dataMimeType(MimeTypeUtils.parseMimeType("application/cbor"));
+    if (setupToken != null) {
+      builder.setupMetadata(new BearerTokenMetadata(setupToken), AUTHENTICATION);
+    }
+    RSocketRequester requester = builder.tcp("localhost", server.address().getPort());
+    requesters.add(requester);
+    return requester;
+  }
+
+  private static UserBatchRequest batch() {
+    UserBatchRequest batch = new UserBatchRequest();
+    batch.setDocumentNumbers(List.of(BigDecimal.ONE));
+    batch.setCorreosElectronicos(List.of());
+    return batch;
+  }
+
+  @Test
+  void rejectsRequestsWithoutToken() {
+    // Act
+    Mono<UserMessage> result = requester(null).route(Constants.USER_BY_DOCUMENT_ROUTE)
+            .data(BigDecimal.ONE)
+            .retrieveMono(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(result).expectError().verify();
+    verifyNoInteractions(userUseCase);
+  }
+
+  @Test
+  void acceptsBearerTokenInRequestMetadata() {
+    // Act
+    Flux<UserMessage> result = requester(null).route(Constants.USERS_BATCH_ROUTE)
+            .metadata(new BearerTokenMetadata("asesor"), AUTHENTICATION)
+            .data(batch())
+            .retrieveFlux(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(result.map(UserMessage::id)).expectNext(1L).verifyComplete();
+  }
+
+  @Test
+  void appliesRouteRolesToTheSetupToken() {
+    // Arrange
+    RSocketRequester asesor = requester("asesor");
+
+    // Act
+    Flux<UserMessage> allowed = asesor.route(Constants.USERS_BATCH_ROUTE)
+            .data(batch())
+            .retrieveFlux(UserMessage.class);
+    Mono<UserMessage> denied = asesor.route(Constants.USER_BY_DOCUMENT_ROUTE)
+            .data(BigDecimal.ONE)
+            .retrieveMono(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(allowed.map(UserMessage::id)).expectNext(1L).verifyComplete();
+    StepVerifier.create(denied).expectError().verify();
+  }
+
+  @Test
+  void rejectsRevokedAndInvalidTokens() {
+    // Act
+    Flux<UserMessage> revoked = requester(null).route(Constants.USERS_BATCH_ROUTE)
+            .metadata(new BearerTokenMetadata("revocado"), AUTHENTICATION)
+            .data(batch())
+            .retrieveFlux(UserMessage.class);
+    Flux<UserMessage> invalid = requester("no-valido").route(Constants.USERS_BATCH_ROUTE)
+            .data(batch())
+            .retrieveFlux(UserMessage.class);
+
+    // Assert
+    StepVerifier.create(revoked).expectError().verify();
+    StepVerifier.create(invalid).expectError().verify();
+    verifyNoInteractions(userUseCase);
+  }
+}